@@ -20,7 +20,6 @@ import io.microsphere.nacos.client.common.discovery.InstanceClient;
 import io.microsphere.nacos.client.common.discovery.ServiceClient;
 import io.microsphere.nacos.client.common.discovery.model.Instance;
 import io.microsphere.nacos.client.common.discovery.model.InstancesList;
-import io.microsphere.nacos.client.common.model.Page;
 import io.microsphere.nacos.client.spring.boot.NacosClientProperties;
 import io.microsphere.nacos.client.transport.OpenApiHttpClient;
 import io.microsphere.nacos.client.v1.discovery.OpenApiInstanceClient;
@@ -28,9 +27,9 @@ import io.microsphere.nacos.client.v1.discovery.OpenApiServiceClient;
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.discovery.DiscoveryClient;
 
-import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The {@link DiscoveryClient} class for Nacos Discovery
@@ -72,19 +71,8 @@ public class NacosDiscoveryClient implements DiscoveryClient {
 
     @Override
     public List<String> getServices() {
-        List<String> allServiceNames = new LinkedList<>();
-
-        int pageNumber = 0;
-        Page<String> serviceNames = serviceClient.getServiceNames(namespaceId, pageNumber);
-
-        allServiceNames.addAll(serviceNames.getElements());
-
-        while (serviceNames.hasNext()) {
-            pageNumber = serviceNames.getPageSize();
-            serviceNames = serviceClient.getServiceNames(namespaceId, pageNumber);
-            allServiceNames.addAll(serviceNames.getElements());
+        try (Stream<String> serviceNames = serviceClient.streamServiceNames(namespaceId, null)) {
+            return serviceNames.collect(Collectors.toList());
         }
-
-        return allServiceNames;
     }
 }
@@ -20,15 +20,23 @@ import java.io.Serializable;
 import java.util.Objects;
 
 import static io.microsphere.nacos.client.constants.Constants.APPLICATION_NAME;
+import static io.microsphere.nacos.client.constants.Constants.CONFIG_DISCOVERY_INTERVAL;
+import static io.microsphere.nacos.client.constants.Constants.CONFIG_FAILOVER_ENABLED;
+import static io.microsphere.nacos.client.constants.Constants.CONFIG_SNAPSHOT_DIRECTORY;
 import static io.microsphere.nacos.client.constants.Constants.CONNECTION_TIMEOUT;
 import static io.microsphere.nacos.client.constants.Constants.DEFAULT_FETCHING_CONFIG_THREAD_NAME;
 import static io.microsphere.nacos.client.constants.Constants.DEFAULT_LISTENING_CONFIG_THREAD_NAME;
 import static io.microsphere.nacos.client.constants.Constants.DEFAULT_PUBLISHING_CONFIG_EVENT_THREAD_NAME;
 import static io.microsphere.nacos.client.constants.Constants.ENCODING;
+import static io.microsphere.nacos.client.constants.Constants.EVENT_PROCESSING_MAX_TIMEOUTS;
 import static io.microsphere.nacos.client.constants.Constants.EVENT_PROCESSING_TIMEOUT;
+import static io.microsphere.nacos.client.constants.Constants.FETCHING_CONFIGS_PARALLELISM;
+import static io.microsphere.nacos.client.constants.Constants.LISTENING_CONFIGS_PER_TASK;
 import static io.microsphere.nacos.client.constants.Constants.LONG_POLLING_TIMEOUT;
 import static io.microsphere.nacos.client.constants.Constants.MAX_CONNECTIONS;
 import static io.microsphere.nacos.client.constants.Constants.MAX_PER_ROUTE_CONNECTIONS;
+import static io.microsphere.nacos.client.constants.Constants.PARSED_CONFIG_CACHE_SIZE;
+import static io.microsphere.nacos.client.constants.Constants.PUBLISHING_CONFIG_EVENT_PARALLELISM;
 import static io.microsphere.nacos.client.constants.Constants.READ_TIMEOUT;
 
 /**
@@ -116,6 +124,26 @@ public class NacosClientConfig implements Serializable {
      */
     private int eventProcessingTimeout = EVENT_PROCESSING_TIMEOUT;
 
+    /**
+     * The maximum number of configs listened by one long polling task for Nacos Client
+     */
+    private int listeningConfigsPerTask = LISTENING_CONFIGS_PER_TASK;
+
+    /**
+     * The maximum number of configs fetched concurrently after they were changed for Nacos Client
+     */
+    private int fetchingConfigsParallelism = FETCHING_CONFIGS_PARALLELISM;
+
+    /**
+     * The maximum number of threads publishing the config events for Nacos Client
+     */
+    private int publishingConfigEventParallelism = PUBLISHING_CONFIG_EVENT_PARALLELISM;
+
+    /**
+     * The maximum number of consecutive timeouts of an event listener before it's isolated for Nacos Client
+     */
+    private int eventProcessingMaxTimeouts = EVENT_PROCESSING_MAX_TIMEOUTS;
+
     /**
      * The thread name of config for fetching
      */
@@ -131,6 +159,26 @@ public class NacosClientConfig implements Serializable {
      */
     private String publishingConfigEventThreadName = DEFAULT_PUBLISHING_CONFIG_EVENT_THREAD_NAME;
 
+    /**
+     * The directory storing the local snapshots of configs for Nacos Client, the blank value disables the snapshots
+     */
+    private String configSnapshotDirectory = CONFIG_SNAPSHOT_DIRECTORY;
+
+    /**
+     * Whether the local snapshots of configs are served if the server is unavailable for Nacos Client
+     */
+    private boolean configFailoverEnabled = CONFIG_FAILOVER_ENABLED;
+
+    /**
+     * The maximum number of the cached parsed configs for Nacos Client
+     */
+    private int parsedConfigCacheSize = PARSED_CONFIG_CACHE_SIZE;
+
+    /**
+     * The interval in milliseconds to discover the configs of the prefix watches for Nacos Client
+     */
+    private int configDiscoveryInterval = CONFIG_DISCOVERY_INTERVAL;
+
     /**
      * The encoding for Nacos Client
      */
@@ -256,6 +304,38 @@ public class NacosClientConfig implements Serializable {
         this.eventProcessingTimeout = eventProcessingTimeout;
     }
 
+    public int getListeningConfigsPerTask() {
+        return listeningConfigsPerTask;
+    }
+
+    public void setListeningConfigsPerTask(int listeningConfigsPerTask) {
+        this.listeningConfigsPerTask = listeningConfigsPerTask;
+    }
+
+    public int getFetchingConfigsParallelism() {
+        return fetchingConfigsParallelism;
+    }
+
+    public void setFetchingConfigsParallelism(int fetchingConfigsParallelism) {
+        this.fetchingConfigsParallelism = fetchingConfigsParallelism;
+    }
+
+    public int getPublishingConfigEventParallelism() {
+        return publishingConfigEventParallelism;
+    }
+
+    public void setPublishingConfigEventParallelism(int publishingConfigEventParallelism) {
+        this.publishingConfigEventParallelism = publishingConfigEventParallelism;
+    }
+
+    public int getEventProcessingMaxTimeouts() {
+        return eventProcessingMaxTimeouts;
+    }
+
+    public void setEventProcessingMaxTimeouts(int eventProcessingMaxTimeouts) {
+        this.eventProcessingMaxTimeouts = eventProcessingMaxTimeouts;
+    }
+
     public String getFetchingConfigThreadName() {
         return fetchingConfigThreadName;
     }
@@ -280,6 +360,38 @@ public class NacosClientConfig implements Serializable {
         this.publishingConfigEventThreadName = publishingConfigEventThreadName;
     }
 
+    public String getConfigSnapshotDirectory() {
+        return configSnapshotDirectory;
+    }
+
+    public void setConfigSnapshotDirectory(String configSnapshotDirectory) {
+        this.configSnapshotDirectory = configSnapshotDirectory;
+    }
+
+    public boolean isConfigFailoverEnabled() {
+        return configFailoverEnabled;
+    }
+
+    public void setConfigFailoverEnabled(boolean configFailoverEnabled) {
+        this.configFailoverEnabled = configFailoverEnabled;
+    }
+
+    public int getParsedConfigCacheSize() {
+        return parsedConfigCacheSize;
+    }
+
+    public void setParsedConfigCacheSize(int parsedConfigCacheSize) {
+        this.parsedConfigCacheSize = parsedConfigCacheSize;
+    }
+
+    public int getConfigDiscoveryInterval() {
+        return configDiscoveryInterval;
+    }
+
+    public void setConfigDiscoveryInterval(int configDiscoveryInterval) {
+        this.configDiscoveryInterval = configDiscoveryInterval;
+    }
+
     public String getEncoding() {
         return encoding;
     }
@@ -305,6 +417,13 @@ public class NacosClientConfig implements Serializable {
                 readTimeout == that.readTimeout &&
                 longPollingTimeout == that.longPollingTimeout &&
                 eventProcessingTimeout == that.eventProcessingTimeout &&
+                listeningConfigsPerTask == that.listeningConfigsPerTask &&
+                fetchingConfigsParallelism == that.fetchingConfigsParallelism &&
+                publishingConfigEventParallelism == that.publishingConfigEventParallelism &&
+                eventProcessingMaxTimeouts == that.eventProcessingMaxTimeouts &&
+                configFailoverEnabled == that.configFailoverEnabled &&
+                parsedConfigCacheSize == that.parsedConfigCacheSize &&
+                configDiscoveryInterval == that.configDiscoveryInterval &&
                 Objects.equals(serverAddress, that.serverAddress) &&
                 Objects.equals(scheme, that.scheme) &&
                 Objects.equals(contextPath, that.contextPath) &&
@@ -315,6 +434,7 @@ public class NacosClientConfig implements Serializable {
                 Objects.equals(fetchingConfigThreadName, that.fetchingConfigThreadName) &&
                 Objects.equals(listenerConfigThreadName, that.listenerConfigThreadName) &&
                 Objects.equals(publishingConfigEventThreadName, that.publishingConfigEventThreadName) &&
+                Objects.equals(configSnapshotDirectory, that.configSnapshotDirectory) &&
                 Objects.equals(encoding, that.encoding);
     }
 
@@ -333,9 +453,17 @@ public class NacosClientConfig implements Serializable {
         result = 31 * result + readTimeout;
         result = 31 * result + longPollingTimeout;
         result = 31 * result + eventProcessingTimeout;
+        result = 31 * result + listeningConfigsPerTask;
+        result = 31 * result + fetchingConfigsParallelism;
+        result = 31 * result + publishingConfigEventParallelism;
+        result = 31 * result + eventProcessingMaxTimeouts;
         result = 31 * result + Objects.hashCode(fetchingConfigThreadName);
         result = 31 * result + Objects.hashCode(listenerConfigThreadName);
         result = 31 * result + Objects.hashCode(publishingConfigEventThreadName);
+        result = 31 * result + Objects.hashCode(configSnapshotDirectory);
+        result = 31 * result + (configFailoverEnabled ? 1 : 0);
+        result = 31 * result + parsedConfigCacheSize;
+        result = 31 * result + configDiscoveryInterval;
         result = 31 * result + Objects.hashCode(encoding);
         return result;
     }
@@ -358,9 +486,17 @@ public class NacosClientConfig implements Serializable {
                 ", readTimeout=" + readTimeout +
                 ", longPollingTimeout=" + longPollingTimeout +
                 ", eventProcessingTimeout=" + eventProcessingTimeout +
+                ", listeningConfigsPerTask=" + listeningConfigsPerTask +
+                ", fetchingConfigsParallelism=" + fetchingConfigsParallelism +
+                ", publishingConfigEventParallelism=" + publishingConfigEventParallelism +
+                ", eventProcessingMaxTimeouts=" + eventProcessingMaxTimeouts +
                 ", fetchingConfigThreadName='" + fetchingConfigThreadName + '\'' +
                 ", listenerConfigThreadName='" + listenerConfigThreadName + '\'' +
                 ", publishingConfigEventThreadName='" + publishingConfigEventThreadName + '\'' +
+                ", configSnapshotDirectory='" + configSnapshotDirectory + '\'' +
+                ", configFailoverEnabled=" + configFailoverEnabled +
+                ", parsedConfigCacheSize=" + parsedConfigCacheSize +
+                ", configDiscoveryInterval=" + configDiscoveryInterval +
                 ", encoding='" + encoding + '\'' +
                 '}';
     }
@@ -18,16 +18,39 @@ package io.microsphere.nacos.client.common.config;
 
 import io.microsphere.nacos.client.Client;
 import io.microsphere.nacos.client.common.config.event.ConfigChangedListener;
+import io.microsphere.nacos.client.common.config.event.TypedConfigChangedListener;
+import io.microsphere.nacos.client.common.config.event.TypedConfigChangedListenerAdapter;
+import io.microsphere.nacos.client.common.config.model.BaseConfig;
 import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import io.microsphere.nacos.client.common.config.model.ConfigPublishResult;
 import io.microsphere.nacos.client.common.config.model.HistoryConfig;
 import io.microsphere.nacos.client.common.config.model.NewConfig;
 import io.microsphere.nacos.client.common.model.Page;
+import io.microsphere.nacos.client.common.model.PageIterator;
+import io.microsphere.nacos.client.common.config.parser.ConfigParser;
+import io.microsphere.nacos.client.common.config.parser.ParsedConfig;
 import io.microsphere.nacos.client.common.namespace.model.Namespace;
 import io.microsphere.nacos.client.constants.Constants;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static io.microsphere.nacos.client.common.config.model.ConfigPublishResult.ofFailed;
+import static io.microsphere.nacos.client.common.config.model.ConfigPublishResult.ofPublished;
+import static io.microsphere.nacos.client.common.config.parser.ConfigParsers.parseConfig;
 import static io.microsphere.nacos.client.constants.Constants.DEFAULT_GROUP_NAME;
 import static io.microsphere.nacos.client.constants.Constants.DEFAULT_NAMESPACE_ID;
 import static io.microsphere.nacos.client.constants.Constants.PAGE_NUMBER;
+import static io.microsphere.nacos.client.util.DigestUtils.md5Hex;
+import static io.microsphere.nacos.client.util.IOUtils.readAsBytes;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * The Client for Nacos {@link Config}
@@ -36,7 +59,7 @@ import static io.microsphere.nacos.client.constants.Constants.PAGE_NUMBER;
  * @see Config
  * @since 1.0.0
  */
-public interface ConfigClient extends Client {
+public interface ConfigClient extends Client, AutoCloseable {
 
     /**
      * The default page size
@@ -103,6 +126,32 @@ public interface ConfigClient extends Client {
      */
     String getConfigContent(String namespaceId, String group, String dataId, String tag);
 
+    /**
+     * Write the content of {@link Config} from the specified {@code namespaceId}, {@code group}, {@code dataId} and
+     * {@code tag} into the {@link OutputStream}, the implementation should stream the large content through rather
+     * than build a {@link String}, and compute the MD5 on the way.
+     *
+     * @param namespaceId  (optional) {@link Namespace#getNamespaceId() the id of namespace}, a.k.a the "tenant".
+     *                     if not specified, the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace} will be used.
+     * @param group        (optional) the group of {@link Config}.
+     *                     if not specified, the {@link Constants#DEFAULT_GROUP_NAME "DEFAULT_GROUP"} will be used.
+     * @param dataId       the data id of {@link Config}
+     * @param tag          (optional) the tag of {@link Config}
+     * @param outputStream the {@link OutputStream} that the content in UTF-8 is written into, which is not closed
+     * @return the MD5 of the content if found, otherwise {@code null} and nothing is written
+     * @throws IOException if the content can't be written
+     */
+    default String getConfigContent(String namespaceId, String group, String dataId, String tag, OutputStream outputStream) throws IOException {
+        Objects.requireNonNull(outputStream, "The 'outputStream' argument must not be null!");
+        String content = getConfigContent(namespaceId, group, dataId, tag);
+        if (content == null) {
+            return null;
+        }
+        byte[] bytes = content.getBytes(UTF_8);
+        outputStream.write(bytes);
+        return md5Hex(bytes);
+    }
+
     /**
      * Get the {@link Config} from the specified {@code group} and {@code dataId} from
      * the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace}
@@ -128,6 +177,44 @@ public interface ConfigClient extends Client {
      */
     Config getConfig(String namespaceId, String group, String dataId);
 
+    /**
+     * Get the {@link Config configs} in batch from the specified {@code group} and {@code dataIds} from
+     * the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace}
+     *
+     * @param group   (optional) the group of {@link Config configs}.
+     *                if not specified, the {@link Constants#DEFAULT_GROUP_NAME "DEFAULT_GROUP"} will be used.
+     * @param dataIds the data ids of {@link Config configs}
+     * @return non-null {@link Map} with the data id as the key, the absent configs are not included
+     */
+    default Map<String, Config> getConfigs(String group, Collection<String> dataIds) {
+        return getConfigs(DEFAULT_NAMESPACE_ID, group, dataIds);
+    }
+
+    /**
+     * Get the {@link Config configs} in batch from the specified {@code namespaceId}, {@code group} and
+     * {@code dataIds}, many configs may be fetched in one request by the implementation, the default one gets them one
+     * by one.
+     *
+     * @param namespaceId (optional) {@link Namespace#getNamespaceId() the id of namespace}, a.k.a the "tenant".
+     *                    if not specified, the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace} will be used.
+     * @param group       (optional) the group of {@link Config configs}.
+     *                    if not specified, the {@link Constants#DEFAULT_GROUP_NAME "DEFAULT_GROUP"} will be used.
+     * @param dataIds     the data ids of {@link Config configs}
+     * @return non-null {@link Map} with the data id as the key in the order of {@code dataIds}, the absent configs
+     * are not included
+     */
+    default Map<String, Config> getConfigs(String namespaceId, String group, Collection<String> dataIds) {
+        Objects.requireNonNull(dataIds, "The 'dataIds' argument must not be null!");
+        Map<String, Config> configs = new LinkedHashMap<>();
+        for (String dataId : dataIds) {
+            Config config = getConfig(namespaceId, group, dataId);
+            if (config != null) {
+                configs.put(dataId, config);
+            }
+        }
+        return configs;
+    }
+
     /**
      * Publish(or Update) the content of {@link Config} with {@code group} and {@code dataId} to
      * the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace}
@@ -204,6 +291,30 @@ public interface ConfigClient extends Client {
         return publishConfig(newConfig);
     }
 
+    /**
+     * Publish(or Update) the content of {@link Config} from the {@link InputStream} with the specified
+     * {@code namespaceId}, {@code group}, {@code dataId}, and {@code configType}, the implementation should stream the
+     * large content through rather than build a {@link String}, and compute the MD5 on the way.
+     *
+     * @param namespaceId (optional) {@link Namespace#getNamespaceId() the id of namespace}, a.k.a the "tenant".
+     *                    if not specified, the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace} will be used.
+     * @param group       (optional) the group of {@link Config}.
+     *                    if not specified, the {@link Constants#DEFAULT_GROUP_NAME "DEFAULT_GROUP"} will be used.
+     * @param dataId      the data id of {@link Config}
+     * @param content     the {@link InputStream} of the content in UTF-8, which is read to the end, but not closed
+     * @param configType  (optional) {@link ConfigType}
+     * @return the MD5 of the content if publish successfully, otherwise {@code null}
+     * @throws IOException if the content can't be read
+     */
+    default String publishConfigContent(String namespaceId, String group, String dataId, InputStream content, ConfigType configType) throws IOException {
+        Objects.requireNonNull(content, "The 'content' argument must not be null!");
+        byte[] bytes = readAsBytes(content);
+        if (publishConfigContent(namespaceId, group, dataId, new String(bytes, UTF_8), configType)) {
+            return md5Hex(bytes);
+        }
+        return null;
+    }
+
     /**
      * Publish(or Update) a {@link NewConfig New Config}
      *
@@ -212,6 +323,41 @@ public interface ConfigClient extends Client {
      */
     boolean publishConfig(NewConfig newConfig);
 
+    /**
+     * Publish(or Update) the {@link NewConfig New Configs} in bulk, the implementation may publish them with the
+     * bounded concurrency and skip the config whose content and the metadata set by the caller are unchanged, which is
+     * determined by the published config known locally or fetched freshly, the default one publishes them one by one.
+     *
+     * @param newConfigs the {@link NewConfig New Configs}, the last one wins if their {@link ConfigKey keys} are
+     *                   duplicated
+     * @return non-null {@link Map} with {@link ConfigKey#of(BaseConfig) the key of config} in the order of
+     * {@code newConfigs}
+     */
+    default Map<ConfigKey, ConfigPublishResult> publishConfigs(Collection<NewConfig> newConfigs) {
+        Objects.requireNonNull(newConfigs, "The 'newConfigs' argument must not be null!");
+        Map<ConfigKey, NewConfig> newConfigsMap = new LinkedHashMap<>();
+        for (NewConfig newConfig : newConfigs) {
+            newConfigsMap.put(ConfigKey.of(newConfig), newConfig);
+        }
+        Map<ConfigKey, ConfigPublishResult> results = new LinkedHashMap<>();
+        for (Map.Entry<ConfigKey, NewConfig> entry : newConfigsMap.entrySet()) {
+            ConfigKey configKey = entry.getKey();
+            NewConfig newConfig = entry.getValue();
+            long startTime = System.currentTimeMillis();
+            String md5 = md5Hex(newConfig.getContent());
+            ConfigPublishResult result;
+            try {
+                result = publishConfig(newConfig) ?
+                        ofPublished(configKey, md5, System.currentTimeMillis() - startTime) :
+                        ofFailed(configKey, md5, System.currentTimeMillis() - startTime, null);
+            } catch (RuntimeException e) {
+                result = ofFailed(configKey, md5, System.currentTimeMillis() - startTime, e);
+            }
+            results.put(configKey, result);
+        }
+        return results;
+    }
+
     /**
      * Delete the {@link Config} with the specified {@code group} and {@code dataId} from
      * the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace} and
@@ -320,6 +466,66 @@ public interface ConfigClient extends Client {
      */
     Page<HistoryConfig> getHistoryConfigs(String namespaceId, String group, String dataId, int pageNumber, int pageSize);
 
+    /**
+     * Iterate all {@link HistoryConfig HistoryConfigs} by the specified {@code namespaceId}, {@code group} and
+     * {@code dataId}, the pages are fetched lazily, and the next ones are prefetched in the background.
+     *
+     * @param namespaceId (optional) {@link Namespace#getNamespaceId() the id of namespace}, a.k.a the "tenant".
+     *                    if not specified, the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace} will be used.
+     * @param group       (optional) the group of {@link Config}.
+     *                    if not specified, the {@link Constants#DEFAULT_GROUP_NAME "DEFAULT_GROUP"} will be used.
+     * @param dataId      the data id of {@link Config}
+     * @param pageSize    the expected size of one page
+     * @param parallelism the maximum number of the pages prefetched in the background, 0 means no prefetching
+     * @return non-null {@link PageIterator}, which should be closed if it is not exhausted
+     * @throws IllegalArgumentException if the {@code pageSize} is less than 1 or greater than
+     *                                  {@link #MAX_PAGE_SIZE 500}
+     */
+    default PageIterator<HistoryConfig> iterateHistoryConfigs(String namespaceId, String group, String dataId,
+                                                              int pageSize, int parallelism) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("The argument 'pageSize' must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return new PageIterator<>(pageNumber -> getHistoryConfigs(namespaceId, group, dataId, pageNumber, pageSize),
+                parallelism);
+    }
+
+    /**
+     * Get the {@link Stream} of all {@link HistoryConfig HistoryConfigs} by the specified {@code namespaceId},
+     * {@code group} and {@code dataId}, the next page is prefetched in the background.
+     *
+     * @param namespaceId (optional) {@link Namespace#getNamespaceId() the id of namespace}, a.k.a the "tenant".
+     *                    if not specified, the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace} will be used.
+     * @param group       (optional) the group of {@link Config}.
+     *                    if not specified, the {@link Constants#DEFAULT_GROUP_NAME "DEFAULT_GROUP"} will be used.
+     * @param dataId      the data id of {@link Config}
+     * @return non-null {@link Stream}, which should be closed if it is not consumed entirely
+     */
+    default Stream<HistoryConfig> streamHistoryConfigs(String namespaceId, String group, String dataId) {
+        return iterateHistoryConfigs(namespaceId, group, dataId, DEFAULT_PAGE_SIZE, 1).stream();
+    }
+
+    /**
+     * Search the pagination of {@link Config configs} with their contents and MD5s
+     *
+     * @param namespaceId (optional) {@link Namespace#getNamespaceId() the id of namespace}, a.k.a the "tenant".
+     *                    if not specified, the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace} will be used.
+     * @param group       (optional) the group of {@link Config}, if not specified, all groups will be matched.
+     * @param dataId      (optional) the data id of {@link Config}, if not specified, all data ids will be matched.
+     * @param blur        if {@code true}, the "*" in the {@code group} and {@code dataId} matches any characters,
+     *                    otherwise they are matched exactly
+     * @param pageNumber  the number of page, starts with 1
+     * @param pageSize    the expected size of one page
+     * @return non-null {@link Page<Config>}
+     * @throws IllegalArgumentException      if the {@code pageNumber} or {@code pageSize} is less than 1,
+     *                                       and the {@code pageSize} is greater than {@link #MAX_PAGE_SIZE 500}
+     * @throws UnsupportedOperationException if the implementation does not support the search
+     */
+    default Page<Config> searchConfigs(String namespaceId, String group, String dataId, boolean blur, int pageNumber,
+                                       int pageSize) {
+        throw new UnsupportedOperationException("The search of configs is not supported by " + getClass().getName());
+    }
+
     /**
      * Get the {@link HistoryConfig HistoryConfig} by the specified {@code namespaceId}, {@code group}, {@code dataId}
      * and {@code revision} from the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace} and the
@@ -440,6 +646,19 @@ public interface ConfigClient extends Client {
      */
     void addEventListener(String namespaceId, String group, String dataId, ConfigChangedListener listener);
 
+    /**
+     * Add a {@link ConfigChangedListener} to listen the {@link Config configs} being changed in bulk, the
+     * implementation should register all configs before fetching them concurrently.
+     *
+     * @param configKeys the keys of {@link Config configs}
+     * @param listener   an instance of {@link ConfigChangedListener}
+     */
+    default void addEventListeners(Collection<ConfigKey> configKeys, ConfigChangedListener listener) {
+        for (ConfigKey configKey : configKeys) {
+            addEventListener(configKey.getNamespaceId(), configKey.getGroup(), configKey.getDataId(), listener);
+        }
+    }
+
     /**
      * Remove a {@link ConfigChangedListener} to listen the {@link Config} being changed under
      * the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace} and the
@@ -476,4 +695,95 @@ public interface ConfigClient extends Client {
      * @param listener    an instance of {@link ConfigChangedListener}
      */
     void removeEventListener(String namespaceId, String group, String dataId, ConfigChangedListener listener);
+
+    /**
+     * Remove a {@link ConfigChangedListener} to listen the {@link Config configs} being changed in bulk
+     *
+     * @param configKeys the keys of {@link Config configs}
+     * @param listener   an instance of {@link ConfigChangedListener}
+     */
+    default void removeEventListeners(Collection<ConfigKey> configKeys, ConfigChangedListener listener) {
+        for (ConfigKey configKey : configKeys) {
+            removeEventListener(configKey.getNamespaceId(), configKey.getGroup(), configKey.getDataId(), listener);
+        }
+    }
+
+    /**
+     * Add a {@link ConfigChangedListener} to listen all {@link Config configs} whose data ids start with the specified
+     * prefix in the group, the matched configs are discovered periodically, thus the configs created later are listened
+     * automatically, and the removed ones are not listened anymore.
+     *
+     * @param namespaceId  (optional) {@link Namespace#getNamespaceId() the id of namespace}, a.k.a the "tenant".
+     *                     if not specified, the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace} will be used.
+     * @param group        (optional) the group of {@link Config}.
+     *                     if not specified, the {@link Constants#DEFAULT_GROUP_NAME "DEFAULT_GROUP"} will be used.
+     * @param dataIdPrefix (optional) the prefix of data ids, if not specified, all configs in the group are listened.
+     * @param listener     an instance of {@link ConfigChangedListener}
+     * @throws UnsupportedOperationException if the implementation does not support the prefix listening
+     */
+    default void addPrefixEventListener(String namespaceId, String group, String dataIdPrefix,
+                                        ConfigChangedListener listener) {
+        throw new UnsupportedOperationException("The prefix listening is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Remove a {@link ConfigChangedListener} that was added by
+     * {@link #addPrefixEventListener(String, String, String, ConfigChangedListener)}
+     *
+     * @param namespaceId  (optional) {@link Namespace#getNamespaceId() the id of namespace}, a.k.a the "tenant".
+     * @param group        (optional) the group of {@link Config}.
+     * @param dataIdPrefix (optional) the prefix of data ids
+     * @param listener     an instance of {@link ConfigChangedListener}
+     */
+    default void removePrefixEventListener(String namespaceId, String group, String dataIdPrefix,
+                                           ConfigChangedListener listener) {
+        // Nothing was added if the prefix listening is not supported
+    }
+
+    /**
+     * Get the {@link Config} parsed by the {@link ConfigParser} of the specified {@link ConfigType}, the
+     * implementation should parse the content of each MD5 once and share the immutable {@link ParsedConfig}.
+     *
+     * @param configKey  the key of {@link Config}
+     * @param configType (optional) {@link ConfigType}, if not specified, the type of {@link Config} will be used.
+     * @return the {@link ParsedConfig} if found, otherwise {@code null}
+     * @throws IllegalArgumentException if the {@link ConfigType} is not supported
+     */
+    default ParsedConfig getParsedConfig(ConfigKey configKey, ConfigType configType) {
+        Config config = getConfig(configKey.getNamespaceId(), configKey.getGroup(), configKey.getDataId());
+        return parseConfig(config, configType);
+    }
+
+    /**
+     * Add a {@link TypedConfigChangedListener} to listen the {@link Config} being changed, the previous and current
+     * {@link Config configs} are parsed as the specified {@link ConfigType}
+     *
+     * @param configKey  the key of {@link Config}
+     * @param configType (optional) {@link ConfigType}, if not specified, the type of {@link Config} will be used.
+     * @param listener   an instance of {@link TypedConfigChangedListener}
+     */
+    default void addTypedListener(ConfigKey configKey, ConfigType configType, TypedConfigChangedListener listener) {
+        addEventListener(configKey.getNamespaceId(), configKey.getGroup(), configKey.getDataId(),
+                new TypedConfigChangedListenerAdapter(listener, configType, null));
+    }
+
+    /**
+     * Remove a {@link TypedConfigChangedListener} to listen the {@link Config} being changed
+     *
+     * @param configKey  the key of {@link Config}
+     * @param configType (optional) {@link ConfigType} that the listener was added with
+     * @param listener   an instance of {@link TypedConfigChangedListener}
+     */
+    default void removeTypedListener(ConfigKey configKey, ConfigType configType, TypedConfigChangedListener listener) {
+        removeEventListener(configKey.getNamespaceId(), configKey.getGroup(), configKey.getDataId(),
+                new TypedConfigChangedListenerAdapter(listener, configType, null));
+    }
+
+    /**
+     * Close the client, the {@link ConfigChangedListener listeners} added by this client will be removed, and the
+     * listening resources will be released.
+     */
+    @Override
+    default void close() {
+    }
 }
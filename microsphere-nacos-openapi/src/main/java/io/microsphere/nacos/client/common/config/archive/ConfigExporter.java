@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.archive;
+
+import io.microsphere.nacos.client.common.config.ConfigClient;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.model.Page;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.microsphere.nacos.client.common.config.ConfigClient.MAX_PAGE_SIZE;
+import static io.microsphere.nacos.client.util.FutureUtils.await;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+/**
+ * The exporter of all {@link Config configs} in a namespace, which are written into the archive in the
+ * newline-delimited JSON (UTF-8), one config per line. The pages of configs are fetched in parallel, and at most the
+ * {@link #getParallelism() parallelism} pages are held in memory, regardless of the size of namespace.
+ * <p>
+ * The archive could be compressed by the wrapped {@link OutputStream}, e.g. {@link java.util.zip.GZIPOutputStream},
+ * and imported by {@link ConfigImporter}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigImporter
+ * @see ConfigClient#searchConfigs(String, String, String, boolean, int, int)
+ * @since 1.0.0
+ */
+public class ConfigExporter {
+
+    private final ConfigClient configClient;
+
+    private final int parallelism;
+
+    /**
+     * @param configClient {@link ConfigClient}
+     * @param parallelism  the maximum number of the pages fetched in parallel, must be greater than 0
+     */
+    public ConfigExporter(ConfigClient configClient, int parallelism) {
+        Objects.requireNonNull(configClient, "The 'configClient' argument must not be null!");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The argument 'parallelism' must be greater than 0");
+        }
+        this.configClient = configClient;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Export all configs of the namespace into the {@link OutputStream}, which is flushed but not closed.
+     * <p>
+     * The configs are listed by pages, thus the ones created or deleted during the export may be missed or duplicated.
+     *
+     * @param namespaceId  (optional) the id of namespace, if not specified, the "public" namespace will be used.
+     * @param outputStream the {@link OutputStream} of archive
+     * @return the number of the exported configs
+     * @throws IOException if the archive could not be written
+     */
+    public long exportConfigs(String namespaceId, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+        Page<Config> firstPage = getPage(namespaceId, 1);
+        long count = write(firstPage, writer);
+        int totalPages = firstPage.getTotalPages();
+        if (totalPages > 1) {
+            count += exportPages(namespaceId, totalPages, writer);
+        }
+        writer.flush();
+        return count;
+    }
+
+    private long exportPages(String namespaceId, int totalPages, Writer writer) throws IOException {
+        ExecutorService executor = newExecutor(Math.min(this.parallelism, totalPages - 1));
+        Deque<Future<Page<Config>>> futures = new ArrayDeque<>(this.parallelism);
+        long count = 0;
+        int nextPageNumber = 2;
+        try {
+            while (nextPageNumber <= totalPages || !futures.isEmpty()) {
+                // Keep the window of pages being fetched, they are written in order
+                while (nextPageNumber <= totalPages && futures.size() < this.parallelism) {
+                    int pageNumber = nextPageNumber++;
+                    futures.add(executor.submit(() -> getPage(namespaceId, pageNumber)));
+                }
+                count += write(await(futures.poll()), writer);
+            }
+        } finally {
+            for (Future<Page<Config>> future : futures) {
+                future.cancel(true);
+            }
+            executor.shutdownNow();
+        }
+        return count;
+    }
+
+    private Page<Config> getPage(String namespaceId, int pageNumber) {
+        return this.configClient.searchConfigs(namespaceId, null, null, false, pageNumber, MAX_PAGE_SIZE);
+    }
+
+    private long write(Page<Config> page, Writer writer) throws IOException {
+        long count = 0;
+        for (Config config : page.getElements()) {
+            writer.write(ConfigRecord.write(config));
+            writer.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    private ExecutorService newExecutor(int threads) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "ConfigExporter-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get the maximum number of the pages fetched in parallel
+     *
+     * @return greater than 0
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.archive;
+
+import io.microsphere.nacos.client.common.config.ConfigClient;
+import io.microsphere.nacos.client.common.config.model.ConfigPublishResult;
+import io.microsphere.nacos.client.common.config.model.NewConfig;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import static io.microsphere.nacos.client.util.StringUtils.isBlank;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The importer of the {@link NewConfig configs} from the archive exported by {@link ConfigExporter}, the archive is
+ * read line by line, and the configs are published by {@link ConfigClient#publishConfigs(Collection)} in batches,
+ * thus at most the {@link #getBatchSize() batch size} configs are held in memory, and the unchanged ones are skipped.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigExporter
+ * @see ConfigClient#publishConfigs(Collection)
+ * @since 1.0.0
+ */
+public class ConfigImporter {
+
+    private final ConfigClient configClient;
+
+    private final int batchSize;
+
+    /**
+     * @param configClient {@link ConfigClient}
+     * @param batchSize    the number of the configs published in one batch, must be greater than 0
+     */
+    public ConfigImporter(ConfigClient configClient, int batchSize) {
+        Objects.requireNonNull(configClient, "The 'configClient' argument must not be null!");
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The argument 'batchSize' must be greater than 0");
+        }
+        this.configClient = configClient;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import the configs from the {@link InputStream} into the namespace, the {@link InputStream} is not closed.
+     *
+     * @param namespaceId (optional) the id of namespace, if not specified, the "public" namespace will be used.
+     * @param inputStream the {@link InputStream} of archive
+     * @return the number of the imported configs, including the unchanged and failed ones
+     * @throws IOException if the archive could not be read or is malformed
+     */
+    public long importConfigs(String namespaceId, InputStream inputStream) throws IOException {
+        return importConfigs(namespaceId, inputStream, result -> {
+        });
+    }
+
+    /**
+     * Import the configs from the {@link InputStream} into the namespace, the {@link InputStream} is not closed.
+     *
+     * @param namespaceId    (optional) the id of namespace, if not specified, the "public" namespace will be used.
+     * @param inputStream    the {@link InputStream} of archive
+     * @param resultConsumer the consumer of {@link ConfigPublishResult} for each config
+     * @return the number of the imported configs, including the unchanged and failed ones
+     * @throws IOException if the archive could not be read or is malformed
+     */
+    public long importConfigs(String namespaceId, InputStream inputStream, Consumer<ConfigPublishResult> resultConsumer)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, UTF_8));
+        List<NewConfig> newConfigs = new ArrayList<>(this.batchSize);
+        long count = 0;
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (isBlank(line)) {
+                continue;
+            }
+            newConfigs.add(read(line, lineNumber, namespaceId));
+            count++;
+            if (newConfigs.size() >= this.batchSize) {
+                publish(newConfigs, resultConsumer);
+            }
+        }
+        publish(newConfigs, resultConsumer);
+        return count;
+    }
+
+    private NewConfig read(String line, long lineNumber, String namespaceId) throws IOException {
+        try {
+            return ConfigRecord.read(line, namespaceId);
+        } catch (RuntimeException e) {
+            throw new IOException("The malformed config record at line " + lineNumber, e);
+        }
+    }
+
+    private void publish(List<NewConfig> newConfigs, Consumer<ConfigPublishResult> resultConsumer) {
+        if (newConfigs.isEmpty()) {
+            return;
+        }
+        this.configClient.publishConfigs(newConfigs).values().forEach(resultConsumer);
+        newConfigs.clear();
+    }
+
+    /**
+     * Get the number of the configs published in one batch
+     *
+     * @return greater than 0
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
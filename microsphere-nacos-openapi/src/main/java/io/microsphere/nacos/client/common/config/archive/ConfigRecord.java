@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.archive;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.microsphere.nacos.client.common.config.ConfigType;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.NewConfig;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * The record of {@link Config} in the archive, which is a JSON object in one line without the namespace, thus the
+ * archive could be imported into any namespace.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigExporter
+ * @see ConfigImporter
+ * @since 1.0.0
+ */
+final class ConfigRecord {
+
+    private static final String GROUP_MEMBER_NAME = "group";
+
+    private static final String DATA_ID_MEMBER_NAME = "dataId";
+
+    private static final String CONTENT_MEMBER_NAME = "content";
+
+    private static final String MD5_MEMBER_NAME = "md5";
+
+    private static final String TYPE_MEMBER_NAME = "type";
+
+    private static final String APP_NAME_MEMBER_NAME = "appName";
+
+    private static final String DESCRIPTION_MEMBER_NAME = "desc";
+
+    private static final String TAGS_MEMBER_NAME = "tags";
+
+    private static final String USE_MEMBER_NAME = "use";
+
+    private static final String EFFECT_MEMBER_NAME = "effect";
+
+    private static final String SCHEMA_MEMBER_NAME = "schema";
+
+    private ConfigRecord() {
+    }
+
+    /**
+     * Write the {@link Config} as a record
+     *
+     * @param config {@link Config}
+     * @return the JSON in one line
+     */
+    static String write(Config config) {
+        JsonObject jsonObject = new JsonObject();
+        jsonObject.addProperty(GROUP_MEMBER_NAME, config.getGroup());
+        jsonObject.addProperty(DATA_ID_MEMBER_NAME, config.getDataId());
+        jsonObject.addProperty(CONTENT_MEMBER_NAME, config.getContent());
+        jsonObject.addProperty(MD5_MEMBER_NAME, config.getMd5());
+        ConfigType type = config.getType();
+        jsonObject.addProperty(TYPE_MEMBER_NAME, type == null ? null : type.getValue());
+        jsonObject.addProperty(APP_NAME_MEMBER_NAME, config.getAppName());
+        jsonObject.addProperty(DESCRIPTION_MEMBER_NAME, config.getDescription());
+        Set<String> tags = config.getTags();
+        if (tags != null && !tags.isEmpty()) {
+            JsonArray tagsArray = new JsonArray(tags.size());
+            tags.forEach(tagsArray::add);
+            jsonObject.add(TAGS_MEMBER_NAME, tagsArray);
+        }
+        jsonObject.addProperty(USE_MEMBER_NAME, config.getUse());
+        jsonObject.addProperty(EFFECT_MEMBER_NAME, config.getEffect());
+        jsonObject.addProperty(SCHEMA_MEMBER_NAME, config.getSchema());
+        // The line separators in the values are escaped by Gson
+        return jsonObject.toString();
+    }
+
+    /**
+     * Read a record as {@link NewConfig}
+     *
+     * @param record      the JSON in one line
+     * @param namespaceId the id of namespace that the config will be imported into
+     * @return non-null
+     * @throws RuntimeException if the record is malformed
+     */
+    static NewConfig read(String record, String namespaceId) {
+        JsonObject jsonObject = JsonParser.parseString(record).getAsJsonObject();
+        NewConfig newConfig = new NewConfig();
+        newConfig.setNamespaceId(namespaceId);
+        newConfig.setGroup(getString(jsonObject, GROUP_MEMBER_NAME));
+        newConfig.setDataId(getString(jsonObject, DATA_ID_MEMBER_NAME));
+        newConfig.setContent(getString(jsonObject, CONTENT_MEMBER_NAME));
+        newConfig.setMd5(getString(jsonObject, MD5_MEMBER_NAME));
+        String type = getString(jsonObject, TYPE_MEMBER_NAME);
+        newConfig.setType(type == null ? null : ConfigType.of(type));
+        newConfig.setAppName(getString(jsonObject, APP_NAME_MEMBER_NAME));
+        newConfig.setDescription(getString(jsonObject, DESCRIPTION_MEMBER_NAME));
+        JsonElement tagsElement = jsonObject.get(TAGS_MEMBER_NAME);
+        if (tagsElement != null && tagsElement.isJsonArray()) {
+            Set<String> tags = new LinkedHashSet<>();
+            tagsElement.getAsJsonArray().forEach(tag -> tags.add(tag.getAsString()));
+            newConfig.setTags(tags);
+        }
+        newConfig.setUse(getString(jsonObject, USE_MEMBER_NAME));
+        newConfig.setEffect(getString(jsonObject, EFFECT_MEMBER_NAME));
+        newConfig.setSchema(getString(jsonObject, SCHEMA_MEMBER_NAME));
+        return newConfig;
+    }
+
+    private static String getString(JsonObject jsonObject, String memberName) {
+        JsonElement element = jsonObject.get(memberName);
+        return element == null || element.isJsonNull() ? null : element.getAsString();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.event;
+
+import io.microsphere.nacos.client.common.config.ConfigClient;
+
+import java.util.Objects;
+
+/**
+ * The {@link ConfigChangedListener} decorator requires the successive {@link ConfigChangedEvent events} of the same
+ * config to be debounced and coalesced : the events are held until no event arrives within the
+ * {@link #getWindow() window} or the first one has been held for the {@link #getMaxDelay() maximum delay}, then they
+ * are folded into one event by {@link ConfigChangedEvent#coalesce(ConfigChangedEvent, ConfigChangedEvent)}.
+ * <p>
+ * The coalescing is applied by the {@link ConfigClient} implementations supporting it, otherwise each event is passed
+ * to the decorated listener directly.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigChangedListener
+ * @see ConfigChangedEvent#coalesce(ConfigChangedEvent, ConfigChangedEvent)
+ * @since 1.0.0
+ */
+public class CoalescingConfigChangedListener implements ConfigChangedListener {
+
+    private final ConfigChangedListener listener;
+
+    private final long window;
+
+    private final long maxDelay;
+
+    /**
+     * @param listener the decorated {@link ConfigChangedListener}
+     * @param window   the quiet window in milliseconds, must be greater than 0
+     * @param maxDelay the maximum delay in milliseconds of the first held event, must not be less than the window
+     */
+    public CoalescingConfigChangedListener(ConfigChangedListener listener, long window, long maxDelay) {
+        Objects.requireNonNull(listener, "The 'listener' argument must not be null!");
+        if (window < 1) {
+            throw new IllegalArgumentException("The argument 'window' must be greater than 0");
+        }
+        if (maxDelay < window) {
+            throw new IllegalArgumentException("The argument 'maxDelay' must not be less than 'window'");
+        }
+        this.listener = listener;
+        this.window = window;
+        this.maxDelay = maxDelay;
+    }
+
+    @Override
+    public void onEvent(ConfigChangedEvent event) {
+        this.listener.onEvent(event);
+    }
+
+    /**
+     * Get the decorated {@link ConfigChangedListener}
+     *
+     * @return non-null
+     */
+    public ConfigChangedListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Get the quiet window in milliseconds
+     *
+     * @return greater than 0
+     */
+    public long getWindow() {
+        return window;
+    }
+
+    /**
+     * Get the maximum delay in milliseconds of the first held event
+     *
+     * @return not less than {@link #getWindow()}
+     */
+    public long getMaxDelay() {
+        return maxDelay;
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescingConfigChangedListener{" +
+                "listener=" + listener +
+                ", window=" + window +
+                ", maxDelay=" + maxDelay +
+                '}';
+    }
+}
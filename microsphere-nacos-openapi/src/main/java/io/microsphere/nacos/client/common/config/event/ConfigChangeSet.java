@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.event;
+
+import io.microsphere.nacos.client.common.config.ConfigType;
+import io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.Kind;
+import io.microsphere.nacos.client.common.config.parser.ParsedConfig;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.Kind.CREATED;
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.Kind.DELETED;
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.Kind.MODIFIED;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The key-level changes between the structured {@link ParsedConfig ParsedConfigs}, e.g. {@link ConfigType#PROPERTIES},
+ * {@link ConfigType#JSON} and {@link ConfigType#YAML}, whose parsed values are the trees of {@link Map} and
+ * {@link List}.
+ * <p>
+ * The trees are flattened into the leaf properties, the nested properties are joined by "." and the elements of
+ * {@link List} are indexed by "[index]", e.g. "a.b[0].c", the empty {@link Map} or {@link List} is kept as a leaf.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigPropertyChange
+ * @see ConfigChangedEvent#getChangeSet()
+ * @since 1.0.0
+ */
+public class ConfigChangeSet {
+
+    /**
+     * The changes sorted by the paths
+     */
+    private final NavigableMap<String, ConfigPropertyChange> changes;
+
+    protected ConfigChangeSet(NavigableMap<String, ConfigPropertyChange> changes) {
+        this.changes = changes;
+    }
+
+    /**
+     * Compute the {@link ConfigChangeSet} between the previous and current {@link ParsedConfig ParsedConfigs}
+     *
+     * @param previous (optional) the previous {@link ParsedConfig}
+     * @param current  (optional) the current {@link ParsedConfig}
+     * @return <code>null</code> if any present {@link ParsedConfig} is not structured
+     */
+    public static ConfigChangeSet of(ParsedConfig previous, ParsedConfig current) {
+        Map<String, Object> previousProperties = flatten(previous);
+        Map<String, Object> currentProperties = flatten(current);
+        if (previousProperties == null || currentProperties == null) {
+            return null;
+        }
+        NavigableMap<String, ConfigPropertyChange> changes = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : previousProperties.entrySet()) {
+            String path = entry.getKey();
+            Object previousValue = entry.getValue();
+            if (!currentProperties.containsKey(path)) {
+                changes.put(path, new ConfigPropertyChange(path, previousValue, null, DELETED));
+            } else {
+                Object currentValue = currentProperties.get(path);
+                if (!Objects.equals(previousValue, currentValue)) {
+                    changes.put(path, new ConfigPropertyChange(path, previousValue, currentValue, MODIFIED));
+                }
+            }
+        }
+        for (Map.Entry<String, Object> entry : currentProperties.entrySet()) {
+            String path = entry.getKey();
+            if (!previousProperties.containsKey(path)) {
+                changes.put(path, new ConfigPropertyChange(path, null, entry.getValue(), CREATED));
+            }
+        }
+        return new ConfigChangeSet(changes);
+    }
+
+    private static Map<String, Object> flatten(ParsedConfig parsedConfig) {
+        if (parsedConfig == null) {
+            return emptyMap();
+        }
+        Object value = parsedConfig.getValue();
+        if (!(value instanceof Map)) {
+            return null;
+        }
+        Map<String, Object> properties = new LinkedHashMap<>();
+        flatten(null, value, properties);
+        return properties;
+    }
+
+    private static void flatten(String path, Object value, Map<String, Object> properties) {
+        if (value instanceof Map && !((Map<?, ?>) value).isEmpty()) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                String name = String.valueOf(entry.getKey());
+                flatten(path == null ? name : path + "." + name, entry.getValue(), properties);
+            }
+        } else if (value instanceof List && !((List<?>) value).isEmpty() && path != null) {
+            List<?> list = (List<?>) value;
+            for (int i = 0; i < list.size(); i++) {
+                flatten(path + "[" + i + "]", list.get(i), properties);
+            }
+        } else if (path != null) {
+            properties.put(path, value);
+        }
+    }
+
+    /**
+     * Get all changes sorted by the paths
+     *
+     * @return non-null
+     */
+    public Collection<ConfigPropertyChange> getChanges() {
+        return unmodifiableCollection(this.changes.values());
+    }
+
+    /**
+     * Get the changes of the specified {@link Kind}
+     *
+     * @param kind {@link Kind#CREATED} for the added properties, {@link Kind#DELETED} for the removed properties
+     *             and {@link Kind#MODIFIED} for the changed properties
+     * @return non-null
+     */
+    public List<ConfigPropertyChange> getChanges(Kind kind) {
+        List<ConfigPropertyChange> changes = new ArrayList<>();
+        for (ConfigPropertyChange change : this.changes.values()) {
+            if (change.getKind() == kind) {
+                changes.add(change);
+            }
+        }
+        return unmodifiableList(changes);
+    }
+
+    /**
+     * Get the change of the specified path
+     *
+     * @param path the path of property
+     * @return <code>null</code> if the property was not changed
+     */
+    public ConfigPropertyChange getChange(String path) {
+        return this.changes.get(path);
+    }
+
+    /**
+     * Whether the property or any nested property of the specified path was changed, e.g. the change of "a.b[0]"
+     * affects "a", "a.b" and "a.b[0]"
+     *
+     * @param path the path of property
+     * @return <code>true</code> if changed
+     */
+    public boolean isChanged(String path) {
+        if (this.changes.containsKey(path)) {
+            return true;
+        }
+        for (String changedPath : this.changes.tailMap(path, false).keySet()) {
+            if (!changedPath.startsWith(path)) {
+                break;
+            }
+            char c = changedPath.charAt(path.length());
+            if (c == '.' || c == '[') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether no property was changed
+     *
+     * @return <code>true</code> if no change
+     */
+    public boolean isEmpty() {
+        return this.changes.isEmpty();
+    }
+
+    /**
+     * Get the number of changes
+     *
+     * @return the number of changes
+     */
+    public int size() {
+        return this.changes.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigChangeSet{" +
+                "changes=" + changes.values() +
+                '}';
+    }
+}
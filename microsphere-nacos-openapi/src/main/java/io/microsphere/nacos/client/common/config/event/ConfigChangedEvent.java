@@ -17,12 +17,15 @@
 package io.microsphere.nacos.client.common.config.event;
 
 import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.parser.ConfigParsers;
+import io.microsphere.nacos.client.common.config.parser.ParsedConfig;
 
 import java.util.EventObject;
 
 import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.Kind.CREATED;
 import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.Kind.DELETED;
 import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.Kind.MODIFIED;
+import static io.microsphere.nacos.client.common.config.parser.ConfigParsers.parseConfig;
 
 /**
  * The {@link EventObject Event} raised when the Nacos {@link Config} is changed
@@ -40,23 +43,88 @@ public class ConfigChangedEvent extends EventObject {
 
     private final Kind kind;
 
+    /**
+     * The {@link ConfigParsers} to parse the configs of {@link #getChangeSet()}, or <code>null</code> if not cached
+     */
+    private final transient ConfigParsers configParsers;
+
+    /**
+     * The key-level changes computed once on demand, guarded by this
+     */
+    private transient ConfigChangeSet changeSet;
+
+    private transient boolean changeSetResolved;
+
     protected ConfigChangedEvent(Config previous, Config current, Kind kind) {
+        this(previous, current, kind, null);
+    }
+
+    /**
+     * @param previous      the previous {@link Config}
+     * @param current       the current {@link Config}
+     * @param kind          {@link Kind}
+     * @param configParsers (optional) {@link ConfigParsers} caches the parsed configs of {@link #getChangeSet()}
+     */
+    protected ConfigChangedEvent(Config previous, Config current, Kind kind, ConfigParsers configParsers) {
         super(current == null ? previous : current);
         this.previous = previous;
         this.current = current;
         this.kind = kind;
+        this.configParsers = configParsers;
     }
 
     public static ConfigChangedEvent ofCreated(Config current) {
-        return new ConfigChangedEvent(null, current, CREATED);
+        return ofCreated(current, null);
+    }
+
+    public static ConfigChangedEvent ofCreated(Config current, ConfigParsers configParsers) {
+        return new ConfigChangedEvent(null, current, CREATED, configParsers);
     }
 
     public static ConfigChangedEvent ofModified(Config previous, Config current) {
-        return new ConfigChangedEvent(previous, current, MODIFIED);
+        return ofModified(previous, current, null);
+    }
+
+    public static ConfigChangedEvent ofModified(Config previous, Config current, ConfigParsers configParsers) {
+        return new ConfigChangedEvent(previous, current, MODIFIED, configParsers);
     }
 
     public static ConfigChangedEvent ofDeleted(Config previous) {
-        return new ConfigChangedEvent(previous, null, DELETED);
+        return ofDeleted(previous, null);
+    }
+
+    public static ConfigChangedEvent ofDeleted(Config previous, ConfigParsers configParsers) {
+        return new ConfigChangedEvent(previous, null, DELETED, configParsers);
+    }
+
+    /**
+     * Coalesce the successive events of the same {@link Config} into one event, which carries the
+     * {@link #getPrevious() previous} {@link Config} of the first event and the {@link #getCurrent() current}
+     * {@link Config} of the last event.
+     *
+     * @param first the first event
+     * @param last  the last event
+     * @return <code>null</code> if the {@link Config} is not changed eventually
+     */
+    public static ConfigChangedEvent coalesce(ConfigChangedEvent first, ConfigChangedEvent last) {
+        if (first == last) {
+            return first;
+        }
+        Config previous = first.getPrevious();
+        Config current = last.getCurrent();
+        ConfigParsers configParsers = last.configParsers;
+        if (previous == null) {
+            return current == null ? null : ofCreated(current, configParsers);
+        }
+        if (current == null) {
+            return ofDeleted(previous, configParsers);
+        }
+        String md5 = previous.getMd5();
+        if (md5 != null && md5.equals(current.getMd5())) {
+            // The Config was changed back
+            return null;
+        }
+        return ofModified(previous, current, configParsers);
     }
 
     /**
@@ -160,6 +228,56 @@ public class ConfigChangedEvent extends EventObject {
         return getConfig().getLastModifiedTime();
     }
 
+    /**
+     * Get the key-level {@link ConfigChangeSet} between the {@link #getPrevious() previous} and
+     * {@link #getCurrent() current} structured {@link Config configs}, which is computed once for the event and shared
+     * by all listeners.
+     *
+     * @return <code>null</code> if the {@link Config configs} are not structured or can't be parsed
+     */
+    public ConfigChangeSet getChangeSet() {
+        synchronized (this) {
+            if (!this.changeSetResolved) {
+                this.changeSet = createChangeSet();
+                this.changeSetResolved = true;
+            }
+            return this.changeSet;
+        }
+    }
+
+    /**
+     * Create the {@link ConfigChangeSet}, the {@link Config configs} are parsed as their own types by the
+     * {@link ConfigParsers} if present
+     *
+     * @return <code>null</code> if the {@link Config configs} are not structured or can't be parsed
+     */
+    protected ConfigChangeSet createChangeSet() {
+        ParsedConfig parsedPrevious;
+        ParsedConfig parsedCurrent;
+        try {
+            parsedPrevious = parse(this.previous);
+            parsedCurrent = parse(this.current);
+        } catch (RuntimeException e) {
+            // The ConfigType is not supported or the content is malformed
+            // TODO Log
+            return null;
+        }
+        return ConfigChangeSet.of(parsedPrevious, parsedCurrent);
+    }
+
+    private ParsedConfig parse(Config config) {
+        return this.configParsers == null ? parseConfig(config, null) : this.configParsers.parse(config, null);
+    }
+
+    /**
+     * Get the {@link ConfigParsers} that caches the parsed configs
+     *
+     * @return <code>null</code> if not present
+     */
+    protected ConfigParsers getConfigParsers() {
+        return this.configParsers;
+    }
+
     protected Config getConfig() {
         return this.current == null ? this.previous : this.current;
     }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.event;
+
+import io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.Kind;
+
+import java.util.Objects;
+
+/**
+ * The change of a property in the structured {@link ConfigChangedEvent#getPrevious() previous} and
+ * {@link ConfigChangedEvent#getCurrent() current} configs, the property is specified by its path, e.g. "a.b[0].c"
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigChangeSet
+ * @since 1.0.0
+ */
+public class ConfigPropertyChange {
+
+    private final String path;
+
+    private final Object previousValue;
+
+    private final Object currentValue;
+
+    private final Kind kind;
+
+    public ConfigPropertyChange(String path, Object previousValue, Object currentValue, Kind kind) {
+        this.path = path;
+        this.previousValue = previousValue;
+        this.currentValue = currentValue;
+        this.kind = kind;
+    }
+
+    /**
+     * Get the path of property
+     *
+     * @return non-null
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Get the previous value
+     *
+     * @return <code>null</code> if the property was {@link Kind#CREATED added}
+     */
+    public Object getPreviousValue() {
+        return previousValue;
+    }
+
+    /**
+     * Get the current value
+     *
+     * @return <code>null</code> if the property was {@link Kind#DELETED removed}
+     */
+    public Object getCurrentValue() {
+        return currentValue;
+    }
+
+    /**
+     * Get the {@link Kind} of change
+     *
+     * @return non-null
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ConfigPropertyChange)) return false;
+
+        ConfigPropertyChange that = (ConfigPropertyChange) o;
+        return Objects.equals(path, that.path) &&
+                Objects.equals(previousValue, that.previousValue) &&
+                Objects.equals(currentValue, that.currentValue) &&
+                kind == that.kind;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(path);
+        result = 31 * result + Objects.hashCode(previousValue);
+        result = 31 * result + Objects.hashCode(currentValue);
+        result = 31 * result + Objects.hashCode(kind);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigPropertyChange{" +
+                "path='" + path + '\'' +
+                ", previousValue=" + previousValue +
+                ", currentValue=" + currentValue +
+                ", kind=" + kind +
+                '}';
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.event;
+
+import io.microsphere.nacos.client.common.config.ConfigType;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.parser.ParsedConfig;
+
+import static io.microsphere.nacos.client.common.config.parser.ConfigParsers.resolveType;
+
+/**
+ * The {@link ConfigChangedEvent} carries the {@link ParsedConfig ParsedConfigs} of the previous and current
+ * {@link Config} parsed as the {@link ConfigType} of listener
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigChangedEvent
+ * @see ParsedConfig
+ * @see TypedConfigChangedListener
+ * @since 1.0.0
+ */
+public class TypedConfigChangedEvent extends ConfigChangedEvent {
+
+    private static final long serialVersionUID = 3816940269537158012L;
+
+    private final ConfigChangedEvent event;
+
+    private final ParsedConfig parsedPrevious;
+
+    private final ParsedConfig parsedCurrent;
+
+    public TypedConfigChangedEvent(ConfigChangedEvent event, ParsedConfig parsedPrevious, ParsedConfig parsedCurrent) {
+        super(event.getPrevious(), event.getCurrent(), event.getKind(), event.getConfigParsers());
+        this.event = event;
+        this.parsedPrevious = parsedPrevious;
+        this.parsedCurrent = parsedCurrent;
+    }
+
+    /**
+     * Get the previous {@link ParsedConfig}
+     *
+     * @return <code>null</code> if {@link #isCreated()}
+     */
+    public ParsedConfig getParsedPrevious() {
+        return parsedPrevious;
+    }
+
+    /**
+     * Get the current {@link ParsedConfig}
+     *
+     * @return <code>null</code> if {@link #isDeleted()}
+     */
+    public ParsedConfig getParsedCurrent() {
+        return parsedCurrent;
+    }
+
+    @Override
+    protected ConfigChangeSet createChangeSet() {
+        if (isParsedAsOwnType(this.parsedPrevious) && isParsedAsOwnType(this.parsedCurrent)) {
+            // Share the ConfigChangeSet of the source event
+            return this.event.getChangeSet();
+        }
+        return ConfigChangeSet.of(this.parsedPrevious, this.parsedCurrent);
+    }
+
+    private static boolean isParsedAsOwnType(ParsedConfig parsedConfig) {
+        return parsedConfig == null || parsedConfig.getType() == resolveType(parsedConfig.getConfig(), null);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.event;
+
+import io.microsphere.nacos.client.common.config.ConfigType;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.parser.ConfigParsers;
+import io.microsphere.nacos.client.common.config.parser.ParsedConfig;
+
+import java.util.Objects;
+
+import static io.microsphere.nacos.client.common.config.parser.ConfigParsers.parseConfig;
+
+/**
+ * The {@link ConfigChangedListener} adapts the {@link TypedConfigChangedListener}, the previous and current
+ * {@link Config configs} are parsed by the shared {@link ConfigParsers} if present, the adapters are equal if their
+ * {@link TypedConfigChangedListener listeners} and {@link ConfigType types} are equal.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see TypedConfigChangedListener
+ * @see ConfigChangedListener
+ * @see ConfigParsers
+ * @since 1.0.0
+ */
+public class TypedConfigChangedListenerAdapter implements ConfigChangedListener {
+
+    private final TypedConfigChangedListener listener;
+
+    private final ConfigType configType;
+
+    private final ConfigParsers configParsers;
+
+    /**
+     * @param listener      {@link TypedConfigChangedListener}
+     * @param configType    (optional) {@link ConfigType}, if not specified, the type of {@link Config} will be used.
+     * @param configParsers (optional) {@link ConfigParsers} caches the parsed configs
+     */
+    public TypedConfigChangedListenerAdapter(TypedConfigChangedListener listener, ConfigType configType,
+                                             ConfigParsers configParsers) {
+        Objects.requireNonNull(listener, "The 'listener' argument must not be null!");
+        this.listener = listener;
+        this.configType = configType;
+        this.configParsers = configParsers;
+    }
+
+    @Override
+    public void onEvent(ConfigChangedEvent event) {
+        ParsedConfig parsedPrevious = parse(event.getPrevious());
+        ParsedConfig parsedCurrent = parse(event.getCurrent());
+        this.listener.onEvent(new TypedConfigChangedEvent(event, parsedPrevious, parsedCurrent));
+    }
+
+    private ParsedConfig parse(Config config) {
+        return this.configParsers == null ? parseConfig(config, this.configType) :
+                this.configParsers.parse(config, this.configType);
+    }
+
+    /**
+     * Get the adapted {@link TypedConfigChangedListener}
+     *
+     * @return non-null
+     */
+    public TypedConfigChangedListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Get the {@link ConfigType} to parse
+     *
+     * @return <code>null</code> if the type of {@link Config} is used
+     */
+    public ConfigType getConfigType() {
+        return configType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TypedConfigChangedListenerAdapter)) return false;
+
+        TypedConfigChangedListenerAdapter that = (TypedConfigChangedListenerAdapter) o;
+        return listener.equals(that.listener) && configType == that.configType;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * listener.hashCode() + Objects.hashCode(configType);
+    }
+
+    @Override
+    public String toString() {
+        return "TypedConfigChangedListenerAdapter{" +
+                "listener=" + listener +
+                ", configType=" + configType +
+                '}';
+    }
+}
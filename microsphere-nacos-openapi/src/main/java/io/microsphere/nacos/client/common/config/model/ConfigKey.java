@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.model;
+
+import io.microsphere.nacos.client.common.model.Model;
+import io.microsphere.nacos.client.common.namespace.model.Namespace;
+
+import java.util.Objects;
+
+/**
+ * The immutable key of Nacos Configuration : namespaceId, group and dataId, the blank namespaceId is normalized to
+ * <code>null</code>, which presents the default namespace.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see Config
+ * @since 1.0.0
+ */
+public final class ConfigKey implements Model {
+
+    private static final long serialVersionUID = -1526438745016376416L;
+
+    private final String namespaceId;
+
+    private final String group;
+
+    private final String dataId;
+
+    private transient int hash;
+
+    private ConfigKey(String namespaceId, String group, String dataId) {
+        this.namespaceId = namespaceId == null || namespaceId.isEmpty() ? null : namespaceId;
+        this.group = group;
+        this.dataId = dataId;
+    }
+
+    /**
+     * Create an instance of {@link ConfigKey}
+     *
+     * @param namespaceId {@link Namespace#getNamespaceId() the id of namespace}, a.k.a the "tenant" (optional).
+     * @param group       the group of {@link Config}
+     * @param dataId      the data id of {@link Config}
+     * @return non-null
+     */
+    public static ConfigKey of(String namespaceId, String group, String dataId) {
+        return new ConfigKey(namespaceId, group, dataId);
+    }
+
+    /**
+     * Create an instance of {@link ConfigKey} from the specified {@link BaseConfig}
+     *
+     * @param config {@link BaseConfig}
+     * @return non-null
+     */
+    public static ConfigKey of(BaseConfig config) {
+        return of(config.getNamespaceId(), config.getGroup(), config.getDataId());
+    }
+
+    public String getNamespaceId() {
+        return namespaceId;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public String getDataId() {
+        return dataId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ConfigKey)) return false;
+
+        ConfigKey that = (ConfigKey) o;
+        return Objects.equals(dataId, that.dataId) &&
+                Objects.equals(group, that.group) &&
+                Objects.equals(namespaceId, that.namespaceId);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if (result == 0) {
+            result = Objects.hashCode(namespaceId);
+            result = 31 * result + Objects.hashCode(group);
+            result = 31 * result + Objects.hashCode(dataId);
+            hash = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigKey{" +
+                "namespaceId='" + namespaceId + '\'' +
+                ", group='" + group + '\'' +
+                ", dataId='" + dataId + '\'' +
+                '}';
+    }
+}
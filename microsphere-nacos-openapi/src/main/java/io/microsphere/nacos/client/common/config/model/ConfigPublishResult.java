@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.model;
+
+import io.microsphere.nacos.client.common.config.ConfigClient;
+import io.microsphere.nacos.client.common.model.Model;
+
+import java.util.Collection;
+
+/**
+ * The {@link Model model} {@link Class} for the result of publishing a {@link NewConfig} in bulk
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigClient#publishConfigs(Collection)
+ * @see NewConfig
+ * @since 1.0.0
+ */
+public final class ConfigPublishResult implements Model {
+
+    private static final long serialVersionUID = 3204768513529374612L;
+
+    /**
+     * The status of publishing
+     */
+    public enum Status {
+
+        /**
+         * The config was published
+         */
+        PUBLISHED,
+
+        /**
+         * The config was skipped, because its content is unchanged
+         */
+        UNCHANGED,
+
+        /**
+         * The config failed to be published
+         */
+        FAILED
+    }
+
+    private final ConfigKey configKey;
+
+    private final Status status;
+
+    private final String md5;
+
+    private final long elapsedTime;
+
+    private final Throwable failure;
+
+    private ConfigPublishResult(ConfigKey configKey, Status status, String md5, long elapsedTime, Throwable failure) {
+        this.configKey = configKey;
+        this.status = status;
+        this.md5 = md5;
+        this.elapsedTime = elapsedTime;
+        this.failure = failure;
+    }
+
+    /**
+     * Create an instance of {@link ConfigPublishResult} for the published config
+     *
+     * @param configKey   {@link ConfigKey}
+     * @param md5         the MD5 of the published content
+     * @param elapsedTime the elapsed time in milliseconds
+     * @return non-null
+     */
+    public static ConfigPublishResult ofPublished(ConfigKey configKey, String md5, long elapsedTime) {
+        return new ConfigPublishResult(configKey, Status.PUBLISHED, md5, elapsedTime, null);
+    }
+
+    /**
+     * Create an instance of {@link ConfigPublishResult} for the unchanged config
+     *
+     * @param configKey   {@link ConfigKey}
+     * @param md5         the MD5 of the unchanged content
+     * @param elapsedTime the elapsed time in milliseconds
+     * @return non-null
+     */
+    public static ConfigPublishResult ofUnchanged(ConfigKey configKey, String md5, long elapsedTime) {
+        return new ConfigPublishResult(configKey, Status.UNCHANGED, md5, elapsedTime, null);
+    }
+
+    /**
+     * Create an instance of {@link ConfigPublishResult} for the config failed to be published
+     *
+     * @param configKey   {@link ConfigKey}
+     * @param md5         the MD5 of the content
+     * @param elapsedTime the elapsed time in milliseconds
+     * @param failure     the failure, <code>null</code> if the server rejected the config
+     * @return non-null
+     */
+    public static ConfigPublishResult ofFailed(ConfigKey configKey, String md5, long elapsedTime, Throwable failure) {
+        return new ConfigPublishResult(configKey, Status.FAILED, md5, elapsedTime, failure);
+    }
+
+    public ConfigKey getConfigKey() {
+        return configKey;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Get the MD5 of the content
+     *
+     * @return <code>null</code> if the content is <code>null</code>
+     */
+    public String getMd5() {
+        return md5;
+    }
+
+    /**
+     * Get the elapsed time in milliseconds
+     *
+     * @return the elapsed time in milliseconds
+     */
+    public long getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * Get the failure
+     *
+     * @return <code>null</code> if not failed or the server rejected the config
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public boolean isPublished() {
+        return status == Status.PUBLISHED;
+    }
+
+    public boolean isUnchanged() {
+        return status == Status.UNCHANGED;
+    }
+
+    public boolean isFailed() {
+        return status == Status.FAILED;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigPublishResult{" +
+                "configKey=" + configKey +
+                ", status=" + status +
+                ", md5='" + md5 + '\'' +
+                ", elapsedTime=" + elapsedTime +
+                ", failure=" + failure +
+                '}';
+    }
+}
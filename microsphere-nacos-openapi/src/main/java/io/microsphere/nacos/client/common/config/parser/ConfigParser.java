@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.parser;
+
+import io.microsphere.nacos.client.common.config.ConfigType;
+import io.microsphere.nacos.client.common.config.model.Config;
+
+import java.util.ServiceLoader;
+
+/**
+ * The parser of the {@link Config#getContent() content of Config} for a {@link ConfigType}, the implementations
+ * could be loaded by {@link ServiceLoader Java SPI}, which override the built-in ones for the same {@link ConfigType}.
+ * <p>
+ * The parsed value must be immutable, because it's cached and shared by all readers and listeners, the recommended
+ * structure is the tree of the unmodifiable {@link java.util.Map}, {@link java.util.List} and the scalar values.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigType
+ * @see ConfigParsers
+ * @since 1.0.0
+ */
+public interface ConfigParser {
+
+    /**
+     * The supported {@link ConfigType}
+     *
+     * @return non-null
+     */
+    ConfigType getType();
+
+    /**
+     * Parse the content of {@link Config}
+     *
+     * @param content the content of {@link Config}
+     * @return the immutable parsed value
+     * @throws Exception if the content is malformed
+     */
+    Object parse(String content) throws Exception;
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.parser;
+
+import io.microsphere.nacos.client.common.config.ConfigType;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.transport.OpenApiClientException;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+import static io.microsphere.nacos.client.ErrorCode.DESERIALIZATION_ERROR;
+import static io.microsphere.nacos.client.common.config.ConfigType.TEXT;
+import static java.util.ServiceLoader.load;
+
+/**
+ * The registry of {@link ConfigParser ConfigParsers} and the bounded cache of {@link ParsedConfig ParsedConfigs},
+ * the content of each MD5 is parsed once, and the least recently used {@link ParsedConfig ParsedConfigs} are evicted
+ * if the size of cache is exceeded.
+ * <p>
+ * The built-in {@link ConfigParser ConfigParsers} support {@link ConfigType#TEXT}, {@link ConfigType#JSON} and
+ * {@link ConfigType#PROPERTIES}, the others, e.g. {@link ConfigType#YAML}, could be plugged in by
+ * {@link ServiceLoader Java SPI}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigParser
+ * @see ParsedConfig
+ * @since 1.0.0
+ */
+public class ConfigParsers {
+
+    private static final Map<ConfigType, ConfigParser> parsers = loadParsers();
+
+    private final int cacheSize;
+
+    /**
+     * The cache of parsed values in the access order, guarded by itself
+     */
+    private final Map<String, ParsingValue> cache;
+
+    /**
+     * @param cacheSize the maximum number of the cached values, the cache is disabled if it's not greater than 0
+     */
+    public ConfigParsers(int cacheSize) {
+        this.cacheSize = cacheSize;
+        this.cache = new LinkedHashMap<String, ParsingValue>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ParsingValue> eldest) {
+                return size() > ConfigParsers.this.cacheSize;
+            }
+        };
+    }
+
+    private static Map<ConfigType, ConfigParser> loadParsers() {
+        Map<ConfigType, ConfigParser> parsers = new EnumMap<>(ConfigType.class);
+        register(parsers, new TextConfigParser());
+        register(parsers, new JsonConfigParser());
+        register(parsers, new PropertiesConfigParser());
+        // The SPI overrides the built-in
+        for (ConfigParser parser : load(ConfigParser.class)) {
+            register(parsers, parser);
+        }
+        return parsers;
+    }
+
+    private static void register(Map<ConfigType, ConfigParser> parsers, ConfigParser parser) {
+        parsers.put(parser.getType(), parser);
+    }
+
+    /**
+     * Get the {@link ConfigParser} of the specified {@link ConfigType}
+     *
+     * @param configType {@link ConfigType}
+     * @return non-null
+     * @throws IllegalArgumentException if the {@link ConfigType} is not supported
+     */
+    public static ConfigParser getParser(ConfigType configType) throws IllegalArgumentException {
+        ConfigParser parser = parsers.get(configType);
+        if (parser == null) {
+            throw new IllegalArgumentException("No ConfigParser was found for the ConfigType : " + configType);
+        }
+        return parser;
+    }
+
+    /**
+     * Resolve the {@link ConfigType} to parse the {@link Config}
+     *
+     * @param config     {@link Config}
+     * @param configType (optional) {@link ConfigType}, if not specified, {@link Config#getType()} or
+     *                   {@link ConfigType#TEXT} will be used.
+     * @return non-null
+     */
+    public static ConfigType resolveType(Config config, ConfigType configType) {
+        if (configType != null) {
+            return configType;
+        }
+        ConfigType type = config == null ? null : config.getType();
+        return type == null ? TEXT : type;
+    }
+
+    /**
+     * Parse the {@link Config} without the cache
+     *
+     * @param config     {@link Config}
+     * @param configType (optional) {@link ConfigType}
+     * @return <code>null</code> if {@link Config} is <code>null</code>
+     * @throws IllegalArgumentException if the {@link ConfigType} is not supported
+     * @throws OpenApiClientException   if the content is malformed
+     */
+    public static ParsedConfig parseConfig(Config config, ConfigType configType) throws IllegalArgumentException,
+            OpenApiClientException {
+        if (config == null) {
+            return null;
+        }
+        ConfigType type = resolveType(config, configType);
+        return new ParsedConfig(config, type, doParse(getParser(type), config));
+    }
+
+    /**
+     * Parse the {@link Config}, the parsed value is cached by the MD5 of {@link Config}
+     *
+     * @param config     {@link Config}
+     * @param configType (optional) {@link ConfigType}
+     * @return <code>null</code> if {@link Config} is <code>null</code>
+     * @throws IllegalArgumentException if the {@link ConfigType} is not supported
+     * @throws OpenApiClientException   if the content is malformed
+     */
+    public ParsedConfig parse(Config config, ConfigType configType) throws IllegalArgumentException,
+            OpenApiClientException {
+        if (config == null) {
+            return null;
+        }
+        String md5 = config.getMd5();
+        if (md5 == null || this.cacheSize < 1) {
+            return parseConfig(config, configType);
+        }
+        ConfigType type = resolveType(config, configType);
+        ConfigParser parser = getParser(type);
+        String cacheKey = type.name() + ":" + md5;
+        ParsingValue parsingValue;
+        synchronized (this.cache) {
+            parsingValue = this.cache.computeIfAbsent(cacheKey, key -> new ParsingValue());
+        }
+        try {
+            return new ParsedConfig(config, type, parsingValue.get(parser, config));
+        } catch (OpenApiClientException e) {
+            // The failure is not cached
+            synchronized (this.cache) {
+                this.cache.remove(cacheKey, parsingValue);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Get the size of cache
+     *
+     * @return the number of the cached values
+     */
+    public int size() {
+        synchronized (this.cache) {
+            return this.cache.size();
+        }
+    }
+
+    private static Object doParse(ConfigParser parser, Config config) throws OpenApiClientException {
+        String content = config.getContent();
+        if (content == null) {
+            return null;
+        }
+        try {
+            return parser.parse(content);
+        } catch (Throwable e) {
+            String message = String.format("The content of Config[namespaceId : '%s' , group : '%s' , dataId : '%s'] can't be parsed as %s",
+                    config.getNamespaceId(), config.getGroup(), config.getDataId(), parser.getType());
+            throw new OpenApiClientException(DESERIALIZATION_ERROR, message, e);
+        }
+    }
+
+    /**
+     * The value is parsed once by the first caller, the others wait for it
+     */
+    static class ParsingValue {
+
+        private boolean parsed;
+
+        private Object value;
+
+        synchronized Object get(ConfigParser parser, Config config) throws OpenApiClientException {
+            if (!parsed) {
+                value = doParse(parser, config);
+                parsed = true;
+            }
+            return value;
+        }
+    }
+}
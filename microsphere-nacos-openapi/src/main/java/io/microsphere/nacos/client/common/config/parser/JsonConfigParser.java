@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.parser;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import io.microsphere.nacos.client.common.config.ConfigType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.microsphere.nacos.client.common.config.ConfigType.JSON;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * The {@link ConfigParser} for {@link ConfigType#JSON}, the content is parsed into the tree of the unmodifiable
+ * {@link Map}, {@link List}, {@link String}, {@link Number} and {@link Boolean}
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigParser
+ * @since 1.0.0
+ */
+public class JsonConfigParser implements ConfigParser {
+
+    @Override
+    public ConfigType getType() {
+        return JSON;
+    }
+
+    @Override
+    public Object parse(String content) {
+        return toValue(JsonParser.parseString(content));
+    }
+
+    private Object toValue(JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return null;
+        } else if (element.isJsonObject()) {
+            JsonObject object = element.getAsJsonObject();
+            Map<String, Object> map = new LinkedHashMap<>(object.size());
+            for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                map.put(entry.getKey(), toValue(entry.getValue()));
+            }
+            return unmodifiableMap(map);
+        } else if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            List<Object> list = new ArrayList<>(array.size());
+            for (JsonElement e : array) {
+                list.add(toValue(e));
+            }
+            return unmodifiableList(list);
+        }
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean();
+        } else if (primitive.isNumber()) {
+            return primitive.getAsNumber();
+        }
+        return primitive.getAsString();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.parser;
+
+import io.microsphere.nacos.client.common.config.ConfigType;
+import io.microsphere.nacos.client.common.config.model.Config;
+
+import java.util.Map;
+
+/**
+ * The {@link Config} with its immutable value parsed by the {@link ConfigParser} of {@link ConfigType}, which is
+ * shared by all readers and listeners of the same content.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see Config
+ * @see ConfigParser
+ * @since 1.0.0
+ */
+public class ParsedConfig {
+
+    private final Config config;
+
+    private final ConfigType type;
+
+    private final Object value;
+
+    public ParsedConfig(Config config, ConfigType type, Object value) {
+        this.config = config;
+        this.type = type;
+        this.value = value;
+    }
+
+    /**
+     * Get the source {@link Config}
+     *
+     * @return non-null
+     */
+    public Config getConfig() {
+        return config;
+    }
+
+    /**
+     * Get the {@link ConfigType} that the content was parsed as
+     *
+     * @return non-null
+     */
+    public ConfigType getType() {
+        return type;
+    }
+
+    /**
+     * Get the MD5 of the source {@link Config}
+     *
+     * @return the MD5 of the source {@link Config}
+     */
+    public String getMd5() {
+        return config.getMd5();
+    }
+
+    /**
+     * Get the immutable parsed value
+     *
+     * @param <T> the type of value
+     * @return the parsed value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getValue() {
+        return (T) value;
+    }
+
+    /**
+     * Get the property from the parsed {@link Map} value, the nested property is specified by the dotted name,
+     * e.g. "a.b.c"
+     *
+     * @param name the name of property
+     * @param <T>  the type of property
+     * @return <code>null</code> if not found
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getProperty(String name) {
+        return (T) getProperty(value, name);
+    }
+
+    private static Object getProperty(Object value, String name) {
+        if (!(value instanceof Map)) {
+            return null;
+        }
+        Map<?, ?> map = (Map<?, ?>) value;
+        Object property = map.get(name);
+        if (property != null) {
+            return property;
+        }
+        int index = name.indexOf('.');
+        while (index > 0) {
+            Object child = map.get(name.substring(0, index));
+            if (child != null) {
+                property = getProperty(child, name.substring(index + 1));
+                if (property != null) {
+                    return property;
+                }
+            }
+            index = name.indexOf('.', index + 1);
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "ParsedConfig{" +
+                "config=" + config +
+                ", type=" + type +
+                ", value=" + value +
+                '}';
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.parser;
+
+import io.microsphere.nacos.client.common.config.ConfigType;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static io.microsphere.nacos.client.common.config.ConfigType.PROPERTIES;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * The {@link ConfigParser} for {@link ConfigType#PROPERTIES}, the content is parsed into the unmodifiable
+ * {@link Map} whose keys are sorted
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigParser
+ * @see Properties
+ * @since 1.0.0
+ */
+public class PropertiesConfigParser implements ConfigParser {
+
+    @Override
+    public ConfigType getType() {
+        return PROPERTIES;
+    }
+
+    @Override
+    public Object parse(String content) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new StringReader(content));
+        Map<String, String> map = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            map.put(name, properties.getProperty(name));
+        }
+        return unmodifiableMap(map);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.parser;
+
+import io.microsphere.nacos.client.common.config.ConfigType;
+
+import static io.microsphere.nacos.client.common.config.ConfigType.TEXT;
+
+/**
+ * The {@link ConfigParser} for {@link ConfigType#TEXT}, the content is returned as is
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigParser
+ * @since 1.0.0
+ */
+public class TextConfigParser implements ConfigParser {
+
+    @Override
+    public ConfigType getType() {
+        return TEXT;
+    }
+
+    @Override
+    public Object parse(String content) {
+        return content;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.replication;
+
+/**
+ * The snapshot of the progress of {@link ConfigCloner}
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigCloner
+ * @since 1.0.0
+ */
+public final class ConfigCloneProgress {
+
+    private final long readCount;
+
+    private final long skippedCount;
+
+    private final long publishedCount;
+
+    private final long unchangedCount;
+
+    private final long failedCount;
+
+    private final int totalPages;
+
+    private final int completedPageNumber;
+
+    private final long elapsedTime;
+
+    private final boolean finished;
+
+    private final Throwable failure;
+
+    ConfigCloneProgress(long readCount, long skippedCount, long publishedCount, long unchangedCount, long failedCount,
+                        int totalPages, int completedPageNumber, long elapsedTime, boolean finished, Throwable failure) {
+        this.readCount = readCount;
+        this.skippedCount = skippedCount;
+        this.publishedCount = publishedCount;
+        this.unchangedCount = unchangedCount;
+        this.failedCount = failedCount;
+        this.totalPages = totalPages;
+        this.completedPageNumber = completedPageNumber;
+        this.elapsedTime = elapsedTime;
+        this.finished = finished;
+        this.failure = failure;
+    }
+
+    /**
+     * Get the number of the configs read from the source
+     *
+     * @return the number of the read configs
+     */
+    public long getReadCount() {
+        return readCount;
+    }
+
+    /**
+     * Get the number of the configs skipped by the transformer
+     *
+     * @return the number of the skipped configs
+     */
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    /**
+     * Get the number of the configs published into the target
+     *
+     * @return the number of the published configs
+     */
+    public long getPublishedCount() {
+        return publishedCount;
+    }
+
+    /**
+     * Get the number of the configs unchanged in the target
+     *
+     * @return the number of the unchanged configs
+     */
+    public long getUnchangedCount() {
+        return unchangedCount;
+    }
+
+    /**
+     * Get the number of the configs failed to be published
+     *
+     * @return the number of the failed configs
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Get the number of total pages in the source
+     *
+     * @return -1 if unknown
+     */
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    /**
+     * Get the number of the last page, all configs of which and its previous pages were cloned, the clone could be
+     * resumed from the next page by {@link ConfigCloner#cloneConfigs(int)}.
+     *
+     * @return 0 if no page was completed
+     */
+    public int getCompletedPageNumber() {
+        return completedPageNumber;
+    }
+
+    /**
+     * Get the elapsed time in milliseconds
+     *
+     * @return the elapsed time in milliseconds
+     */
+    public long getElapsedTime() {
+        return elapsedTime;
+    }
+
+    /**
+     * Get the throughput of the processed configs per second
+     *
+     * @return the configs per second
+     */
+    public double getThroughput() {
+        long processedCount = skippedCount + publishedCount + unchangedCount + failedCount;
+        return elapsedTime < 1 ? 0 : processedCount * 1000.0 / elapsedTime;
+    }
+
+    /**
+     * Whether the clone was finished, successfully or not
+     *
+     * @return <code>true</code> if finished
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Whether all pages were cloned without any failure
+     *
+     * @return <code>true</code> if completed
+     */
+    public boolean isCompleted() {
+        return finished && failure == null && failedCount == 0 && completedPageNumber >= totalPages;
+    }
+
+    /**
+     * Get the failure that aborted the clone
+     *
+     * @return <code>null</code> if not aborted
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigCloneProgress{" +
+                "readCount=" + readCount +
+                ", skippedCount=" + skippedCount +
+                ", publishedCount=" + publishedCount +
+                ", unchangedCount=" + unchangedCount +
+                ", failedCount=" + failedCount +
+                ", totalPages=" + totalPages +
+                ", completedPageNumber=" + completedPageNumber +
+                ", elapsedTime=" + elapsedTime +
+                ", finished=" + finished +
+                ", failure=" + failure +
+                '}';
+    }
+}
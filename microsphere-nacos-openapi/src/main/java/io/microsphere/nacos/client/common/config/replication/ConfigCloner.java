@@ -0,0 +1,480 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.replication;
+
+import io.microsphere.nacos.client.common.config.ConfigClient;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import io.microsphere.nacos.client.common.config.model.ConfigPublishResult;
+import io.microsphere.nacos.client.common.config.model.NewConfig;
+import io.microsphere.nacos.client.common.model.Page;
+import io.microsphere.nacos.client.common.namespace.NamespaceClient;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static io.microsphere.nacos.client.common.config.ConfigClient.DEFAULT_PAGE_SIZE;
+import static io.microsphere.nacos.client.common.config.ConfigClient.MAX_PAGE_SIZE;
+
+/**
+ * The cloner copies all {@link Config configs} of a namespace from the source {@link ConfigClient} into another
+ * namespace of the target one, which may point at another Nacos cluster, the target namespace should be created
+ * beforehand, e.g, by {@link NamespaceClient#createNamespace(String, String)}.
+ * <p>
+ * The clone is pipelined, three stages run concurrently :
+ * <ol>
+ *     <li>the reader thread searches the configs page by page</li>
+ *     <li>the transformer thread applies the optional {@link #setTransformer(Function) transformer}</li>
+ *     <li>the caller thread publishes them in batches by {@link ConfigClient#publishConfigs(Collection)}</li>
+ * </ol>
+ * The stages are connected by the bounded queues, so the faster stages are blocked by the slower ones rather than
+ * buffering the whole namespace in memory. The {@link ConfigCloneProgress progress} is reported after each batch, if
+ * the clone failed, it could be resumed by {@link #cloneConfigs(int)} from the page following
+ * {@link ConfigCloneProgress#getCompletedPageNumber() the completed one}, the configs unchanged in the target are
+ * skipped by their MD5s anyway.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigClient#searchConfigs(String, String, String, boolean, int, int)
+ * @see ConfigClient#publishConfigs(Collection)
+ * @see ConfigCloneProgress
+ * @since 1.0.0
+ */
+public class ConfigCloner {
+
+    /**
+     * The default capacity of the queues between the stages
+     */
+    public static final int DEFAULT_QUEUE_CAPACITY = 2 * MAX_PAGE_SIZE;
+
+    private final ConfigClient sourceConfigClient;
+
+    private final ConfigClient targetConfigClient;
+
+    private final String sourceNamespaceId;
+
+    private final String targetNamespaceId;
+
+    private volatile Function<NewConfig, NewConfig> transformer = Function.identity();
+
+    private volatile Consumer<ConfigCloneProgress> progressListener = progress -> {
+    };
+
+    private volatile int batchSize = DEFAULT_PAGE_SIZE;
+
+    private volatile int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+    /**
+     * @param sourceConfigClient the source {@link ConfigClient}
+     * @param targetConfigClient the target {@link ConfigClient}
+     * @param sourceNamespaceId  (optional) the id of source namespace
+     * @param targetNamespaceId  (optional) the id of target namespace
+     */
+    public ConfigCloner(ConfigClient sourceConfigClient, ConfigClient targetConfigClient, String sourceNamespaceId,
+                        String targetNamespaceId) {
+        Objects.requireNonNull(sourceConfigClient, "The 'sourceConfigClient' argument must not be null!");
+        Objects.requireNonNull(targetConfigClient, "The 'targetConfigClient' argument must not be null!");
+        this.sourceConfigClient = sourceConfigClient;
+        this.targetConfigClient = targetConfigClient;
+        this.sourceNamespaceId = sourceNamespaceId;
+        this.targetNamespaceId = targetNamespaceId;
+    }
+
+    /**
+     * Clone all configs from the first page
+     *
+     * @return the final {@link ConfigCloneProgress progress}
+     * @see #cloneConfigs(int)
+     */
+    public ConfigCloneProgress cloneConfigs() {
+        return cloneConfigs(1);
+    }
+
+    /**
+     * Clone the configs from the specified page in the caller thread until all pages are done or any stage is failed,
+     * the failure is not thrown, but presented by {@link ConfigCloneProgress#getFailure()}.
+     *
+     * @param startPageNumber the number of page to start with, starts with 1
+     * @return the final {@link ConfigCloneProgress progress}
+     */
+    public ConfigCloneProgress cloneConfigs(int startPageNumber) {
+        if (startPageNumber < 1) {
+            throw new IllegalArgumentException("The argument 'startPageNumber' must be greater than 0");
+        }
+        int queueCapacity = this.queueCapacity;
+        CloneContext context = new CloneContext(startPageNumber, this.transformer, this.progressListener);
+        BlockingQueue<Item> readQueue = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Item> writeQueue = new ArrayBlockingQueue<>(queueCapacity);
+        Thread reader = newThread(() -> read(context, readQueue), "ConfigCloner-Reader");
+        Thread transformer = newThread(() -> transform(context, readQueue, writeQueue), "ConfigCloner-Transformer");
+        try {
+            reader.start();
+            transformer.start();
+            write(context, writeQueue);
+        } finally {
+            // Stop the stages if the writing was aborted
+            reader.interrupt();
+            transformer.interrupt();
+        }
+        return context.getProgress();
+    }
+
+    private void read(CloneContext context, BlockingQueue<Item> readQueue) {
+        Throwable failure = null;
+        try {
+            int pageNumber = context.startPageNumber;
+            Page<Config> page;
+            do {
+                page = this.sourceConfigClient.searchConfigs(this.sourceNamespaceId, null, null, false, pageNumber,
+                        MAX_PAGE_SIZE);
+                context.totalPages = page.getTotalPages();
+                List<Config> configs = page.getElements();
+                int size = configs.size();
+                context.readCount.addAndGet(size);
+                if (size == 0) {
+                    readQueue.put(new Item(pageNumber, null, true));
+                }
+                for (int i = 0; i < size; i++) {
+                    readQueue.put(new Item(pageNumber, toNewConfig(configs.get(i)), i == size - 1));
+                }
+            } while (pageNumber++ < page.getTotalPages() && page.getNumberOfElements() > 0);
+        } catch (InterruptedException e) {
+            // Aborted by the writer
+            return;
+        } catch (Throwable e) {
+            failure = e;
+        }
+        end(readQueue, failure);
+    }
+
+    private void transform(CloneContext context, BlockingQueue<Item> readQueue, BlockingQueue<Item> writeQueue) {
+        Throwable failure = null;
+        try {
+            Item item;
+            while ((item = readQueue.take()).pageNumber > 0) {
+                if (item.newConfig != null) {
+                    NewConfig newConfig = context.transformer.apply(item.newConfig);
+                    item.skipped = newConfig == null;
+                    item.newConfig = newConfig;
+                }
+                writeQueue.put(item);
+            }
+            // Forward the end of reading
+            failure = item.failure;
+        } catch (InterruptedException e) {
+            // Aborted by the writer
+            return;
+        } catch (Throwable e) {
+            failure = e;
+        }
+        end(writeQueue, failure);
+    }
+
+    private void write(CloneContext context, BlockingQueue<Item> writeQueue) {
+        int batchSize = this.batchSize;
+        List<Item> batch = new ArrayList<>(batchSize);
+        try {
+            while (true) {
+                batch.add(writeQueue.take());
+                writeQueue.drainTo(batch, batchSize - 1);
+                Item last = batch.get(batch.size() - 1);
+                boolean ended = last.pageNumber < 1;
+                if (ended) {
+                    batch.remove(batch.size() - 1);
+                }
+                publish(context, batch);
+                batch.clear();
+                if (ended) {
+                    context.finish(last.failure);
+                    return;
+                }
+                context.report();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            context.finish(e);
+        } catch (Throwable e) {
+            context.finish(e);
+        }
+    }
+
+    private void publish(CloneContext context, List<Item> batch) {
+        Map<ConfigKey, NewConfig> newConfigs = new LinkedHashMap<>(batch.size());
+        for (Item item : batch) {
+            if (!item.skipped && item.newConfig != null) {
+                newConfigs.put(ConfigKey.of(item.newConfig), item.newConfig);
+            }
+        }
+        Map<ConfigKey, ConfigPublishResult> results = newConfigs.isEmpty() ? null :
+                this.targetConfigClient.publishConfigs(newConfigs.values());
+        for (Item item : batch) {
+            if (item.skipped) {
+                context.skippedCount++;
+                context.completeItem(item);
+                continue;
+            }
+            if (item.newConfig == null) {
+                // The empty page
+                context.completeItem(item);
+                continue;
+            }
+            ConfigPublishResult result = results.get(ConfigKey.of(item.newConfig));
+            if (result == null || result.isFailed()) {
+                context.failedCount++;
+                context.failPage(item.pageNumber);
+            } else if (result.isPublished()) {
+                context.publishedCount++;
+            } else {
+                context.unchangedCount++;
+            }
+            context.completeItem(item);
+        }
+    }
+
+    private void end(BlockingQueue<Item> queue, Throwable failure) {
+        Item end = new Item(0, null, true);
+        end.failure = failure;
+        try {
+            queue.put(end);
+        } catch (InterruptedException e) {
+            // Aborted by the writer
+        }
+    }
+
+    private NewConfig toNewConfig(Config config) {
+        NewConfig newConfig = new NewConfig();
+        newConfig.setNamespaceId(this.targetNamespaceId);
+        newConfig.setGroup(config.getGroup());
+        newConfig.setDataId(config.getDataId());
+        newConfig.setContent(config.getContent());
+        newConfig.setType(config.getType());
+        newConfig.setAppName(config.getAppName());
+        newConfig.setDescription(config.getDescription());
+        newConfig.setTags(config.getTags());
+        newConfig.setUse(config.getUse());
+        newConfig.setEffect(config.getEffect());
+        newConfig.setSchema(config.getSchema());
+        newConfig.setOperator(config.getOperator());
+        return newConfig;
+    }
+
+    private static Thread newThread(Runnable task, String name) {
+        Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Get the transformer of the configs
+     *
+     * @return non-null
+     */
+    public Function<NewConfig, NewConfig> getTransformer() {
+        return transformer;
+    }
+
+    /**
+     * Set the transformer that rewrites the config before publishing, e.g, replacing the environment-specific content,
+     * the config is skipped if the transformer returns <code>null</code>.
+     *
+     * @param transformer the transformer of the configs
+     */
+    public void setTransformer(Function<NewConfig, NewConfig> transformer) {
+        Objects.requireNonNull(transformer, "The 'transformer' argument must not be null!");
+        this.transformer = transformer;
+    }
+
+    /**
+     * Get the listener of the progress
+     *
+     * @return non-null
+     */
+    public Consumer<ConfigCloneProgress> getProgressListener() {
+        return progressListener;
+    }
+
+    /**
+     * Set the listener of the progress, which is notified in the caller thread after each batch and at the end
+     *
+     * @param progressListener the listener of the progress
+     */
+    public void setProgressListener(Consumer<ConfigCloneProgress> progressListener) {
+        Objects.requireNonNull(progressListener, "The 'progressListener' argument must not be null!");
+        this.progressListener = progressListener;
+    }
+
+    /**
+     * Get the maximum number of the configs published in one batch
+     *
+     * @return greater than 0
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Set the maximum number of the configs published in one batch
+     *
+     * @param batchSize the maximum number of the configs published in one batch, must be greater than 0
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The argument 'batchSize' must be greater than 0");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Get the capacity of the queues between the stages
+     *
+     * @return greater than 0
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Set the capacity of the queues between the stages
+     *
+     * @param queueCapacity the capacity of the queues between the stages, must be greater than 0
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("The argument 'queueCapacity' must be greater than 0");
+        }
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * The config passing through the stages, the one with non-positive page number marks the end
+     */
+    private static class Item {
+
+        private final int pageNumber;
+
+        private final boolean lastOfPage;
+
+        /**
+         * The config to publish, <code>null</code> if the page is empty or it was skipped by the transformer
+         */
+        private NewConfig newConfig;
+
+        private boolean skipped;
+
+        private Throwable failure;
+
+        private Item(int pageNumber, NewConfig newConfig, boolean lastOfPage) {
+            this.pageNumber = pageNumber;
+            this.newConfig = newConfig;
+            this.lastOfPage = lastOfPage;
+        }
+    }
+
+    /**
+     * The state of one clone, the counts except the read one are only updated by the writer
+     */
+    private static class CloneContext {
+
+        private final int startPageNumber;
+
+        private final Function<NewConfig, NewConfig> transformer;
+
+        private final Consumer<ConfigCloneProgress> progressListener;
+
+        private final long startTime;
+
+        private final AtomicLong readCount;
+
+        private volatile int totalPages = -1;
+
+        private long skippedCount;
+
+        private long publishedCount;
+
+        private long unchangedCount;
+
+        private long failedCount;
+
+        private int completedPageNumber;
+
+        /**
+         * The number of the first page having the failed configs, 0 if none
+         */
+        private int failedPageNumber;
+
+        private boolean finished;
+
+        private Throwable failure;
+
+        private CloneContext(int startPageNumber, Function<NewConfig, NewConfig> transformer,
+                             Consumer<ConfigCloneProgress> progressListener) {
+            this.startPageNumber = startPageNumber;
+            this.transformer = transformer;
+            this.progressListener = progressListener;
+            this.startTime = System.currentTimeMillis();
+            this.readCount = new AtomicLong();
+            this.completedPageNumber = startPageNumber - 1;
+        }
+
+        private void completeItem(Item item) {
+            if (item.lastOfPage) {
+                completePage(item.pageNumber);
+            }
+        }
+
+        private void completePage(int pageNumber) {
+            // Only the contiguous pages without any failure are completed
+            if (this.failedPageNumber == 0) {
+                this.completedPageNumber = pageNumber;
+            }
+        }
+
+        private void failPage(int pageNumber) {
+            if (this.failedPageNumber == 0) {
+                this.failedPageNumber = pageNumber;
+            }
+        }
+
+        private void finish(Throwable failure) {
+            this.finished = true;
+            this.failure = failure;
+            report();
+        }
+
+        private void report() {
+            try {
+                this.progressListener.accept(getProgress());
+            } catch (Throwable e) {
+                // TODO Log
+            }
+        }
+
+        private ConfigCloneProgress getProgress() {
+            return new ConfigCloneProgress(this.readCount.get(), this.skippedCount, this.publishedCount,
+                    this.unchangedCount, this.failedCount, this.totalPages, this.completedPageNumber,
+                    System.currentTimeMillis() - this.startTime, this.finished, this.failure);
+        }
+    }
+}
@@ -0,0 +1,492 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.replication;
+
+import io.microsphere.nacos.client.common.config.ConfigClient;
+import io.microsphere.nacos.client.common.config.event.ConfigChangedEvent;
+import io.microsphere.nacos.client.common.config.event.ConfigChangedListener;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import io.microsphere.nacos.client.common.config.model.ConfigPublishResult;
+import io.microsphere.nacos.client.common.config.model.NewConfig;
+import io.microsphere.nacos.client.common.model.Page;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.microsphere.nacos.client.common.config.ConfigClient.DEFAULT_PAGE_SIZE;
+import static io.microsphere.nacos.client.common.config.ConfigClient.MAX_PAGE_SIZE;
+import static io.microsphere.nacos.client.constants.Constants.DEFAULT_GROUP_NAME;
+import static io.microsphere.nacos.client.util.StringUtils.isBlank;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The replicator mirrors the {@link Config configs} of a group, whose data ids start with a prefix, from the source
+ * {@link ConfigClient} to the target one, which may point at another Nacos cluster.
+ * <p>
+ * After {@link #start() started}, all matched configs are copied in bulk once, then the changes are listened by the
+ * {@link ConfigClient#addPrefixEventListener(String, String, String, ConfigChangedListener) prefix listener} of the
+ * source, the successive changes of the same config are coalesced, and they are replicated in batches every
+ * {@link #getFlushInterval() flush interval} by {@link ConfigClient#publishConfigs(Collection)}, thus the writes are
+ * concurrent but bounded, and the unchanged configs are skipped by their MD5s. The failed ones are retried in the next
+ * round unless a newer change arrives.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigClient#addPrefixEventListener(String, String, String, ConfigChangedListener)
+ * @see ConfigClient#publishConfigs(Collection)
+ * @since 1.0.0
+ */
+public class ConfigReplicator implements AutoCloseable {
+
+    /**
+     * The default flush interval in milliseconds
+     */
+    public static final long DEFAULT_FLUSH_INTERVAL = 1000;
+
+    private static final String WILDCARD = "*";
+
+    private final ConfigClient sourceConfigClient;
+
+    private final ConfigClient targetConfigClient;
+
+    private final String sourceNamespaceId;
+
+    private final String targetNamespaceId;
+
+    private final String group;
+
+    private final String dataIdPrefix;
+
+    private final ConfigChangedListener listener;
+
+    /**
+     * The pending changes with the data id as the key, the deleted config is presented by the change without config
+     */
+    private final ConcurrentMap<String, PendingChange> pendingChanges;
+
+    private final AtomicLong replicatedCount;
+
+    private final AtomicLong unchangedCount;
+
+    private final AtomicLong failedCount;
+
+    private final AtomicLong lastLag;
+
+    private final AtomicLong maxLag;
+
+    private volatile int batchSize = DEFAULT_PAGE_SIZE;
+
+    private volatile long flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+    /**
+     * The scheduler of flushing, guarded by this
+     */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Whether it was closed, guarded by this
+     */
+    private boolean closed;
+
+    /**
+     * @param sourceConfigClient the source {@link ConfigClient}
+     * @param targetConfigClient the target {@link ConfigClient}
+     * @param sourceNamespaceId  (optional) the id of source namespace
+     * @param targetNamespaceId  (optional) the id of target namespace
+     * @param group              (optional) the group of configs, if not specified, the "DEFAULT_GROUP" will be used.
+     * @param dataIdPrefix       (optional) the prefix of data ids, if not specified, all configs of the group are
+     *                           replicated.
+     */
+    public ConfigReplicator(ConfigClient sourceConfigClient, ConfigClient targetConfigClient, String sourceNamespaceId,
+                            String targetNamespaceId, String group, String dataIdPrefix) {
+        this(sourceConfigClient, targetConfigClient, sourceNamespaceId, targetNamespaceId, group, dataIdPrefix,
+                new ConcurrentHashMap<>());
+    }
+
+    ConfigReplicator(ConfigClient sourceConfigClient, ConfigClient targetConfigClient, String sourceNamespaceId,
+                     String targetNamespaceId, String group, String dataIdPrefix,
+                     ConcurrentMap<String, PendingChange> pendingChanges) {
+        Objects.requireNonNull(sourceConfigClient, "The 'sourceConfigClient' argument must not be null!");
+        Objects.requireNonNull(targetConfigClient, "The 'targetConfigClient' argument must not be null!");
+        this.sourceConfigClient = sourceConfigClient;
+        this.targetConfigClient = targetConfigClient;
+        this.sourceNamespaceId = sourceNamespaceId;
+        this.targetNamespaceId = targetNamespaceId;
+        this.group = isBlank(group) ? DEFAULT_GROUP_NAME : group;
+        this.dataIdPrefix = dataIdPrefix == null ? "" : dataIdPrefix;
+        this.listener = this::onEvent;
+        this.pendingChanges = pendingChanges;
+        this.replicatedCount = new AtomicLong();
+        this.unchangedCount = new AtomicLong();
+        this.failedCount = new AtomicLong();
+        this.lastLag = new AtomicLong();
+        this.maxLag = new AtomicLong();
+    }
+
+    /**
+     * Start the replication : listen the changes of the source, copy all matched configs in the caller thread, then
+     * replicate the changes periodically.
+     *
+     * @throws IllegalStateException if it was started or closed
+     */
+    public void start() {
+        synchronized (this) {
+            if (this.closed || this.scheduler != null) {
+                throw new IllegalStateException("The ConfigReplicator has been started or closed!");
+            }
+            this.scheduler = newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "ConfigReplicator");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        // The changes during the bulk copy are pending until it's done
+        this.sourceConfigClient.addPrefixEventListener(this.sourceNamespaceId, this.group, this.dataIdPrefix, this.listener);
+        copyAll();
+        long flushInterval = Math.max(1, this.flushInterval);
+        synchronized (this) {
+            if (!this.closed) {
+                this.scheduler.scheduleWithFixedDelay(this::flush, 0, flushInterval, MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Copy all matched configs page by page
+     */
+    private void copyAll() {
+        boolean blur = !this.dataIdPrefix.isEmpty();
+        String dataId = blur ? this.dataIdPrefix + WILDCARD : "";
+        int pageNumber = 1;
+        Page<Config> page;
+        do {
+            page = this.sourceConfigClient.searchConfigs(this.sourceNamespaceId, this.group, dataId, blur, pageNumber,
+                    MAX_PAGE_SIZE);
+            long detectedTime = System.currentTimeMillis();
+            List<PendingChange> changes = new ArrayList<>(page.getNumberOfElements());
+            for (Config config : page.getElements()) {
+                if (matches(config.getGroup(), config.getDataId())) {
+                    changes.add(new PendingChange(config.getDataId(), config, detectedTime));
+                }
+            }
+            retry(replicate(changes));
+        } while (pageNumber++ < page.getTotalPages() && page.getNumberOfElements() > 0);
+    }
+
+    private boolean matches(String group, String dataId) {
+        // The fuzzy search may match more
+        return this.group.equals(group) && dataId != null && dataId.startsWith(this.dataIdPrefix);
+    }
+
+    private void onEvent(ConfigChangedEvent event) {
+        String dataId = event.getDataId();
+        if (!matches(event.getGroup(), dataId)) {
+            return;
+        }
+        long detectedTime = System.currentTimeMillis();
+        Config config = event.isDeleted() ? null : event.getCurrent();
+        // The latest change wins, the lag is measured since the first pending one
+        this.pendingChanges.merge(dataId, new PendingChange(dataId, config, detectedTime),
+                (previous, current) -> new PendingChange(dataId, config, previous.detectedTime));
+    }
+
+    /**
+     * Replicate the pending changes in batches
+     */
+    private void flush() {
+        List<PendingChange> failedChanges = new ArrayList<>();
+        try {
+            List<PendingChange> changes;
+            while (!(changes = pollPendingChanges()).isEmpty()) {
+                failedChanges.addAll(replicate(changes));
+            }
+        } catch (Throwable e) {
+            // Catch any exception, try again in the next round
+            // TODO Log
+        } finally {
+            retry(failedChanges);
+        }
+    }
+
+    private List<PendingChange> pollPendingChanges() {
+        int batchSize = Math.max(1, this.batchSize);
+        List<PendingChange> changes = new ArrayList<>(Math.min(batchSize, this.pendingChanges.size()));
+        Iterator<Map.Entry<String, PendingChange>> iterator = this.pendingChanges.entrySet().iterator();
+        while (changes.size() < batchSize && iterator.hasNext()) {
+            Map.Entry<String, PendingChange> entry = iterator.next();
+            PendingChange change = entry.getValue();
+            // The change merged after it was iterated stays pending for the next poll
+            if (this.pendingChanges.remove(entry.getKey(), change)) {
+                changes.add(change);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Replicate the changes into the target
+     *
+     * @param changes the changes
+     * @return the failed changes
+     */
+    private List<PendingChange> replicate(List<PendingChange> changes) {
+        List<PendingChange> failedChanges = new ArrayList<>();
+        Map<ConfigKey, PendingChange> publishingChanges = new LinkedHashMap<>();
+        List<NewConfig> newConfigs = new ArrayList<>(changes.size());
+        for (PendingChange change : changes) {
+            if (change.config == null) {
+                delete(change, failedChanges);
+            } else {
+                NewConfig newConfig = toNewConfig(change.config);
+                publishingChanges.put(ConfigKey.of(newConfig), change);
+                newConfigs.add(newConfig);
+            }
+        }
+        if (newConfigs.isEmpty()) {
+            return failedChanges;
+        }
+        Map<ConfigKey, ConfigPublishResult> results;
+        try {
+            results = this.targetConfigClient.publishConfigs(newConfigs);
+        } catch (RuntimeException e) {
+            // TODO Log
+            this.failedCount.addAndGet(newConfigs.size());
+            failedChanges.addAll(publishingChanges.values());
+            return failedChanges;
+        }
+        for (Map.Entry<ConfigKey, PendingChange> entry : publishingChanges.entrySet()) {
+            PendingChange change = entry.getValue();
+            ConfigPublishResult result = results.get(entry.getKey());
+            if (result == null || result.isFailed()) {
+                this.failedCount.incrementAndGet();
+                failedChanges.add(change);
+            } else {
+                (result.isPublished() ? this.replicatedCount : this.unchangedCount).incrementAndGet();
+                recordLag(change);
+            }
+        }
+        return failedChanges;
+    }
+
+    private void delete(PendingChange change, List<PendingChange> failedChanges) {
+        try {
+            if (this.targetConfigClient.deleteConfig(this.targetNamespaceId, this.group, change.dataId)) {
+                this.replicatedCount.incrementAndGet();
+                recordLag(change);
+                return;
+            }
+        } catch (RuntimeException e) {
+            // TODO Log
+        }
+        this.failedCount.incrementAndGet();
+        failedChanges.add(change);
+    }
+
+    private void retry(List<PendingChange> failedChanges) {
+        for (PendingChange change : failedChanges) {
+            // The newer change is preferred
+            this.pendingChanges.putIfAbsent(change.dataId, change);
+        }
+    }
+
+    private void recordLag(PendingChange change) {
+        long lag = System.currentTimeMillis() - change.detectedTime;
+        this.lastLag.set(lag);
+        this.maxLag.accumulateAndGet(lag, Math::max);
+    }
+
+    private NewConfig toNewConfig(Config config) {
+        NewConfig newConfig = new NewConfig();
+        newConfig.setNamespaceId(this.targetNamespaceId);
+        newConfig.setGroup(this.group);
+        newConfig.setDataId(config.getDataId());
+        newConfig.setContent(config.getContent());
+        newConfig.setType(config.getType());
+        newConfig.setAppName(config.getAppName());
+        newConfig.setDescription(config.getDescription());
+        newConfig.setTags(config.getTags());
+        newConfig.setUse(config.getUse());
+        newConfig.setEffect(config.getEffect());
+        newConfig.setSchema(config.getSchema());
+        newConfig.setOperator(config.getOperator());
+        return newConfig;
+    }
+
+    /**
+     * Stop listening and replicating, the pending changes are discarded
+     */
+    @Override
+    public void close() {
+        ScheduledExecutorService scheduler;
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            scheduler = this.scheduler;
+        }
+        if (scheduler != null) {
+            this.sourceConfigClient.removePrefixEventListener(this.sourceNamespaceId, this.group, this.dataIdPrefix,
+                    this.listener);
+            scheduler.shutdownNow();
+        }
+        this.pendingChanges.clear();
+    }
+
+    /**
+     * Get the maximum number of the configs replicated in one batch
+     *
+     * @return greater than 0
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Set the maximum number of the configs replicated in one batch
+     *
+     * @param batchSize the maximum number of the configs replicated in one batch, must be greater than 0
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The argument 'batchSize' must be greater than 0");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Get the interval in milliseconds between the flushes of the pending changes
+     *
+     * @return greater than 0
+     */
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * Set the interval in milliseconds between the flushes of the pending changes, which takes effect on the start
+     *
+     * @param flushInterval the interval in milliseconds, must be greater than 0
+     */
+    public void setFlushInterval(long flushInterval) {
+        if (flushInterval < 1) {
+            throw new IllegalArgumentException("The argument 'flushInterval' must be greater than 0");
+        }
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Get the number of the configs that were published or deleted in the target
+     *
+     * @return the number of the replicated configs
+     */
+    public long getReplicatedCount() {
+        return replicatedCount.get();
+    }
+
+    /**
+     * Get the number of the configs that were skipped, because they are unchanged in the target
+     *
+     * @return the number of the unchanged configs
+     */
+    public long getUnchangedCount() {
+        return unchangedCount.get();
+    }
+
+    /**
+     * Get the number of the failed attempts of replication
+     *
+     * @return the number of the failed attempts
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Get the number of the pending changes
+     *
+     * @return the number of the pending changes
+     */
+    public int getPendingCount() {
+        return pendingChanges.size();
+    }
+
+    /**
+     * Get the lag in milliseconds of the last replicated change, from it was detected to it was replicated
+     *
+     * @return the lag in milliseconds, 0 if none was replicated
+     */
+    public long getLastLag() {
+        return lastLag.get();
+    }
+
+    /**
+     * Get the maximum lag in milliseconds of the replicated changes
+     *
+     * @return the lag in milliseconds, 0 if none was replicated
+     */
+    public long getMaxLag() {
+        return maxLag.get();
+    }
+
+    /**
+     * Get the current lag in milliseconds, which is the age of the oldest pending change
+     *
+     * @return the lag in milliseconds, 0 if no change is pending
+     */
+    public long getPendingLag() {
+        long oldestDetectedTime = Long.MAX_VALUE;
+        for (PendingChange change : this.pendingChanges.values()) {
+            oldestDetectedTime = Math.min(oldestDetectedTime, change.detectedTime);
+        }
+        return oldestDetectedTime == Long.MAX_VALUE ? 0 : Math.max(0, System.currentTimeMillis() - oldestDetectedTime);
+    }
+
+    /**
+     * The pending change of a config
+     */
+    static class PendingChange {
+
+        private final String dataId;
+
+        /**
+         * The config to publish, or <code>null</code> if deleted
+         */
+        private final Config config;
+
+        /**
+         * The time in milliseconds when the change was detected
+         */
+        private final long detectedTime;
+
+        private PendingChange(String dataId, Config config, long detectedTime) {
+            this.dataId = dataId;
+            this.config = config;
+            this.detectedTime = detectedTime;
+        }
+    }
+}
@@ -30,7 +30,11 @@ import io.microsphere.nacos.client.common.discovery.model.UpdateInstance;
 import io.microsphere.nacos.client.common.namespace.model.Namespace;
 import io.microsphere.nacos.client.constants.Constants;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static io.microsphere.nacos.client.common.discovery.ConsistencyType.EPHEMERAL;
 import static io.microsphere.nacos.client.constants.Constants.DEFAULT_APPLICATION_NAME;
@@ -591,6 +595,81 @@ public interface InstanceClient extends Client {
     InstancesList getInstancesList(String namespaceId, String groupName, String clusterName, String serviceName,
                                    String ip, Integer port, Boolean healthyOnly, String app);
 
+    /**
+     * Get the {@link Instance instances} that match the specified {@code filter} of the specified {@code namespaceId},
+     * {@code groupName}, {@code clusterName}, {@code serviceName} and {@code healthyOnly}
+     *
+     * @param namespaceId (optional) {@link Namespace#getNamespaceId() the id of namespace}, if not specified,
+     *                    the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace} will be used.
+     * @param groupName   (optional) the name of group, if not specified, the {@link Constants#DEFAULT_GROUP_NAME "DEFAULT_GROUP"} will be used.
+     * @param clusterName (optional) the name of cluster, if not specified, the {@link Constants#DEFAULT_CLUSTER_NAME "DEFAULT" cluster} will be used.
+     * @param serviceName the name of {@link Service}.
+     * @param healthyOnly (optional) the healthy only, if not specified, {@link Constants#DEFAULT_HEALTHY_ONLY false} will be used
+     * @param filter      (optional) the filter of {@link Instance}, if not specified, all instances will be accepted
+     * @return non-null {@link List} of the accepted {@link Instance instances}
+     * @see #visitInstances(String, String, String, String, Boolean, Predicate, Consumer)
+     * @see InstanceFilters
+     */
+    default List<Instance> getInstances(String namespaceId, String groupName, String clusterName, String serviceName,
+                                        Boolean healthyOnly, Predicate<? super Instance> filter) {
+        List<Instance> instances = new ArrayList<>();
+        visitInstances(namespaceId, groupName, clusterName, serviceName, healthyOnly, filter, instances::add);
+        return instances;
+    }
+
+    /**
+     * Visit the {@link Instance instances} of the specified {@code namespaceId}, {@code groupName}, {@code clusterName}
+     * and {@code serviceName}
+     *
+     * @param namespaceId (optional) {@link Namespace#getNamespaceId() the id of namespace}, if not specified,
+     *                    the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace} will be used.
+     * @param groupName   (optional) the name of group, if not specified, the {@link Constants#DEFAULT_GROUP_NAME "DEFAULT_GROUP"} will be used.
+     * @param clusterName (optional) the name of cluster, if not specified, the {@link Constants#DEFAULT_CLUSTER_NAME "DEFAULT" cluster} will be used.
+     * @param serviceName the name of {@link Service}.
+     * @param consumer    the consumer of {@link Instance}
+     * @return the count of visited {@link Instance instances}
+     * @see #visitInstances(String, String, String, String, Boolean, Predicate, Consumer)
+     */
+    default int visitInstances(String namespaceId, String groupName, String clusterName, String serviceName,
+                               Consumer<? super Instance> consumer) {
+        return visitInstances(namespaceId, groupName, clusterName, serviceName, DEFAULT_HEALTHY_ONLY, null, consumer);
+    }
+
+    /**
+     * Visit the {@link Instance instances} that match the specified {@code filter} of the specified {@code namespaceId},
+     * {@code groupName}, {@code clusterName}, {@code serviceName} and {@code healthyOnly}.
+     * <p>
+     * The implementation is expected to parse the instances incrementally, so that the instances rejected by the
+     * {@code filter} are never materialized, and the {@code filter} may observe a transient {@link Instance} that must not
+     * be retained, the {@code consumer} receives the stable copies.
+     *
+     * @param namespaceId (optional) {@link Namespace#getNamespaceId() the id of namespace}, if not specified,
+     *                    the {@link Constants#DEFAULT_NAMESPACE_ID "public" namespace} will be used.
+     * @param groupName   (optional) the name of group, if not specified, the {@link Constants#DEFAULT_GROUP_NAME "DEFAULT_GROUP"} will be used.
+     * @param clusterName (optional) the name of cluster, if not specified, the {@link Constants#DEFAULT_CLUSTER_NAME "DEFAULT" cluster} will be used.
+     * @param serviceName the name of {@link Service}.
+     * @param healthyOnly (optional) the healthy only, if not specified, {@link Constants#DEFAULT_HEALTHY_ONLY false} will be used
+     * @param filter      (optional) the filter of {@link Instance}, if not specified, all instances will be accepted
+     * @param consumer    the consumer of the accepted {@link Instance}
+     * @return the count of the accepted {@link Instance instances}
+     * @see InstanceFilters
+     */
+    default int visitInstances(String namespaceId, String groupName, String clusterName, String serviceName,
+                               Boolean healthyOnly, Predicate<? super Instance> filter, Consumer<? super Instance> consumer) {
+        InstancesList instancesList = getInstancesList(namespaceId, groupName, clusterName, serviceName, healthyOnly);
+        List<Instance> hosts = instancesList == null ? null : instancesList.getHosts();
+        int count = 0;
+        if (hosts != null) {
+            for (Instance host : hosts) {
+                if (filter == null || filter.test(host)) {
+                    consumer.accept(host);
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
     /**
      * Send {@link Instance Instance's} Heartbeat to Nacos Server
      *
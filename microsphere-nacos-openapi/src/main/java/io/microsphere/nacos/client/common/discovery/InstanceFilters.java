@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.discovery;
+
+import io.microsphere.nacos.client.common.discovery.model.Instance;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static java.lang.Boolean.TRUE;
+
+/**
+ * The factory of the {@link Instance} filters for
+ * {@link InstanceClient#visitInstances(String, String, String, String, Boolean, Predicate, Consumer)}
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see InstanceClient
+ * @see Instance
+ * @since 1.0.0
+ */
+public abstract class InstanceFilters {
+
+    /**
+     * The filter accepts the healthy {@link Instance instances}
+     *
+     * @return non-null
+     */
+    public static Predicate<Instance> healthy() {
+        return instance -> TRUE.equals(instance.getHealthy());
+    }
+
+    /**
+     * The filter accepts the enabled {@link Instance instances}
+     *
+     * @return non-null
+     */
+    public static Predicate<Instance> enabled() {
+        return instance -> TRUE.equals(instance.getEnabled());
+    }
+
+    /**
+     * The filter accepts the {@link Instance instances} in the specified cluster
+     *
+     * @param clusterName the name of cluster
+     * @return non-null
+     */
+    public static Predicate<Instance> inCluster(String clusterName) {
+        return instance -> Objects.equals(clusterName, instance.getClusterName());
+    }
+
+    /**
+     * The filter accepts the {@link Instance instances} whose metadata contains the specified key and value
+     *
+     * @param key   the key of metadata
+     * @param value the value of metadata, if <code>null</code>, only the presence of key will be checked
+     * @return non-null
+     */
+    public static Predicate<Instance> hasMetadata(String key, String value) {
+        return instance -> {
+            Map<String, String> metadata = instance.getMetadata();
+            if (metadata == null) {
+                return false;
+            }
+            return value == null ? metadata.containsKey(key) : value.equals(metadata.get(key));
+        };
+    }
+}
@@ -19,8 +19,11 @@ package io.microsphere.nacos.client.common.discovery;
 import io.microsphere.nacos.client.Client;
 import io.microsphere.nacos.client.common.discovery.model.Service;
 import io.microsphere.nacos.client.common.model.Page;
+import io.microsphere.nacos.client.common.model.PageIterator;
 import io.microsphere.nacos.client.common.namespace.model.Namespace;
 
+import java.util.stream.Stream;
+
 import static io.microsphere.nacos.client.constants.Constants.PAGE_NUMBER;
 import static io.microsphere.nacos.client.constants.Constants.PAGE_SIZE;
 
@@ -207,4 +210,30 @@ public interface ServiceClient extends Client {
      */
     Page<String> getServiceNames(String namespaceId, String groupName, int pageNumber, int pageSize);
 
+    /**
+     * Iterate all service names by the specified namespaceId and groupName, the pages are fetched lazily, and the
+     * next ones are prefetched in the background.
+     *
+     * @param namespaceId the id of {@link Namespace}
+     * @param groupName   the name of group (optional)
+     * @param pageSize    the expected size of one page
+     * @param parallelism the maximum number of the pages prefetched in the background, 0 means no prefetching
+     * @return non-null {@link PageIterator}, which should be closed if it is not exhausted
+     */
+    default PageIterator<String> iterateServiceNames(String namespaceId, String groupName, int pageSize, int parallelism) {
+        return new PageIterator<>(pageNumber -> getServiceNames(namespaceId, groupName, pageNumber, pageSize), parallelism);
+    }
+
+    /**
+     * Get the {@link Stream} of all service names by the specified namespaceId and groupName, the next page is
+     * prefetched in the background.
+     *
+     * @param namespaceId the id of {@link Namespace}
+     * @param groupName   the name of group (optional)
+     * @return non-null {@link Stream}, which should be closed if it is not consumed entirely
+     */
+    default Stream<String> streamServiceNames(String namespaceId, String groupName) {
+        return iterateServiceNames(namespaceId, groupName, PAGE_SIZE, 1).stream();
+    }
+
 }
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.discovery.io;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.microsphere.nacos.client.common.discovery.InstanceClient;
+import io.microsphere.nacos.client.common.discovery.model.Instance;
+import io.microsphere.nacos.client.common.discovery.model.InstancesList;
+import io.microsphere.nacos.client.common.model.Result;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static io.microsphere.nacos.client.util.MapUtils.immutableMap;
+import static io.microsphere.nacos.client.util.ModelUtils.completeInstance;
+
+/**
+ * The reader parses the "hosts" array of {@link InstancesList} JSON incrementally, each {@link Instance} is parsed
+ * into a reusable instance for the filter, only the accepted ones are copied and pushed into the consumer, thus the
+ * memory use scales with the output instead of the input.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see InstancesList
+ * @see InstanceClient#visitInstances(String, String, String, String, Boolean, Predicate, Consumer)
+ * @since 1.0.0
+ */
+public class InstancesReader implements Closeable {
+
+    private static final String HOSTS_MEMBER_NAME = "hosts";
+
+    private static final String RESULT_DATA_MEMBER_NAME = "data";
+
+    private final JsonReader reader;
+
+    private final boolean resultWrapped;
+
+    /**
+     * @param reader        the {@link Reader} of JSON
+     * @param resultWrapped whether the {@link InstancesList} is wrapped by {@link Result}
+     */
+    public InstancesReader(Reader reader, boolean resultWrapped) {
+        this.reader = new JsonReader(reader);
+        this.reader.setLenient(true);
+        this.resultWrapped = resultWrapped;
+    }
+
+    /**
+     * Read the {@link Instance instances}
+     *
+     * @param namespaceId the namespace id to complete the {@link Instance}
+     * @param groupName   the group name to complete the {@link Instance}
+     * @param serviceName the service name to complete the {@link Instance}
+     * @param filter      the filter of {@link Instance}
+     * @param consumer    the consumer of accepted {@link Instance}
+     * @return the count of accepted {@link Instance instances}
+     * @throws IOException if I/O error or the JSON is malformed
+     */
+    public int read(String namespaceId, String groupName, String serviceName, Predicate<? super Instance> filter,
+                    Consumer<? super Instance> consumer) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return 0;
+        }
+        reader.beginObject();
+        int count = 0;
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (resultWrapped && RESULT_DATA_MEMBER_NAME.equals(name) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                reader.beginObject();
+                count += readHosts(namespaceId, groupName, serviceName, filter, consumer);
+                reader.endObject();
+            } else if (!resultWrapped && HOSTS_MEMBER_NAME.equals(name)) {
+                count += readInstances(namespaceId, groupName, serviceName, filter, consumer);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return count;
+    }
+
+    private int readHosts(String namespaceId, String groupName, String serviceName, Predicate<? super Instance> filter,
+                          Consumer<? super Instance> consumer) throws IOException {
+        int count = 0;
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (HOSTS_MEMBER_NAME.equals(name)) {
+                count += readInstances(namespaceId, groupName, serviceName, filter, consumer);
+            } else {
+                reader.skipValue();
+            }
+        }
+        return count;
+    }
+
+    private int readInstances(String namespaceId, String groupName, String serviceName, Predicate<? super Instance> filter,
+                              Consumer<? super Instance> consumer) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_ARRAY) {
+            reader.skipValue();
+            return 0;
+        }
+        int count = 0;
+        Instance instance = new Instance();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            reset(instance);
+            readInstance(instance);
+            completeInstance(instance, namespaceId, groupName, serviceName);
+            if (filter == null || filter.test(instance)) {
+                consumer.accept(new Instance().from(instance));
+                count++;
+            }
+        }
+        reader.endArray();
+        return count;
+    }
+
+    private void readInstance(Instance instance) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "namespaceId":
+                    instance.setNamespaceId(reader.nextString());
+                    break;
+                case "clusterName":
+                    instance.setClusterName(reader.nextString());
+                    break;
+                case "groupName":
+                    instance.setGroupName(reader.nextString());
+                    break;
+                case "serviceName":
+                    instance.setServiceName(reader.nextString());
+                    break;
+                case "ip":
+                    instance.setIp(reader.nextString());
+                    break;
+                case "port":
+                    instance.setPort(reader.nextInt());
+                    break;
+                case "ephemeral":
+                    instance.setEphemeral(nextBoolean());
+                    break;
+                case "enabled":
+                    instance.setEnabled(nextBoolean());
+                    break;
+                case "weight":
+                    instance.setWeight(reader.nextDouble());
+                    break;
+                case "metadata":
+                    instance.setMetadata(nextMetadata());
+                    break;
+                case "healthy":
+                    instance.setHealthy(nextBoolean());
+                    break;
+                case "instanceId":
+                    instance.setInstanceId(reader.nextString());
+                    break;
+                case "service":
+                    instance.setService(reader.nextString());
+                    break;
+                case "valid":
+                    instance.setValid(nextBoolean());
+                    break;
+                case "marked":
+                    instance.setMarked(nextBoolean());
+                    break;
+                case "instanceIdGenerator":
+                    instance.setInstanceIdGenerator(reader.nextString());
+                    break;
+                case "instanceHeartBeatInterval":
+                    instance.setInstanceHeartBeatInterval(reader.nextLong());
+                    break;
+                case "instanceHeartBeatTimeOut":
+                    instance.setInstanceHeartBeatTimeOut(reader.nextLong());
+                    break;
+                case "ipDeleteTimeout":
+                    instance.setIpDeleteTimeout(reader.nextLong());
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+    }
+
+    private Boolean nextBoolean() throws IOException {
+        if (reader.peek() == JsonToken.STRING) {
+            return Boolean.valueOf(reader.nextString());
+        }
+        return reader.nextBoolean();
+    }
+
+    private Map<String, String> nextMetadata() throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return null;
+        }
+        Map<String, String> metadata = new LinkedHashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            String value = null;
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+            } else {
+                value = reader.nextString();
+            }
+            metadata.put(key, value);
+        }
+        reader.endObject();
+        return immutableMap(metadata);
+    }
+
+    private void reset(Instance instance) {
+        instance.setNamespaceId(null);
+        instance.setClusterName(null);
+        instance.setGroupName(null);
+        instance.setServiceName(null);
+        instance.setIp(null);
+        instance.setPort(0);
+        instance.setEphemeral(null);
+        instance.setEnabled(null);
+        instance.setWeight(null);
+        instance.setMetadata(null);
+        instance.setHealthy(null);
+        instance.setInstanceId(null);
+        instance.setService(null);
+        instance.setValid(null);
+        instance.setMarked(null);
+        instance.setInstanceIdGenerator(null);
+        instance.setInstanceHeartBeatInterval(null);
+        instance.setInstanceHeartBeatTimeOut(null);
+        instance.setIpDeleteTimeout(null);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.discovery.io;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.annotations.JsonAdapter;
+import io.microsphere.nacos.client.common.discovery.model.Instance;
+import io.microsphere.nacos.client.io.GsonDeserializer;
+import io.microsphere.nacos.client.util.MapUtils;
+
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.microsphere.nacos.client.util.MapUtils.immutableMap;
+
+/**
+ * The {@link GsonDeserializer} class for {@link Instance#getMetadata() the metadata of instance}, which is bound to
+ * the field by {@link JsonAdapter} rather than registered for all {@link Map maps}, the result is the compact
+ * immutable {@link Map}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see Instance#getMetadata()
+ * @see MapUtils#immutableMap(Map)
+ * @see GsonDeserializer
+ * @since 1.0.0
+ */
+public class MetadataDeserializer extends GsonDeserializer<Map<String, String>> {
+
+    @Override
+    protected Map<String, String> deserialize(JsonElement json, Type typeOfT) throws JsonParseException {
+        if (!json.isJsonObject()) {
+            throw new JsonParseException("The metadata must be a JSON object : " + json);
+        }
+        JsonObject jsonObject = json.getAsJsonObject();
+        Map<String, String> metadata = new LinkedHashMap<>(jsonObject.size());
+        for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
+            String key = entry.getKey();
+            metadata.put(key, getString(jsonObject, key));
+        }
+        return immutableMap(metadata);
+    }
+}
@@ -76,13 +76,13 @@ public abstract class BaseInstance extends DiscoverableModel {
      * @return {@link BaseInstance}
      */
     public BaseInstance from(BaseInstance that) {
-        this.namespaceId = that.namespaceId;
-        this.clusterName = that.clusterName;
-        this.groupName = that.groupName;
-        this.serviceName = that.serviceName;
-        this.ip = that.ip;
-        this.port = that.port;
-        this.ephemeral = that.ephemeral;
+        this.namespaceId = that.getNamespaceId();
+        this.clusterName = that.getClusterName();
+        this.groupName = that.getGroupName();
+        this.serviceName = that.getServiceName();
+        this.ip = that.getIp();
+        this.port = that.getPort();
+        this.ephemeral = that.getEphemeral();
         return this;
     }
 
@@ -0,0 +1,711 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.discovery.model;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import static io.microsphere.nacos.client.util.MapUtils.immutableMap;
+
+/**
+ * The compact and read-only snapshot of {@link Instance Instances}, e.g. {@link InstancesList#getHosts()}.
+ * <p>
+ * The properties of the {@link Instance Instances} are stored column by column in the primitive arrays :
+ * <ul>
+ *     <li>The IP addresses are packed into {@code long} values, the ports into {@code int} values</li>
+ *     <li>The {@link Boolean} flags are packed into a {@link BitSet}</li>
+ *     <li>The {@link String strings} and the metadata are interned, only the indexes are stored per instance</li>
+ * </ul>
+ * The elements are the read-only flyweight views of {@link Instance} created on demand, which do not retain any
+ * property, thus the memory footprint of the snapshot is far less than the {@link List} of {@link Instance Instances}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see Instance
+ * @see InstancesList#compact()
+ * @since 1.0.0
+ */
+public class CompactInstances extends AbstractList<Instance> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = -2637450713024806373L;
+
+    private static final int NULL_INDEX = -1;
+
+    /**
+     * The index represents the instance id that is derived from the other properties : "ip#port#clusterName#service"
+     */
+    private static final int DERIVED_INDEX = -2;
+
+    private static final long NULL_LONG = Long.MIN_VALUE;
+
+    private static final byte TEXT_IP = 0;
+
+    private static final byte IPV4 = 4;
+
+    private static final byte IPV6 = 6;
+
+    /**
+     * The {@link Boolean} flag takes two bits : the first one is the presence, the second one is the value
+     */
+    private static final int HEALTHY_FLAG = 0;
+
+    private static final int ENABLED_FLAG = 2;
+
+    private static final int EPHEMERAL_FLAG = 4;
+
+    private static final int VALID_FLAG = 6;
+
+    private static final int MARKED_FLAG = 8;
+
+    /**
+     * The presence of weight
+     */
+    private static final int WEIGHT_FLAG = 10;
+
+    private static final int FLAG_BITS = 11;
+
+    private final int size;
+
+    private final String[] strings;
+
+    private final List<Map<String, String>> metadataTable;
+
+    private final byte[] ipTypes;
+
+    /**
+     * Two {@code long} values per instance : the high and low 64 bits of IP address,
+     * or the index of {@link #strings} in the low bits if the IP is not canonical.
+     */
+    private final long[] ipBits;
+
+    private final int[] ports;
+
+    private final double[] weights;
+
+    private final BitSet flags;
+
+    private final int[] namespaceIds;
+
+    private final int[] groupNames;
+
+    private final int[] clusterNames;
+
+    private final int[] serviceNames;
+
+    private final int[] services;
+
+    private final int[] instanceIds;
+
+    private final int[] instanceIdGenerators;
+
+    private final int[] metadataIndexes;
+
+    private final long[] instanceHeartBeatIntervals;
+
+    private final long[] instanceHeartBeatTimeOuts;
+
+    private final long[] ipDeleteTimeouts;
+
+    private CompactInstances(Collection<? extends Instance> instances) {
+        int size = instances.size();
+        this.size = size;
+        this.ipTypes = new byte[size];
+        this.ipBits = new long[size * 2];
+        this.ports = new int[size];
+        this.weights = new double[size];
+        this.flags = new BitSet(size * FLAG_BITS);
+        this.namespaceIds = new int[size];
+        this.groupNames = new int[size];
+        this.clusterNames = new int[size];
+        this.serviceNames = new int[size];
+        this.services = new int[size];
+        this.instanceIds = new int[size];
+        this.instanceIdGenerators = new int[size];
+        this.metadataIndexes = new int[size];
+        this.instanceHeartBeatIntervals = new long[size];
+        this.instanceHeartBeatTimeOuts = new long[size];
+        this.ipDeleteTimeouts = new long[size];
+
+        Map<String, Integer> stringIndexes = new HashMap<>();
+        List<String> stringsList = new ArrayList<>();
+        Map<Map<String, String>, Integer> metadataIndexesMap = new HashMap<>();
+        ArrayList<Map<String, String>> metadataList = new ArrayList<>();
+
+        int i = 0;
+        for (Instance instance : instances) {
+            String ip = instance.getIp();
+            packIp(i, ip, stringIndexes, stringsList);
+            ports[i] = instance.getPort();
+            Double weight = instance.getWeight();
+            if (weight != null) {
+                flags.set(i * FLAG_BITS + WEIGHT_FLAG);
+                weights[i] = weight;
+            }
+            setFlag(i, HEALTHY_FLAG, instance.getHealthy());
+            setFlag(i, ENABLED_FLAG, instance.getEnabled());
+            setFlag(i, EPHEMERAL_FLAG, instance.getEphemeral());
+            setFlag(i, VALID_FLAG, instance.getValid());
+            setFlag(i, MARKED_FLAG, instance.getMarked());
+            namespaceIds[i] = intern(instance.getNamespaceId(), stringIndexes, stringsList);
+            groupNames[i] = intern(instance.getGroupName(), stringIndexes, stringsList);
+            clusterNames[i] = intern(instance.getClusterName(), stringIndexes, stringsList);
+            serviceNames[i] = intern(instance.getServiceName(), stringIndexes, stringsList);
+            services[i] = intern(instance.getService(), stringIndexes, stringsList);
+            String instanceId = instance.getInstanceId();
+            instanceIds[i] = instanceId != null && instanceId.equals(deriveInstanceId(ip, instance.getPort(),
+                    instance.getClusterName(), instance.getService())) ? DERIVED_INDEX :
+                    intern(instanceId, stringIndexes, stringsList);
+            instanceIdGenerators[i] = intern(instance.getInstanceIdGenerator(), stringIndexes, stringsList);
+            metadataIndexes[i] = internMetadata(instance.getMetadata(), metadataIndexesMap, metadataList);
+            instanceHeartBeatIntervals[i] = packLong(instance.getInstanceHeartBeatInterval());
+            instanceHeartBeatTimeOuts[i] = packLong(instance.getInstanceHeartBeatTimeOut());
+            ipDeleteTimeouts[i] = packLong(instance.getIpDeleteTimeout());
+            i++;
+        }
+
+        this.strings = stringsList.toArray(new String[0]);
+        metadataList.trimToSize();
+        this.metadataTable = metadataList;
+    }
+
+    /**
+     * Create a compact snapshot of the specified {@link Instance Instances}
+     *
+     * @param instances the {@link Instance Instances}
+     * @return non-null
+     */
+    public static CompactInstances of(Collection<? extends Instance> instances) {
+        if (instances instanceof CompactInstances) {
+            return (CompactInstances) instances;
+        }
+        return new CompactInstances(instances == null ? new ArrayList<>(0) : instances);
+    }
+
+    @Override
+    public Instance get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new InstanceView(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void packIp(int index, String ip, Map<String, Integer> stringIndexes, List<String> stringsList) {
+        int offset = index * 2;
+        long ipv4 = parseIPv4(ip);
+        if (ipv4 != -1L) {
+            ipTypes[index] = IPV4;
+            ipBits[offset + 1] = ipv4;
+            return;
+        }
+        if (parseIPv6(ip, ipBits, offset)) {
+            ipTypes[index] = IPV6;
+            return;
+        }
+        ipTypes[index] = TEXT_IP;
+        ipBits[offset + 1] = intern(ip, stringIndexes, stringsList);
+    }
+
+    private String unpackIp(int index) {
+        int offset = index * 2;
+        switch (ipTypes[index]) {
+            case IPV4:
+                return formatIPv4(ipBits[offset + 1]);
+            case IPV6:
+                return formatIPv6(ipBits[offset], ipBits[offset + 1]);
+            default:
+                return string((int) ipBits[offset + 1]);
+        }
+    }
+
+    private void setFlag(int index, int flag, Boolean value) {
+        if (value != null) {
+            int bitIndex = index * FLAG_BITS + flag;
+            flags.set(bitIndex);
+            flags.set(bitIndex + 1, value);
+        }
+    }
+
+    private Boolean getFlag(int index, int flag) {
+        int bitIndex = index * FLAG_BITS + flag;
+        return flags.get(bitIndex) ? Boolean.valueOf(flags.get(bitIndex + 1)) : null;
+    }
+
+    private String string(int index) {
+        return index == NULL_INDEX ? null : strings[index];
+    }
+
+    private static int intern(String value, Map<String, Integer> stringIndexes, List<String> stringsList) {
+        if (value == null) {
+            return NULL_INDEX;
+        }
+        return stringIndexes.computeIfAbsent(value, v -> {
+            stringsList.add(v);
+            return stringsList.size() - 1;
+        });
+    }
+
+    private static int internMetadata(Map<String, String> metadata, Map<Map<String, String>, Integer> metadataIndexes,
+                                      List<Map<String, String>> metadataList) {
+        if (metadata == null) {
+            return NULL_INDEX;
+        }
+        Integer index = metadataIndexes.get(metadata);
+        if (index == null) {
+            Map<String, String> copy = immutableMap(metadata);
+            metadataList.add(copy);
+            index = metadataList.size() - 1;
+            metadataIndexes.put(copy, index);
+        }
+        return index;
+    }
+
+    private static long packLong(Long value) {
+        return value == null ? NULL_LONG : value;
+    }
+
+    private static Long unpackLong(long value) {
+        return value == NULL_LONG ? null : value;
+    }
+
+    private static String deriveInstanceId(String ip, int port, String clusterName, String service) {
+        return ip + "#" + port + "#" + clusterName + "#" + service;
+    }
+
+    /**
+     * Parse the canonical IPv4 address, e.g. "192.168.0.1"
+     *
+     * @param ip the IP address
+     * @return the 32 bits value of IPv4 address if canonical, or <code>-1</code>
+     */
+    static long parseIPv4(String ip) {
+        int length = ip == null ? 0 : ip.length();
+        if (length < 7 || length > 15) {
+            return -1L;
+        }
+        long value = 0;
+        int octet = 0;
+        int digits = 0;
+        int dots = 0;
+        for (int i = 0; i < length; i++) {
+            char c = ip.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits > 0 && octet == 0) { // leading zero
+                    return -1L;
+                }
+                octet = octet * 10 + (c - '0');
+                if (++digits > 3 || octet > 255) {
+                    return -1L;
+                }
+            } else if (c == '.' && digits > 0 && ++dots < 4) {
+                value = (value << 8) | octet;
+                octet = 0;
+                digits = 0;
+            } else {
+                return -1L;
+            }
+        }
+        if (dots != 3 || digits == 0) {
+            return -1L;
+        }
+        return (value << 8) | octet;
+    }
+
+    static String formatIPv4(long value) {
+        return new StringBuilder(15)
+                .append((value >>> 24) & 0xFF).append('.')
+                .append((value >>> 16) & 0xFF).append('.')
+                .append((value >>> 8) & 0xFF).append('.')
+                .append(value & 0xFF)
+                .toString();
+    }
+
+    /**
+     * Parse the canonical IPv6 address that is formatted as {@link java.net.Inet6Address#getHostAddress()} does,
+     * e.g. "fe80:0:0:0:1:2:3:4", the compressed or scoped forms are not supported.
+     *
+     * @param ip     the IP address
+     * @param bits   the target array
+     * @param offset the offset of target array
+     * @return <code>true</code> if canonical
+     */
+    static boolean parseIPv6(String ip, long[] bits, int offset) {
+        int length = ip == null ? 0 : ip.length();
+        if (length < 15 || length > 39) {
+            return false;
+        }
+        long high = 0;
+        long low = 0;
+        int group = 0;
+        int digits = 0;
+        int groups = 0;
+        for (int i = 0; i <= length; i++) {
+            char c = i == length ? ':' : ip.charAt(i);
+            int digit = Character.digit(c, 16);
+            if (digit != -1 && (c < 'A' || c > 'F')) {
+                if (digits > 0 && group == 0) { // leading zero
+                    return false;
+                }
+                group = (group << 4) | digit;
+                if (++digits > 4) {
+                    return false;
+                }
+            } else if (c == ':' && digits > 0 && groups < 8) {
+                if (groups < 4) {
+                    high = (high << 16) | group;
+                } else {
+                    low = (low << 16) | group;
+                }
+                groups++;
+                group = 0;
+                digits = 0;
+            } else {
+                return false;
+            }
+        }
+        if (groups != 8) {
+            return false;
+        }
+        bits[offset] = high;
+        bits[offset + 1] = low;
+        return true;
+    }
+
+    static String formatIPv6(long high, long low) {
+        StringBuilder ip = new StringBuilder(39);
+        for (int i = 3; i >= 0; i--) {
+            ip.append(Long.toHexString((high >>> (i * 16)) & 0xFFFF)).append(':');
+        }
+        for (int i = 3; i >= 0; i--) {
+            ip.append(Long.toHexString((low >>> (i * 16)) & 0xFFFF));
+            if (i > 0) {
+                ip.append(':');
+            }
+        }
+        return ip.toString();
+    }
+
+    /**
+     * The read-only flyweight view of {@link Instance} in the {@link CompactInstances}
+     */
+    private class InstanceView extends Instance {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+
+        private InstanceView(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getNamespaceId() {
+            return string(namespaceIds[index]);
+        }
+
+        @Override
+        public String getClusterName() {
+            return string(clusterNames[index]);
+        }
+
+        @Override
+        public String getGroupName() {
+            return string(groupNames[index]);
+        }
+
+        @Override
+        public String getServiceName() {
+            return string(serviceNames[index]);
+        }
+
+        @Override
+        public String getIp() {
+            return unpackIp(index);
+        }
+
+        @Override
+        public int getPort() {
+            return ports[index];
+        }
+
+        @Override
+        public Boolean getEphemeral() {
+            return getFlag(index, EPHEMERAL_FLAG);
+        }
+
+        @Override
+        public Boolean getEnabled() {
+            return getFlag(index, ENABLED_FLAG);
+        }
+
+        @Override
+        public Double getWeight() {
+            return flags.get(index * FLAG_BITS + WEIGHT_FLAG) ? weights[index] : null;
+        }
+
+        @Override
+        public Map<String, String> getMetadata() {
+            int metadataIndex = metadataIndexes[index];
+            return metadataIndex == NULL_INDEX ? null : metadataTable.get(metadataIndex);
+        }
+
+        @Override
+        public Boolean getHealthy() {
+            return getFlag(index, HEALTHY_FLAG);
+        }
+
+        @Override
+        public String getInstanceId() {
+            int instanceIdIndex = instanceIds[index];
+            if (instanceIdIndex == DERIVED_INDEX) {
+                return deriveInstanceId(getIp(), getPort(), getClusterName(), getService());
+            }
+            return string(instanceIdIndex);
+        }
+
+        @Override
+        public String getService() {
+            return string(services[index]);
+        }
+
+        @Override
+        public Boolean getValid() {
+            return getFlag(index, VALID_FLAG);
+        }
+
+        @Override
+        public Boolean getMarked() {
+            return getFlag(index, MARKED_FLAG);
+        }
+
+        @Override
+        public String getInstanceIdGenerator() {
+            return string(instanceIdGenerators[index]);
+        }
+
+        @Override
+        public Long getInstanceHeartBeatInterval() {
+            return unpackLong(instanceHeartBeatIntervals[index]);
+        }
+
+        @Override
+        public Long getInstanceHeartBeatTimeOut() {
+            return unpackLong(instanceHeartBeatTimeOuts[index]);
+        }
+
+        @Override
+        public Long getIpDeleteTimeout() {
+            return unpackLong(ipDeleteTimeouts[index]);
+        }
+
+        @Override
+        public void setNamespaceId(String namespaceId) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setClusterName(String clusterName) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setGroupName(String groupName) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setServiceName(String serviceName) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setIp(String ip) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setPort(int port) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setEphemeral(Boolean ephemeral) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setEnabled(Boolean enabled) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setWeight(Double weight) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setMetadata(Map<String, String> metadata) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setHealthy(Boolean healthy) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setInstanceId(String instanceId) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setService(String service) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setValid(Boolean valid) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setMarked(Boolean marked) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setInstanceIdGenerator(String instanceIdGenerator) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setInstanceHeartBeatInterval(Long instanceHeartBeatInterval) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setInstanceHeartBeatTimeOut(Long instanceHeartBeatTimeOut) {
+            throw readOnly();
+        }
+
+        @Override
+        public void setIpDeleteTimeout(Long ipDeleteTimeout) {
+            throw readOnly();
+        }
+
+        @Override
+        public BaseInstance from(BaseInstance that) {
+            throw readOnly();
+        }
+
+        @Override
+        public GenericInstance from(GenericInstance that) {
+            throw readOnly();
+        }
+
+        @Override
+        public NewInstance from(NewInstance that) {
+            throw readOnly();
+        }
+
+        @Override
+        public Instance from(Instance that) {
+            throw readOnly();
+        }
+
+        @Override
+        public String toString() {
+            return copy().toString();
+        }
+
+        private Instance copy() {
+            return new Instance().from(this);
+        }
+
+        /**
+         * The views are equal if they are the same element, or their columns are equal
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof InstanceView)) return false;
+
+            InstanceView that = (InstanceView) o;
+            if (owner() == that.owner() && index == that.index) {
+                return true;
+            }
+            return getPort() == that.getPort() &&
+                    Objects.equals(getIp(), that.getIp()) &&
+                    Objects.equals(getNamespaceId(), that.getNamespaceId()) &&
+                    Objects.equals(getGroupName(), that.getGroupName()) &&
+                    Objects.equals(getClusterName(), that.getClusterName()) &&
+                    Objects.equals(getServiceName(), that.getServiceName()) &&
+                    Objects.equals(getService(), that.getService()) &&
+                    Objects.equals(getInstanceId(), that.getInstanceId()) &&
+                    Objects.equals(getEphemeral(), that.getEphemeral()) &&
+                    Objects.equals(getEnabled(), that.getEnabled()) &&
+                    Objects.equals(getHealthy(), that.getHealthy()) &&
+                    Objects.equals(getWeight(), that.getWeight()) &&
+                    Objects.equals(getValid(), that.getValid()) &&
+                    Objects.equals(getMarked(), that.getMarked()) &&
+                    Objects.equals(getInstanceIdGenerator(), that.getInstanceIdGenerator()) &&
+                    Objects.equals(getInstanceHeartBeatInterval(), that.getInstanceHeartBeatInterval()) &&
+                    Objects.equals(getInstanceHeartBeatTimeOut(), that.getInstanceHeartBeatTimeOut()) &&
+                    Objects.equals(getIpDeleteTimeout(), that.getIpDeleteTimeout()) &&
+                    Objects.equals(getMetadata(), that.getMetadata());
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(getIp());
+            result = 31 * result + getPort();
+            result = 31 * result + Objects.hashCode(getNamespaceId());
+            result = 31 * result + Objects.hashCode(getGroupName());
+            result = 31 * result + Objects.hashCode(getClusterName());
+            result = 31 * result + Objects.hashCode(getServiceName());
+            return result;
+        }
+
+        private CompactInstances owner() {
+            return CompactInstances.this;
+        }
+
+        private UnsupportedOperationException readOnly() {
+            return new UnsupportedOperationException("The Instance view of CompactInstances is read-only");
+        }
+
+        /**
+         * Replace the view by the copy of {@link Instance} in serialization
+         *
+         * @return the copy of {@link Instance}
+         */
+        private Object writeReplace() {
+            return copy();
+        }
+    }
+}
@@ -16,6 +16,8 @@
  */
 package io.microsphere.nacos.client.common.discovery.model;
 
+import com.google.gson.annotations.JsonAdapter;
+import io.microsphere.nacos.client.common.discovery.io.MetadataDeserializer;
 import io.microsphere.nacos.client.common.model.Model;
 
 import java.util.Map;
@@ -35,6 +37,7 @@ public class GenericInstance extends BaseInstance {
 
     private Double weight;
 
+    @JsonAdapter(MetadataDeserializer.class)
     private Map<String, String> metadata;
 
     public Boolean getEnabled() {
@@ -63,9 +66,9 @@ public class GenericInstance extends BaseInstance {
 
     public GenericInstance from(GenericInstance that) {
         super.from(that);
-        this.enabled = that.enabled;
-        this.weight = that.weight;
-        this.metadata = that.metadata;
+        this.enabled = that.getEnabled();
+        this.weight = that.getWeight();
+        this.metadata = that.getMetadata();
         return this;
     }
 }
@@ -111,14 +111,14 @@ public class Instance extends NewInstance {
 
     public Instance from(Instance that) {
         super.from(that);
-        this.instanceId = that.instanceId;
-        this.service = that.service;
-        this.valid = that.valid;
-        this.marked = that.marked;
-        this.instanceIdGenerator = that.instanceIdGenerator;
-        this.instanceHeartBeatInterval = that.instanceHeartBeatInterval;
-        this.instanceHeartBeatTimeOut = that.instanceHeartBeatTimeOut;
-        this.ipDeleteTimeout = that.ipDeleteTimeout;
+        this.instanceId = that.getInstanceId();
+        this.service = that.getService();
+        this.valid = that.getValid();
+        this.marked = that.getMarked();
+        this.instanceIdGenerator = that.getInstanceIdGenerator();
+        this.instanceHeartBeatInterval = that.getInstanceHeartBeatInterval();
+        this.instanceHeartBeatTimeOut = that.getInstanceHeartBeatTimeOut();
+        this.ipDeleteTimeout = that.getIpDeleteTimeout();
         return this;
     }
 }
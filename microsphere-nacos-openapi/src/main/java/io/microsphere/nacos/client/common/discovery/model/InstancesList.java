@@ -182,6 +182,19 @@ public class InstancesList implements Model {
         this.hosts = hosts;
     }
 
+    /**
+     * Replace the {@link #getHosts() hosts} by the compact and read-only snapshot
+     *
+     * @return the current {@link InstancesList}
+     * @see CompactInstances
+     */
+    public InstancesList compact() {
+        if (hosts != null) {
+            this.hosts = CompactInstances.of(hosts);
+        }
+        return this;
+    }
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) return true;
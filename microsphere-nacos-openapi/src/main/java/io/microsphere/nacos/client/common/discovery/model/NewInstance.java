@@ -41,7 +41,7 @@ public class NewInstance extends GenericInstance {
 
     public NewInstance from(NewInstance that) {
         super.from(that);
-        this.healthy = that.healthy;
+        this.healthy = that.getHealthy();
         return this;
     }
 }
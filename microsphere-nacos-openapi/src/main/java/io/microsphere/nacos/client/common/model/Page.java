@@ -64,7 +64,7 @@ public class Page<E> implements Model {
     }
 
     /**
-     * Get the number of the current {@link Page}. Is always non-negative.
+     * Get the number of the current {@link Page}, which starts with 1.
      *
      * @return the number of the current {@link Page}.
      */
@@ -132,7 +132,7 @@ public class Page<E> implements Model {
      * @return if the current {@link Page} is the last one, return <code>true</code>, otherwise <code>false</code>
      */
     public boolean isLast() {
-        return pageNumber == totalPages - 1;
+        return pageNumber >= totalPages;
     }
 
     /**
@@ -141,7 +141,7 @@ public class Page<E> implements Model {
      * @return if the current {@link Page} has a previous one, return <code>true</code>, otherwise <code>false</code>
      */
     public boolean hasPrevious() {
-        return pageNumber > 0;
+        return pageNumber > 1;
     }
 
     /**
@@ -150,7 +150,7 @@ public class Page<E> implements Model {
      * @return if the current {@link Page} has a next one, return <code>true</code>, otherwise <code>false</code>
      */
     public boolean hasNext() {
-        return pageNumber < totalPages - 1;
+        return pageNumber < totalPages;
     }
 
     /**
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.model;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static io.microsphere.nacos.client.util.FutureUtils.await;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The {@link Iterator} over the elements of all {@link Page pages}, the pages are fetched lazily : the first page is
+ * fetched on the first access, then the next pages are prefetched in the background while the current one is
+ * consumed, at most the {@link #getParallelism() parallelism} pages are fetched in parallel once the number of total
+ * pages is known.
+ * <p>
+ * The iterator should be {@link #close() closed} if it is not exhausted, the pages being prefetched will be cancelled.
+ *
+ * @param <E> the type of elements
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see Page
+ * @since 1.0.0
+ */
+public class PageIterator<E> implements Iterator<E>, AutoCloseable {
+
+    private static final ExecutorService PREFETCHING_EXECUTOR = initPrefetchingExecutor();
+
+    private final IntFunction<Page<E>> pageFetcher;
+
+    private final int parallelism;
+
+    private final Deque<Future<Page<E>>> prefetchingPages;
+
+    private Iterator<E> elements;
+
+    /**
+     * The number of total pages, -1 if unknown
+     */
+    private int totalPages;
+
+    /**
+     * The number of the next page to fetch, starts with 1
+     */
+    private int nextPageNumber;
+
+    private boolean exhausted;
+
+    /**
+     * @param pageFetcher the function fetches the {@link Page} by the number of page, which starts with 1
+     * @param parallelism the maximum number of the pages prefetched in the background, 0 means no prefetching
+     */
+    public PageIterator(IntFunction<Page<E>> pageFetcher, int parallelism) {
+        Objects.requireNonNull(pageFetcher, "The 'pageFetcher' argument must not be null!");
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("The argument 'parallelism' must not be negative");
+        }
+        this.pageFetcher = pageFetcher;
+        this.parallelism = parallelism;
+        this.prefetchingPages = new ArrayDeque<>();
+        this.elements = Collections.emptyIterator();
+        this.totalPages = -1;
+        this.nextPageNumber = 1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!this.elements.hasNext()) {
+            if (this.exhausted) {
+                return false;
+            }
+            Page<E> page = nextPage();
+            if (page == null) {
+                close();
+                return false;
+            }
+            this.elements = page.getElements().iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.elements.next();
+    }
+
+    /**
+     * Get the next {@link Page}
+     *
+     * @return <code>null</code> if no more page
+     */
+    private Page<E> nextPage() {
+        Page<E> page;
+        Future<Page<E>> prefetchingPage = this.prefetchingPages.poll();
+        if (prefetchingPage == null) {
+            if (this.totalPages >= 0 && this.nextPageNumber > this.totalPages) {
+                return null;
+            }
+            page = this.pageFetcher.apply(this.nextPageNumber++);
+        } else {
+            try {
+                page = await(prefetchingPage);
+            } catch (RuntimeException | Error e) {
+                // Cancel the other prefetching pages
+                close();
+                throw e;
+            }
+        }
+        if (page.isEmpty()) {
+            return null;
+        }
+        this.totalPages = page.getTotalPages();
+        prefetch();
+        return page;
+    }
+
+    private void prefetch() {
+        while (this.prefetchingPages.size() < this.parallelism && this.nextPageNumber <= this.totalPages) {
+            int pageNumber = this.nextPageNumber++;
+            this.prefetchingPages.add(PREFETCHING_EXECUTOR.submit(() -> this.pageFetcher.apply(pageNumber)));
+        }
+    }
+
+    /**
+     * Create a sequential {@link Stream} of the remaining elements, which closes this iterator on close
+     *
+     * @return non-null
+     */
+    public Stream<E> stream() {
+        return StreamSupport.stream(spliteratorUnknownSize(this, ORDERED | NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * Cancel the pages being prefetched, no more page will be fetched
+     */
+    @Override
+    public void close() {
+        this.exhausted = true;
+        Future<Page<E>> future;
+        while ((future = this.prefetchingPages.poll()) != null) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Get the maximum number of the pages prefetched in the background
+     *
+     * @return 0 means no prefetching
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private static ExecutorService initPrefetchingExecutor() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        // The prefetching of each iterator is bounded by its parallelism, the idle threads are not retained
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, SECONDS, new SynchronousQueue<>(), task -> {
+            Thread thread = new Thread(task, "PageIterator-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -78,7 +78,17 @@ public class Result<T> implements Model {
     }
 
     public boolean isSuccess() {
-        return this.code == 0 || this.code == 200;
+        return isSuccess(this.code);
+    }
+
+    /**
+     * Whether the specified code of {@link Result} represents success
+     *
+     * @param code the code of {@link Result}
+     * @return <code>true</code> if success
+     */
+    public static boolean isSuccess(int code) {
+        return code == 0 || code == 200;
     }
 
     @Override
@@ -77,6 +77,54 @@ public interface Constants {
      */
     String EVENT_PROCESSING_TIMEOUT_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "event-processing-timeout";
 
+    /**
+     * The property name of the maximum number of configs listened by one long polling task for Nacos Client:
+     * "microsphere.nacos.client.listening-configs-per-task"
+     */
+    String LISTENING_CONFIGS_PER_TASK_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "listening-configs-per-task";
+
+    /**
+     * The property name of the maximum number of configs fetched concurrently after they were changed for Nacos Client:
+     * "microsphere.nacos.client.fetching-configs-parallelism"
+     */
+    String FETCHING_CONFIGS_PARALLELISM_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "fetching-configs-parallelism";
+
+    /**
+     * The property name of the maximum number of threads publishing the config events for Nacos Client:
+     * "microsphere.nacos.client.publishing-config-event-parallelism"
+     */
+    String PUBLISHING_CONFIG_EVENT_PARALLELISM_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "publishing-config-event-parallelism";
+
+    /**
+     * The property name of the maximum number of consecutive timeouts of an event listener before it's isolated for
+     * Nacos Client: "microsphere.nacos.client.event-processing-max-timeouts"
+     */
+    String EVENT_PROCESSING_MAX_TIMEOUTS_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "event-processing-max-timeouts";
+
+    /**
+     * The property name of the directory storing the local snapshots of configs for Nacos Client:
+     * "microsphere.nacos.client.config-snapshot-directory"
+     */
+    String CONFIG_SNAPSHOT_DIRECTORY_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "config-snapshot-directory";
+
+    /**
+     * The property name of whether the local snapshots of configs are served if the server is unavailable for Nacos
+     * Client: "microsphere.nacos.client.config-failover-enabled"
+     */
+    String CONFIG_FAILOVER_ENABLED_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "config-failover-enabled";
+
+    /**
+     * The property name of the maximum number of the cached parsed configs for Nacos Client:
+     * "microsphere.nacos.client.parsed-config-cache-size"
+     */
+    String PARSED_CONFIG_CACHE_SIZE_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "parsed-config-cache-size";
+
+    /**
+     * The property name of the interval in milliseconds to discover the configs of the prefix watches for Nacos Client:
+     * "microsphere.nacos.client.config-discovery-interval"
+     */
+    String CONFIG_DISCOVERY_INTERVAL_PROPERTY_NAME = PROPERTY_NAME_PREFIX + "config-discovery-interval";
+
     /**
      * The property name of the file encoding: "microsphere.nacos.client.encoding"
      */
@@ -127,6 +175,27 @@ public interface Constants {
      */
     int DEFAULT_EVENT_PROCESSING_TIMEOUT_PROPERTY_NAME = (int) SECONDS.toMicros(30);
 
+    /**
+     * The default value of the maximum number of configs listened by one long polling task for Nacos Client : 3000
+     */
+    int DEFAULT_LISTENING_CONFIGS_PER_TASK = 3000;
+
+    /**
+     * The default value of the maximum number of configs fetched concurrently after they were changed for Nacos Client : 8
+     */
+    int DEFAULT_FETCHING_CONFIGS_PARALLELISM = 8;
+
+    /**
+     * The default value of the maximum number of threads publishing the config events for Nacos Client : 4
+     */
+    int DEFAULT_PUBLISHING_CONFIG_EVENT_PARALLELISM = 4;
+
+    /**
+     * The default value of the maximum number of consecutive timeouts of an event listener before it's isolated for
+     * Nacos Client : 3
+     */
+    int DEFAULT_EVENT_PROCESSING_MAX_TIMEOUTS = 3;
+
     /**
      * The default value of the fetching config thread name : "Nacos Client - Fetching Config Executor"
      */
@@ -142,6 +211,26 @@ public interface Constants {
      */
     String DEFAULT_PUBLISHING_CONFIG_EVENT_THREAD_NAME = CLIENT_NAME_PREFIX + "Config Event Publisher";
 
+    /**
+     * The default value of the directory storing the local snapshots of configs : "", the snapshots are disabled
+     */
+    String DEFAULT_CONFIG_SNAPSHOT_DIRECTORY = "";
+
+    /**
+     * The default value of whether the local snapshots of configs are served if the server is unavailable : "true"
+     */
+    String DEFAULT_CONFIG_FAILOVER_ENABLED = "true";
+
+    /**
+     * The default value of the maximum number of the cached parsed configs : 256
+     */
+    int DEFAULT_PARSED_CONFIG_CACHE_SIZE = 256;
+
+    /**
+     * The default value of the interval in milliseconds to discover the configs of the prefix watches : 30 seconds
+     */
+    int DEFAULT_CONFIG_DISCOVERY_INTERVAL = 30 * 1000;
+
     /**
      * The default value of the file encoding : "UTF-8"
      */
@@ -207,6 +296,62 @@ public interface Constants {
      */
     int EVENT_PROCESSING_TIMEOUT = getInteger(EVENT_PROCESSING_TIMEOUT_PROPERTY_NAME, DEFAULT_EVENT_PROCESSING_TIMEOUT_PROPERTY_NAME);
 
+    /**
+     * The maximum number of configs listened by one long polling task for Nacos Client
+     *
+     * @see #DEFAULT_LISTENING_CONFIGS_PER_TASK
+     */
+    int LISTENING_CONFIGS_PER_TASK = getInteger(LISTENING_CONFIGS_PER_TASK_PROPERTY_NAME, DEFAULT_LISTENING_CONFIGS_PER_TASK);
+
+    /**
+     * The maximum number of configs fetched concurrently after they were changed for Nacos Client
+     *
+     * @see #DEFAULT_FETCHING_CONFIGS_PARALLELISM
+     */
+    int FETCHING_CONFIGS_PARALLELISM = getInteger(FETCHING_CONFIGS_PARALLELISM_PROPERTY_NAME, DEFAULT_FETCHING_CONFIGS_PARALLELISM);
+
+    /**
+     * The maximum number of threads publishing the config events for Nacos Client
+     *
+     * @see #DEFAULT_PUBLISHING_CONFIG_EVENT_PARALLELISM
+     */
+    int PUBLISHING_CONFIG_EVENT_PARALLELISM = getInteger(PUBLISHING_CONFIG_EVENT_PARALLELISM_PROPERTY_NAME, DEFAULT_PUBLISHING_CONFIG_EVENT_PARALLELISM);
+
+    /**
+     * The maximum number of consecutive timeouts of an event listener before it's isolated for Nacos Client
+     *
+     * @see #DEFAULT_EVENT_PROCESSING_MAX_TIMEOUTS
+     */
+    int EVENT_PROCESSING_MAX_TIMEOUTS = getInteger(EVENT_PROCESSING_MAX_TIMEOUTS_PROPERTY_NAME, DEFAULT_EVENT_PROCESSING_MAX_TIMEOUTS);
+
+    /**
+     * The directory storing the local snapshots of configs for Nacos Client
+     *
+     * @see #DEFAULT_CONFIG_SNAPSHOT_DIRECTORY
+     */
+    String CONFIG_SNAPSHOT_DIRECTORY = getProperty(CONFIG_SNAPSHOT_DIRECTORY_PROPERTY_NAME, DEFAULT_CONFIG_SNAPSHOT_DIRECTORY);
+
+    /**
+     * Whether the local snapshots of configs are served if the server is unavailable for Nacos Client
+     *
+     * @see #DEFAULT_CONFIG_FAILOVER_ENABLED
+     */
+    boolean CONFIG_FAILOVER_ENABLED = Boolean.parseBoolean(getProperty(CONFIG_FAILOVER_ENABLED_PROPERTY_NAME, DEFAULT_CONFIG_FAILOVER_ENABLED));
+
+    /**
+     * The maximum number of the cached parsed configs for Nacos Client
+     *
+     * @see #DEFAULT_PARSED_CONFIG_CACHE_SIZE
+     */
+    int PARSED_CONFIG_CACHE_SIZE = getInteger(PARSED_CONFIG_CACHE_SIZE_PROPERTY_NAME, DEFAULT_PARSED_CONFIG_CACHE_SIZE);
+
+    /**
+     * The interval in milliseconds to discover the configs of the prefix watches for Nacos Client
+     *
+     * @see #DEFAULT_CONFIG_DISCOVERY_INTERVAL
+     */
+    int CONFIG_DISCOVERY_INTERVAL = getInteger(CONFIG_DISCOVERY_INTERVAL_PROPERTY_NAME, DEFAULT_CONFIG_DISCOVERY_INTERVAL);
+
     /**
      * The encoding for Nacos Client
      */
@@ -267,4 +412,9 @@ public interface Constants {
      */
     String SEARCH_PARAM_VALUE = "accurate";
 
+    /**
+     * The request parameter value of Nacos configuration's fuzzy search: "blur"
+     */
+    String BLUR_SEARCH_PARAM_VALUE = "blur";
+
 }
@@ -19,13 +19,29 @@ package io.microsphere.nacos.client.io;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.common.model.Result;
 
+import java.io.EOFException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static io.microsphere.nacos.client.common.model.Result.isSuccess;
+import static io.microsphere.nacos.client.util.IOUtils.closeQuietly;
 
 /**
  * The default {@link Deserializer} class based on {@link Gson}
@@ -37,24 +53,91 @@ import java.util.ServiceLoader;
  */
 public class DefaultDeserializer implements Deserializer {
 
+    private static final String RESULT_CODE_MEMBER_NAME = "code";
+
+    private static final String RESULT_DATA_MEMBER_NAME = "data";
+
     private final Gson gson;
 
     private final String encoding;
 
+    /**
+     * The cache of {@link TypeAdapter TypeAdapters}, each {@link Type} resolves its {@link TypeAdapter} once
+     */
+    private final ConcurrentMap<Type, TypeAdapter<?>> typeAdaptersCache;
+
     public DefaultDeserializer(NacosClientConfig nacosClientConfig) {
         this.gson = buildGson();
         this.encoding = nacosClientConfig.getEncoding();
+        this.typeAdaptersCache = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public <T> T deserialize(InputStream inputStream, Type deserializedType) throws DeserializationException {
+        if (inputStream == null) {
+            return null;
+        }
+        return deserialize(newJsonReader(inputStream), deserializedType);
     }
 
     @Override
     public <T> T deserialize(String content, Type deserializedType) throws DeserializationException {
-        T object = null;
+        if (content == null) {
+            return null;
+        }
+        return deserialize(new JsonReader(new StringReader(content)), deserializedType);
+    }
+
+    /**
+     * Deserialize the {@link Result#getData() data} of {@link Result} inline in one streaming pass without building
+     * the {@link Result} object.
+     *
+     * @param inputStream the input stream
+     * @param dataType    the type of {@link Result#getData() data}
+     * @return the data if the {@link Result} is {@link Result#isSuccess() successful}, or <code>null</code>
+     * @throws DeserializationException
+     */
+    @Override
+    public <T> T deserializeResultData(InputStream inputStream, Type dataType) throws DeserializationException {
+        if (inputStream == null) {
+            return null;
+        }
+        JsonReader reader = newJsonReader(inputStream);
+        int code = 0;
+        T data = null;
         try {
-            object = this.gson.fromJson(content, deserializedType);
+            reader.setLenient(true);
+            if (reader.peek() == JsonToken.NULL) {
+                return null;
+            }
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.nextNull();
+                } else if (RESULT_CODE_MEMBER_NAME.equals(name)) {
+                    code = reader.nextInt();
+                } else if (RESULT_DATA_MEMBER_NAME.equals(name)) {
+                    TypeAdapter<T> typeAdapter = getTypeAdapter(dataType);
+                    data = typeAdapter.read(reader);
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            // Consume the content to the end, which releases the underlying connection
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonSyntaxException("JSON document was not fully consumed.");
+            }
+        } catch (EOFException e) {
+            // empty content
+            return null;
         } catch (Throwable e) {
             throw new DeserializationException(e.getMessage(), e);
+        } finally {
+            closeQuietly(reader);
         }
-        return object;
+        return isSuccess(code) ? data : null;
     }
 
     @Override
@@ -62,6 +145,61 @@ public class DefaultDeserializer implements Deserializer {
         return this.encoding;
     }
 
+    /**
+     * Deserialize the object as {@link Gson#fromJson(String, Type)} does, but the {@link TypeAdapter} is cached.
+     *
+     * @param reader           {@link JsonReader}
+     * @param deserializedType the type to be deserialized
+     * @param <T>              the type to be deserialized
+     * @return the deserialized object
+     * @throws DeserializationException
+     */
+    private <T> T deserialize(JsonReader reader, Type deserializedType) throws DeserializationException {
+        T object = null;
+        boolean isEmpty = true;
+        try {
+            reader.setLenient(true);
+            reader.peek();
+            isEmpty = false;
+            TypeAdapter<T> typeAdapter = getTypeAdapter(deserializedType);
+            object = typeAdapter.read(reader);
+            if (object != null && reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonSyntaxException("JSON document was not fully consumed.");
+            }
+        } catch (EOFException e) {
+            if (!isEmpty) {
+                throw new DeserializationException(e.getMessage(), e);
+            }
+            // empty content
+        } catch (Throwable e) {
+            throw new DeserializationException(e.getMessage(), e);
+        } finally {
+            closeQuietly(reader);
+        }
+        return object;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> TypeAdapter<T> getTypeAdapter(Type type) {
+        TypeAdapter<?> typeAdapter = typeAdaptersCache.get(type);
+        if (typeAdapter == null) {
+            typeAdapter = gson.getAdapter(TypeToken.get(type));
+            TypeAdapter<?> existedTypeAdapter = typeAdaptersCache.putIfAbsent(type, typeAdapter);
+            if (existedTypeAdapter != null) {
+                typeAdapter = existedTypeAdapter;
+            }
+        }
+        return (TypeAdapter<T>) typeAdapter;
+    }
+
+    private JsonReader newJsonReader(InputStream inputStream) throws DeserializationException {
+        try {
+            return new JsonReader(new InputStreamReader(inputStream, getEncoding()));
+        } catch (UnsupportedEncodingException e) {
+            throw new DeserializationException(e.getMessage(), e);
+        }
+    }
+
     private Gson buildGson() {
         GsonBuilder gsonBuilder = new GsonBuilder();
 
@@ -16,6 +16,7 @@
  */
 package io.microsphere.nacos.client.io;
 
+import io.microsphere.nacos.client.common.model.Result;
 import io.microsphere.nacos.client.constants.Constants;
 import io.microsphere.nacos.client.transport.OpenApiClient;
 
@@ -25,6 +26,7 @@ import java.lang.reflect.Type;
 
 import static io.microsphere.nacos.client.constants.Constants.ENCODING;
 import static io.microsphere.nacos.client.util.IOUtils.readAsString;
+import static io.microsphere.nacos.client.util.TypeUtils.ofResultType;
 
 /**
  * The Deserializer interface
@@ -54,6 +56,19 @@ public interface Deserializer {
         return deserialize(content, deserializedType);
     }
 
+    /**
+     * Deserialize the {@link Result#getData() data} of {@link Result} from the given InputStream.
+     *
+     * @param inputStream the input stream
+     * @param dataType    the type of {@link Result#getData() data}
+     * @return the data if the {@link Result} is {@link Result#isSuccess() successful}, or <code>null</code>
+     * @throws DeserializationException
+     */
+    default <T> T deserializeResultData(InputStream inputStream, Type dataType) throws DeserializationException {
+        Result<T> result = deserialize(inputStream, ofResultType(dataType));
+        return result != null && result.isSuccess() ? result.getData() : null;
+    }
+
     /**
      * Deserialize an object of type T from the given InputStream.
      *
@@ -16,21 +16,20 @@
  */
 package io.microsphere.nacos.client.transport;
 
-import io.microsphere.nacos.client.ErrorCode;
 import io.microsphere.nacos.client.NacosClientConfig;
 import io.microsphere.nacos.client.common.model.Result;
 import io.microsphere.nacos.client.io.DeserializationException;
 import io.microsphere.nacos.client.io.Deserializer;
 
-import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
 import static io.microsphere.nacos.client.ErrorCode.CLIENT_ERROR;
 import static io.microsphere.nacos.client.ErrorCode.DESERIALIZATION_ERROR;
 import static io.microsphere.nacos.client.transport.OpenApiRequest.Builder.from;
 import static io.microsphere.nacos.client.transport.OpenApiRequestParam.ACCESS_TOKEN;
-import static io.microsphere.nacos.client.util.IOUtils.readAsString;
-import static io.microsphere.nacos.client.util.StringUtils.isBlank;
+import static io.microsphere.nacos.client.util.OpenApiUtils.newOpenApiClientException;
+import static io.microsphere.nacos.client.util.TypeUtils.getResultDataType;
+import static io.microsphere.nacos.client.util.TypeUtils.ofResultType;
 import static java.lang.String.format;
 
 /**
@@ -58,47 +57,45 @@ public abstract class AbstractOpenApiClient implements OpenApiClient {
 
     @Override
     public <T> T execute(OpenApiRequest request, Type payloadType) throws OpenApiClientException {
+        return execute(request, payloadType, getResultDataType(payloadType));
+    }
+
+    @Override
+    public <T> T executeAsResult(OpenApiRequest request, Type dataType) throws OpenApiClientException {
+        return execute(request, ofResultType(dataType), dataType);
+    }
+
+    /**
+     * Execute the {@link OpenApiRequest}
+     *
+     * @param request        the {@link OpenApiRequest}
+     * @param payloadType    the {@link Type type} of payload body
+     * @param resultDataType the {@link Type type} of {@link Result#getData() data} if the payload is {@link Result},
+     *                       or <code>null</code>
+     * @param <T>            the {@link Type type} of payload body or data of {@link Result}
+     * @return the payload instance or the data of {@link Result}
+     * @throws OpenApiClientException
+     */
+    private <T> T execute(OpenApiRequest request, Type payloadType, Type resultDataType) throws OpenApiClientException {
         Deserializer deserializer = getDeserializer();
-        T payload = null;
-        int code = 0;
-        String errorMessge = null;
+        OpenApiResponse response;
         try {
-            OpenApiResponse response = execute(request);
+            response = execute(request);
             int statusCode = response.getStatusCode();
             if (statusCode == 200) {
-                if (payloadType instanceof ParameterizedType) {
-                    ParameterizedType parameterizedType = (ParameterizedType) payloadType;
-                    Type rawType = parameterizedType.getRawType();
-                    if (Result.class.equals(rawType)) {
-                        Result result = deserializer.deserialize(response.getContent(), payloadType);
-                        if (result.isSuccess()) {
-                            payload = (T) result.getData();
-                        }
-                    }
-                }
-
-                if (payload == null) {
-                    payload = deserializer.deserialize(response.getContent(), payloadType);
+                if (resultDataType == null) {
+                    return deserializer.deserialize(response.getContent(), payloadType);
                 }
-
-                return payload;
+                // Unwrap the data of Result inline
+                return deserializer.deserializeResultData(response.getContent(), resultDataType);
             }
-
-            String statusMessage = response.getStatusMessage();
-            code = statusCode;
-            errorMessge = isBlank(statusMessage) ? readAsString(response.getContent(), getEncoding()) : statusMessage;
         } catch (DeserializationException e) {
             String errorMessage = format("The payload[%s] can't be deserialized", payloadType);
             throw new OpenApiClientException(DESERIALIZATION_ERROR, errorMessage, e);
         } catch (Throwable e) {
             throw new OpenApiClientException(CLIENT_ERROR, e.getMessage(), e);
         }
-
-        ErrorCode errorCode = ErrorCode.valueOf(code);
-        errorMessge = isBlank(errorMessge) ? errorCode.getMessage() : errorMessge;
-        String errorMessage = format("The Open API request[%s] is invalid , response status[code : %d , message : %s]",
-                request, code, errorMessge);
-        throw new OpenApiClientException(errorCode, errorMessage);
+        throw newOpenApiClientException(request, response, getEncoding());
     }
 
     /**
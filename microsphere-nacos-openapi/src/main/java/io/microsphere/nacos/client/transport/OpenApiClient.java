@@ -23,7 +23,7 @@ import io.microsphere.nacos.client.io.Serializer;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
-import static io.microsphere.nacos.client.util.TypeUtils.ofParameterizedType;
+import static io.microsphere.nacos.client.util.TypeUtils.ofResultType;
 
 /**
  * The Nacos Client for Open API
@@ -68,7 +68,7 @@ public interface OpenApiClient extends AutoCloseable {
      * @throws OpenApiClientException
      */
     default <T> T executeAsResult(OpenApiRequest request, Type dataType) throws OpenApiClientException {
-        ParameterizedType payloadType = ofParameterizedType(Result.class, dataType);
+        ParameterizedType payloadType = ofResultType(dataType);
         return execute(request, payloadType);
     }
 
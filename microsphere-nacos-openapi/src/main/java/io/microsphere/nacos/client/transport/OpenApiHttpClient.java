@@ -29,11 +29,13 @@ import org.apache.http.client.HttpClient;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.EntityTemplate;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
@@ -148,6 +150,7 @@ public class OpenApiHttpClient extends AbstractOpenApiClient {
         URI uri = buildURI(request);
         httpRequest.setURI(uri);
         setRequestHeaders(httpRequest, request);
+        setRequestBody(httpRequest, request);
         return httpRequest;
     }
 
@@ -160,6 +163,28 @@ public class OpenApiHttpClient extends AbstractOpenApiClient {
         }
     }
 
+    private void setRequestBody(HttpRequestBase httpRequest, OpenApiRequest request) {
+        OpenApiRequestBody body = request.getBody();
+        if (body != null && httpRequest instanceof HttpEntityEnclosingRequestBase) {
+            ((HttpEntityEnclosingRequestBase) httpRequest).setEntity(newRequestBodyEntity(body));
+        }
+    }
+
+    /**
+     * Create the chunked {@link HttpEntity} writing {@link OpenApiRequestBody} once, which is not repeatable
+     */
+    private static HttpEntity newRequestBodyEntity(OpenApiRequestBody body) {
+        EntityTemplate entity = new EntityTemplate(body::writeTo) {
+            @Override
+            public boolean isRepeatable() {
+                return false;
+            }
+        };
+        entity.setContentType(body.getContentType());
+        entity.setChunked(true);
+        return entity;
+    }
+
     private Serializer loadSerializer(NacosClientConfig nacosClientConfig) {
         Serializer spiSerializer = loadService(Serializer.class);
         return spiSerializer == null ? new DefaultSerializer(nacosClientConfig) : spiSerializer;
@@ -46,12 +46,20 @@ public class OpenApiRequest {
 
     private final Map<String, String> headers;
 
+    private final OpenApiRequestBody body;
+
     protected OpenApiRequest(String endpoint, HttpMethod method, Map<String, String> queryParameters, Map<String, String> headers) {
+        this(endpoint, method, queryParameters, headers, null);
+    }
+
+    protected OpenApiRequest(String endpoint, HttpMethod method, Map<String, String> queryParameters, Map<String, String> headers,
+                             OpenApiRequestBody body) {
         requireNonNull(endpoint, "The 'endpoint' argument must not be null");
         this.endpoint = endpoint;
         this.method = method == null ? HttpMethod.GET : method;
         this.queryParameters = queryParameters;
         this.headers = headers;
+        this.body = body;
     }
 
     /**
@@ -93,6 +101,15 @@ public class OpenApiRequest {
         return headers == null ? emptyMap() : unmodifiableMap(headers);
     }
 
+    /**
+     * Get the body, which is only sent by the methods allowing the request body, e.g, POST and PUT
+     *
+     * @return <code>null</code> if absent
+     */
+    public OpenApiRequestBody getBody() {
+        return body;
+    }
+
     @Override
     public String toString() {
         return this.method + " " + this.endpoint +
@@ -113,6 +130,8 @@ public class OpenApiRequest {
 
         private Map<String, String> headers;
 
+        private OpenApiRequestBody body;
+
         Builder(String endpoint) {
             requireNonNull(endpoint, "The 'endpoint' argument must not be null");
             this.endpoint = endpoint;
@@ -170,6 +189,11 @@ public class OpenApiRequest {
             return set(name, value, this::getHeaders);
         }
 
+        public Builder body(OpenApiRequestBody body) {
+            this.body = body;
+            return this;
+        }
+
         private Builder set(String name, String value, Supplier<Map<String, String>> mapSupplier) {
             if (name == null && value == null) {
                 return this;
@@ -207,7 +231,7 @@ public class OpenApiRequest {
         }
 
         public OpenApiRequest build() {
-            return new OpenApiRequest(this.endpoint, this.method, this.queryParameters, this.headers);
+            return new OpenApiRequest(this.endpoint, this.method, this.queryParameters, this.headers, this.body);
         }
 
         public static Builder from(OpenApiRequest request) {
@@ -215,6 +239,7 @@ public class OpenApiRequest {
             builder.method = request.method;
             builder.queryParameters = request.queryParameters;
             builder.headers = request.headers;
+            builder.body = request.body;
             return builder;
         }
 
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.transport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The body of {@link OpenApiRequest}, which is streamed into the transport rather than being buffered, thus it may
+ * be written only once.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see OpenApiRequest#getBody()
+ * @since 1.0.0
+ */
+public interface OpenApiRequestBody {
+
+    /**
+     * Get the content type of body
+     *
+     * @return non-null
+     */
+    String getContentType();
+
+    /**
+     * Write the body into the {@link OutputStream} of transport
+     *
+     * @param outputStream the {@link OutputStream} of transport, which should not be closed
+     * @throws IOException if I/O error occurs
+     */
+    void writeTo(OutputStream outputStream) throws IOException;
+}
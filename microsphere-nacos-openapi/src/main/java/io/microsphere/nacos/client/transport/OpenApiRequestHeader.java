@@ -33,6 +33,11 @@ public enum OpenApiRequestHeader {
      */
     LONG_PULLING_TIMEOUT("Long-Pulling-Timeout"),
 
+    /**
+     * The request header for returning the long-pulling immediately if nothing is changed
+     */
+    LONG_PULLING_TIMEOUT_NO_HANGUP("Long-Pulling-Timeout-No-Hangup"),
+
     /**
      * The request header for the version of client
      */
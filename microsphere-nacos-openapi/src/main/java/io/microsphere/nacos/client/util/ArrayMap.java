@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The immutable {@link Map} backed by an array that interleaves the keys and values, the lookups scan the array
+ * linearly, thus it's only suitable for the small maps.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see MapUtils#immutableMap(Map)
+ * @since 1.0.0
+ */
+final class ArrayMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 3517281907416283052L;
+
+    /**
+     * The keys and values : [key0, value0, key1, value1, ...]
+     */
+    private final Object[] table;
+
+    private transient int hash;
+
+    private transient Set<Entry<K, V>> entrySet;
+
+    ArrayMap(Object[] table) {
+        this.table = table;
+    }
+
+    @Override
+    public int size() {
+        return table.length >> 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) > -1;
+    }
+
+    @Override
+    public V get(Object key) {
+        int index = indexOf(key);
+        return index > -1 ? value(index) : null;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> entrySet = this.entrySet;
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+            this.entrySet = entrySet;
+        }
+        return entrySet;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+        if (hash == 0 && table.length > 0) {
+            for (int i = 0; i < table.length; i += 2) {
+                hash += Objects.hashCode(table[i]) ^ Objects.hashCode(table[i + 1]);
+            }
+            this.hash = hash;
+        }
+        return hash;
+    }
+
+    private int indexOf(Object key) {
+        Object[] table = this.table;
+        for (int i = 0; i < table.length; i += 2) {
+            if (Objects.equals(key, table[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(int index) {
+        return (K) table[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int index) {
+        return (V) table[index + 1];
+    }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new Iterator<Entry<K, V>>() {
+
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < table.length;
+                }
+
+                @Override
+                public Entry<K, V> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<K, V> entry = new SimpleImmutableEntry<>(key(index), value(index));
+                    index += 2;
+                    return entry;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ArrayMap.this.size();
+        }
+    }
+}
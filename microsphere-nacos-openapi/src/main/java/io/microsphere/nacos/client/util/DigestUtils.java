@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.util;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The utility class for the message digests, the MD5 of config content is computed in the same way as Nacos server :
+ * the lower-case hex string of the MD5 digest of the UTF-8 bytes.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see MessageDigest
+ * @since 1.0.0
+ */
+public abstract class DigestUtils {
+
+    private static final String MD5_ALGORITHM = "MD5";
+
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Create a new {@link MessageDigest} of MD5
+     *
+     * @return non-null
+     */
+    public static MessageDigest newMD5Digest() {
+        try {
+            return MessageDigest.getInstance(MD5_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // MD5 is supported by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Compute the MD5 hex string of the content in UTF-8
+     *
+     * @param content the content
+     * @return <code>null</code> if the content is <code>null</code>
+     */
+    public static String md5Hex(String content) {
+        return content == null ? null : md5Hex(content.getBytes(UTF_8));
+    }
+
+    /**
+     * Compute the MD5 hex string of the bytes
+     *
+     * @param bytes the bytes
+     * @return <code>null</code> if the bytes is <code>null</code>
+     */
+    public static String md5Hex(byte[] bytes) {
+        return bytes == null ? null : toHex(newMD5Digest().digest(bytes));
+    }
+
+    /**
+     * Convert the bytes to the lower-case hex string
+     *
+     * @param bytes the bytes
+     * @return non-null
+     */
+    public static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int value = bytes[i] & 0xFF;
+            chars[i * 2] = HEX_CHARS[value >>> 4];
+            chars[i * 2 + 1] = HEX_CHARS[value & 0x0F];
+        }
+        return new String(chars);
+    }
+}
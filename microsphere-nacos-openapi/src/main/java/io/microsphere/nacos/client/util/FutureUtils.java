@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.util;
+
+import io.microsphere.nacos.client.transport.OpenApiClientException;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static io.microsphere.nacos.client.ErrorCode.CLIENT_ERROR;
+
+/**
+ * The utility class for {@link Future}
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see Future
+ * @since 1.0.0
+ */
+public abstract class FutureUtils {
+
+    /**
+     * Wait for the result of {@link Future}, the unchecked failure of the task is rethrown as it is
+     *
+     * @param future {@link Future}
+     * @param <V>    the type of result
+     * @return the result of {@link Future}
+     * @throws OpenApiClientException if the current thread was interrupted or the task failed with a checked exception
+     */
+    public static <V> V await(Future<V> future) throws OpenApiClientException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenApiClientException(CLIENT_ERROR, "The current thread was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new OpenApiClientException(CLIENT_ERROR, cause.getMessage(), cause);
+        }
+    }
+}
@@ -18,8 +18,10 @@ package io.microsphere.nacos.client.util;
 
 import io.microsphere.nacos.client.constants.Constants;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -229,4 +231,47 @@ public abstract class IOUtils {
         }
         return encodedContent;
     }
+
+    /**
+     * {@link URLDecoder#decode(String, String)} with {@link Constants#DEFAULT_ENCODING "UTF-8"}
+     *
+     * @param content the content to be decoded
+     * @return the decoded content
+     */
+    public static String decode(String content) {
+        return decode(content, DEFAULT_ENCODING);
+    }
+
+    /**
+     * {@link URLDecoder#decode(String, String)}
+     *
+     * @param content  the content to be decoded
+     * @param encoding the encoding
+     * @return the decoded content
+     */
+    public static String decode(String content, String encoding) {
+        String decodedContent = null;
+        try {
+            decodedContent = URLDecoder.decode(content, encoding);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return decodedContent;
+    }
+
+    /**
+     * Close the {@link Closeable} quietly if it's not <code>null</code>
+     *
+     * @param closeable {@link Closeable}
+     */
+    public static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            // TODO Log
+        }
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * The Utility class for {@link Map}
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see Map
+ * @since 1.0.0
+ */
+public abstract class MapUtils {
+
+    /**
+     * The max size of the immutable {@link Map} backed by an array, the larger one is backed by the hash table
+     */
+    public static final int MAX_ARRAY_MAP_SIZE = 8;
+
+    /**
+     * Create an immutable {@link Map} from the keys and values
+     *
+     * @param keysAndValues the keys and values : key0, value0, key1, value1, ...
+     * @param <K>           the type of keys
+     * @param <V>           the type of values
+     * @return non-null
+     * @throws IllegalArgumentException if the length of arguments is odd
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> Map<K, V> ofMap(Object... keysAndValues) throws IllegalArgumentException {
+        int length = keysAndValues.length;
+        if ((length & 1) != 0) {
+            throw new IllegalArgumentException("The length of the keys and values must be even");
+        }
+        if (length == 0) {
+            return emptyMap();
+        }
+        if (length <= MAX_ARRAY_MAP_SIZE * 2) {
+            return new ArrayMap<>(keysAndValues.clone());
+        }
+        Map<K, V> map = new LinkedHashMap<>(length);
+        for (int i = 0; i < length; i += 2) {
+            map.put((K) keysAndValues[i], (V) keysAndValues[i + 1]);
+        }
+        return unmodifiableMap(map);
+    }
+
+    /**
+     * Create an immutable copy of the specified {@link Map}, the small one is backed by an array, the larger one is
+     * backed by the hash table.
+     *
+     * @param map the {@link Map}
+     * @param <K> the type of keys
+     * @param <V> the type of values
+     * @return <code>null</code> if <code>map</code> is <code>null</code>
+     */
+    public static <K, V> Map<K, V> immutableMap(Map<K, V> map) {
+        if (map == null) {
+            return null;
+        }
+        int size = map.size();
+        if (size == 0) {
+            return emptyMap();
+        }
+        if (map instanceof ArrayMap) {
+            return map;
+        }
+        if (size <= MAX_ARRAY_MAP_SIZE) {
+            Object[] table = new Object[size * 2];
+            int i = 0;
+            for (Map.Entry<K, V> entry : map.entrySet()) {
+                table[i++] = entry.getKey();
+                table[i++] = entry.getValue();
+            }
+            return new ArrayMap<>(table);
+        }
+        return unmodifiableMap(new LinkedHashMap<>(map));
+    }
+}
@@ -20,13 +20,13 @@ import io.microsphere.nacos.client.common.discovery.model.BaseInstance;
 import io.microsphere.nacos.client.common.discovery.model.Instance;
 import io.microsphere.nacos.client.common.model.Model;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import static io.microsphere.nacos.client.constants.Constants.GROUP_SERVICE_NAME_SEPARATOR;
+import static io.microsphere.nacos.client.util.MapUtils.ofMap;
 
 /**
  * The Utilities for Nacos {@link Model}
@@ -111,15 +111,12 @@ public abstract class ModelUtils {
     }
 
     public static Map<Object, Object> getHeartbeatMap(Instance instance) {
-        Map<Object, Object> heartbeanMap = new HashMap<>(8);
-        Map<String, String> metadata = instance.getMetadata();
-        heartbeanMap.put("ip", instance.getIp());
-        heartbeanMap.put("port", instance.getPort());
-        heartbeanMap.put("serviceName", instance.getServiceName());
-        heartbeanMap.put("cluster", instance.getClusterName());
-        heartbeanMap.put("weight", instance.getWeight());
-        heartbeanMap.put("metadata", metadata);
-        return heartbeanMap;
+        return ofMap("ip", instance.getIp(),
+                "port", instance.getPort(),
+                "serviceName", instance.getServiceName(),
+                "cluster", instance.getClusterName(),
+                "weight", instance.getWeight(),
+                "metadata", instance.getMetadata());
     }
 
     static void resolveInstanceProperties(BaseInstance instance, String serviceName) {
@@ -16,21 +16,27 @@
  */
 package io.microsphere.nacos.client.util;
 
+import io.microsphere.nacos.client.ErrorCode;
 import io.microsphere.nacos.client.common.discovery.ConsistencyType;
 import io.microsphere.nacos.client.common.discovery.model.BaseInstance;
 import io.microsphere.nacos.client.common.discovery.model.Instance;
 import io.microsphere.nacos.client.http.HttpMethod;
 import io.microsphere.nacos.client.transport.OpenApiClient;
+import io.microsphere.nacos.client.transport.OpenApiClientException;
 import io.microsphere.nacos.client.transport.OpenApiRequest;
 import io.microsphere.nacos.client.transport.OpenApiResponse;
 
-import java.util.HashMap;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static io.microsphere.nacos.client.ErrorCode.CLIENT_ERROR;
+import static io.microsphere.nacos.client.ErrorCode.IO_ERROR;
 import static io.microsphere.nacos.client.common.discovery.ConsistencyType.EPHEMERAL;
 import static io.microsphere.nacos.client.constants.Constants.DEFAULT_CLUSTER_NAME;
 import static io.microsphere.nacos.client.transport.OpenApiRequestParam.CLUSTER_NAME;
@@ -42,7 +48,12 @@ import static io.microsphere.nacos.client.transport.OpenApiRequestParam.METADATA
 import static io.microsphere.nacos.client.transport.OpenApiRequestParam.NAMESPACE_ID;
 import static io.microsphere.nacos.client.transport.OpenApiRequestParam.SERVICE_GROUP_NAME;
 import static io.microsphere.nacos.client.transport.OpenApiRequestParam.SERVICE_NAME;
+import static io.microsphere.nacos.client.util.IOUtils.EMPTY_BYTE_ARRAY;
+import static io.microsphere.nacos.client.util.IOUtils.closeQuietly;
+import static io.microsphere.nacos.client.util.IOUtils.readAsString;
+import static io.microsphere.nacos.client.util.MapUtils.ofMap;
 import static io.microsphere.nacos.client.util.ModelUtils.buildServiceName;
+import static io.microsphere.nacos.client.util.StringUtils.isBlank;
 import static java.lang.String.format;
 
 /**
@@ -85,6 +96,61 @@ public abstract class OpenApiUtils {
         return RESPONSE_MESSAGE_OK.equals(message);
     }
 
+    /**
+     * Execute the {@link OpenApiRequest} and get the content of the successful response as the {@link InputStream},
+     * which should be closed by the caller.
+     *
+     * @param openApiClient {@link OpenApiClient}
+     * @param request       {@link OpenApiRequest}
+     * @return non-null
+     * @throws OpenApiClientException if the status of response is not OK
+     */
+    public static InputStream executeAsStream(OpenApiClient openApiClient, OpenApiRequest request) throws OpenApiClientException {
+        OpenApiResponse response = openApiClient.execute(request);
+        int statusCode = response.getStatusCode();
+        InputStream content = response.getContent();
+        if (statusCode == 200) {
+            return content == null ? new ByteArrayInputStream(EMPTY_BYTE_ARRAY) : content;
+        }
+        throw newOpenApiClientException(request, response, openApiClient.getEncoding());
+    }
+
+    /**
+     * Create the {@link OpenApiClientException} for the {@link OpenApiResponse response} whose status is not OK,
+     * the content of response will be consumed and closed.
+     *
+     * @param request  {@link OpenApiRequest}
+     * @param response {@link OpenApiResponse}
+     * @param encoding the encoding of the content of response
+     * @return non-null
+     */
+    public static OpenApiClientException newOpenApiClientException(OpenApiRequest request, OpenApiResponse response,
+                                                                   String encoding) {
+        int statusCode = response.getStatusCode();
+        InputStream content = response.getContent();
+        String statusMessage = response.getStatusMessage();
+        try {
+            if (isBlank(statusMessage)) {
+                statusMessage = readAsString(content, encoding);
+            }
+        } catch (IOException e) {
+            return new OpenApiClientException(IO_ERROR, e.getMessage(), e);
+        } finally {
+            // Release the connection of response
+            closeQuietly(content);
+        }
+        ErrorCode errorCode;
+        try {
+            errorCode = ErrorCode.valueOf(statusCode);
+        } catch (IllegalArgumentException e) {
+            errorCode = CLIENT_ERROR;
+        }
+        statusMessage = isBlank(statusMessage) ? errorCode.getMessage() : statusMessage;
+        String errorMessage = format("The Open API request[%s] is invalid , response status[code : %d , message : %s]",
+                request, statusCode, statusMessage);
+        return new OpenApiClientException(errorCode, errorMessage);
+    }
+
     /**
      * Create the {@link OpenApiRequest.Builder} for {@link BaseInstance Nacos Service Instance}
      *
@@ -154,13 +220,11 @@ public abstract class OpenApiUtils {
     }
 
     private static Map<String, String> buildInstanceMap(Instance instance, ConsistencyType consistencyType) {
-        Map<String, String> map = new HashMap<>(4);
         boolean ephemeral = instance.getEphemeral() == null ? EPHEMERAL.equals(consistencyType) : instance.getEphemeral();
         String clusterName = instance.getClusterName() == null ? DEFAULT_CLUSTER_NAME : instance.getClusterName();
-        map.put("ip", instance.getIp());
-        map.put("port", String.valueOf(instance.getPort()));
-        map.put("ephemeral", String.valueOf(ephemeral));
-        map.put("clusterName", clusterName);
-        return map;
+        return ofMap("ip", instance.getIp(),
+                "port", String.valueOf(instance.getPort()),
+                "ephemeral", String.valueOf(ephemeral),
+                "clusterName", clusterName);
     }
 }
@@ -16,8 +16,14 @@
  */
 package io.microsphere.nacos.client.util;
 
+import io.microsphere.nacos.client.common.model.Result;
+
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * The utility class for {@link Type}
@@ -28,6 +34,11 @@ import java.lang.reflect.Type;
  */
 public abstract class TypeUtils {
 
+    /**
+     * The cache of the canonical {@link Result} types, the key is the type of data
+     */
+    private static final ConcurrentMap<Type, ParameterizedType> resultTypesCache = new ConcurrentHashMap<>();
+
     /**
      * Create an instance of {@link ParameterizedTypeImpl}
      *
@@ -39,6 +50,42 @@ public abstract class TypeUtils {
         return new ParameterizedTypeImpl(rawType, actualTypeArguments);
     }
 
+    /**
+     * Get the canonical {@link ParameterizedType} of {@link Result} for the specified data type, the instance is
+     * created once and cached.
+     *
+     * @param dataType the type of {@link Result#getData() data}
+     * @return non-null
+     */
+    public static ParameterizedType ofResultType(Type dataType) {
+        ParameterizedType resultType = resultTypesCache.get(dataType);
+        if (resultType == null) {
+            resultType = ofParameterizedType(Result.class, dataType);
+            ParameterizedType existedResultType = resultTypesCache.putIfAbsent(dataType, resultType);
+            if (existedResultType != null) {
+                resultType = existedResultType;
+            }
+        }
+        return resultType;
+    }
+
+    /**
+     * Get the type of {@link Result#getData() data} if the specified type is a {@link ParameterizedType} of
+     * {@link Result}
+     *
+     * @param type the type
+     * @return <code>null</code> if the specified type is not a {@link ParameterizedType} of {@link Result}
+     */
+    public static Type getResultDataType(Type type) {
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            if (Result.class.equals(parameterizedType.getRawType())) {
+                return parameterizedType.getActualTypeArguments()[0];
+            }
+        }
+        return null;
+    }
+
     static class ParameterizedTypeImpl implements ParameterizedType {
 
         private final Type rawType;
@@ -72,6 +119,21 @@ public abstract class TypeUtils {
             return ownerType;
         }
 
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ParameterizedType)) return false;
+            ParameterizedType that = (ParameterizedType) o;
+            return Objects.equals(rawType, that.getRawType()) &&
+                    Objects.equals(ownerType, that.getOwnerType()) &&
+                    Arrays.equals(actualTypeArguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(actualTypeArguments) ^ Objects.hashCode(ownerType) ^ Objects.hashCode(rawType);
+        }
+
         @Override
         public String toString() {
             StringBuilder builder = new StringBuilder(rawType.getTypeName());
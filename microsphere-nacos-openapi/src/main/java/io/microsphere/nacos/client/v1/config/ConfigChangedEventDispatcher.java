@@ -0,0 +1,481 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.v1.config;
+
+import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.common.config.event.CoalescingConfigChangedListener;
+import io.microsphere.nacos.client.common.config.event.ConfigChangedEvent;
+import io.microsphere.nacos.client.common.config.event.ConfigChangedListener;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.coalesce;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The dispatcher of {@link ConfigChangedEvent}, the events of the same config are dispatched in order by a
+ * {@link #newSerialExecutor() serial executor}, and the serial executors of all configs share a bounded pool, thus the
+ * listeners of different configs are notified concurrently and the caller never waits for them.
+ * <p>
+ * Each invocation of listener is bounded by {@link NacosClientConfig#getEventProcessingTimeout() the timeout}, the
+ * thread will be interrupted if the listener exceeds it, and the listener that exceeds the timeout
+ * {@link NacosClientConfig#getEventProcessingMaxTimeouts() consecutively} will be isolated on another pool, so it
+ * could not delay the other listeners anymore. The events to an isolated listener are coalesced into the latest one
+ * while it's busy, thus at most one event is pending, and it's restored after as many consecutive invocations complete
+ * in time.
+ * <p>
+ * The events to a {@link CoalescingConfigChangedListener} are held and coalesced until its window is quiet or its
+ * maximum delay is reached, then the coalesced event is dispatched by the serial executor of the config.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigChangedEvent
+ * @see ConfigChangedListener
+ * @since 1.0.0
+ */
+class ConfigChangedEventDispatcher {
+
+    private final NacosClientConfig nacosClientConfig;
+
+    private final ExecutorService dispatchingExecutor;
+
+    private final ExecutorService isolatedExecutor;
+
+    /**
+     * The scheduler of the timeouts and the coalescing flushes
+     */
+    private final ScheduledExecutorService scheduler;
+
+    ConfigChangedEventDispatcher(NacosClientConfig nacosClientConfig) {
+        this.nacosClientConfig = nacosClientConfig;
+        this.dispatchingExecutor = initDispatchingExecutor();
+        this.isolatedExecutor = initIsolatedExecutor();
+        this.scheduler = initScheduler();
+    }
+
+    private ExecutorService initDispatchingExecutor() {
+        int parallelism = Math.max(1, this.nacosClientConfig.getPublishingConfigEventParallelism());
+        AtomicInteger threadIndex = new AtomicInteger();
+        return newFixedThreadPool(parallelism, task -> {
+            String threadName = this.nacosClientConfig.getPublishingConfigEventThreadName() + "-" + threadIndex.incrementAndGet();
+            Thread thread = new Thread(task, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private ExecutorService initIsolatedExecutor() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return newCachedThreadPool(task -> {
+            String threadName = this.nacosClientConfig.getPublishingConfigEventThreadName() + " (Isolated)-" + threadIndex.incrementAndGet();
+            Thread thread = new Thread(task, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private ScheduledExecutorService initScheduler() {
+        return newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, this.nacosClientConfig.getPublishingConfigEventThreadName() + " (Scheduler)");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create a new {@link Executor} that executes the tasks in order on the shared pool
+     *
+     * @return non-null
+     */
+    Executor newSerialExecutor() {
+        return new SerialExecutor(this.dispatchingExecutor);
+    }
+
+    /**
+     * Dispatch the {@link ConfigChangedEvent} to the listeners asynchronously
+     *
+     * @param serialExecutor the {@link #newSerialExecutor() serial executor} of the config
+     * @param listeners      the snapshot of listeners
+     * @param event          {@link ConfigChangedEvent}
+     */
+    void dispatch(Executor serialExecutor, DispatchingListener[] listeners, ConfigChangedEvent event) {
+        serialExecutor.execute(() -> {
+            for (DispatchingListener listener : listeners) {
+                if (listener.coalescingListener == null) {
+                    deliver(listener, event);
+                } else {
+                    hold(serialExecutor, listener, event);
+                }
+            }
+        });
+    }
+
+    private void deliver(DispatchingListener listener, ConfigChangedEvent event) {
+        boolean isolated;
+        synchronized (listener) {
+            isolated = listener.isolated || listener.draining;
+            if (isolated) {
+                // The pending events are coalesced until the isolated thread takes them
+                if (listener.pendingFirstEvent == null) {
+                    listener.pendingFirstEvent = event;
+                }
+                listener.pendingLastEvent = event;
+                if (listener.draining) {
+                    return;
+                }
+                listener.draining = true;
+            }
+        }
+        if (!isolated) {
+            invoke(listener, event);
+            return;
+        }
+        try {
+            this.isolatedExecutor.execute(() -> drain(listener));
+        } catch (RejectedExecutionException e) {
+            // The pool was shutdown
+            synchronized (listener) {
+                listener.pendingFirstEvent = null;
+                listener.pendingLastEvent = null;
+                listener.draining = false;
+            }
+        }
+    }
+
+    /**
+     * Invoke the isolated listener with the pending events until none is pending
+     */
+    private void drain(DispatchingListener listener) {
+        while (true) {
+            ConfigChangedEvent firstEvent;
+            ConfigChangedEvent lastEvent;
+            synchronized (listener) {
+                firstEvent = listener.pendingFirstEvent;
+                lastEvent = listener.pendingLastEvent;
+                listener.pendingFirstEvent = null;
+                listener.pendingLastEvent = null;
+                if (firstEvent == null) {
+                    listener.draining = false;
+                    return;
+                }
+            }
+            ConfigChangedEvent event = coalesce(firstEvent, lastEvent);
+            if (event != null) {
+                invoke(listener, event);
+            }
+        }
+    }
+
+    /**
+     * Hold the event and (re)schedule the flush at the end of the window, but no later than the maximum delay since the
+     * first held event.
+     */
+    private void hold(Executor serialExecutor, DispatchingListener listener, ConfigChangedEvent event) {
+        CoalescingConfigChangedListener coalescingListener = listener.coalescingListener;
+        synchronized (listener) {
+            long now = System.nanoTime();
+            if (listener.firstEvent == null) {
+                listener.firstEvent = event;
+                listener.firstEventTime = now;
+            } else if (listener.flushFuture != null) {
+                listener.flushFuture.cancel(false);
+            }
+            listener.lastEvent = event;
+            long deadline = listener.firstEventTime + MILLISECONDS.toNanos(coalescingListener.getMaxDelay());
+            long delay = Math.min(MILLISECONDS.toNanos(coalescingListener.getWindow()), deadline - now);
+            try {
+                listener.flushFuture = this.scheduler.schedule(() -> serialExecutor.execute(() -> flush(listener)),
+                        Math.max(0, delay), NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // The scheduler was shutdown
+            }
+        }
+    }
+
+    private void flush(DispatchingListener listener) {
+        ConfigChangedEvent firstEvent;
+        ConfigChangedEvent lastEvent;
+        synchronized (listener) {
+            firstEvent = listener.firstEvent;
+            lastEvent = listener.lastEvent;
+            listener.firstEvent = null;
+            listener.lastEvent = null;
+            listener.flushFuture = null;
+        }
+        if (firstEvent == null) {
+            // Flushed already
+            return;
+        }
+        ConfigChangedEvent event = coalesce(firstEvent, lastEvent);
+        if (event != null) {
+            deliver(listener, event);
+        }
+    }
+
+    private void invoke(DispatchingListener listener, ConfigChangedEvent event) {
+        Invocation invocation = new Invocation(Thread.currentThread());
+        int eventProcessingTimeout = this.nacosClientConfig.getEventProcessingTimeout();
+        ScheduledFuture<?> timeoutFuture = null;
+        if (eventProcessingTimeout > 0) {
+            timeoutFuture = this.scheduler.schedule(invocation::timeout, eventProcessingTimeout, MILLISECONDS);
+        }
+        try {
+            listener.listener.onEvent(event);
+        } catch (Throwable e) {
+            // Catch any exception
+            // TODO Log
+        } finally {
+            if (timeoutFuture != null) {
+                timeoutFuture.cancel(false);
+            }
+            if (invocation.complete()) {
+                // Clear the interrupted status for the next task
+                Thread.interrupted();
+                onTimeout(listener);
+            } else {
+                onCompletion(listener);
+            }
+        }
+    }
+
+    private void onTimeout(DispatchingListener listener) {
+        // TODO Log
+        listener.completions = 0;
+        if (++listener.timeouts >= getMaxTimeouts()) {
+            listener.isolated = true;
+        }
+    }
+
+    private void onCompletion(DispatchingListener listener) {
+        listener.timeouts = 0;
+        if (listener.isolated && ++listener.completions >= getMaxTimeouts()) {
+            // The listener is fast again, the pending events are still taken by the isolated thread in order
+            listener.isolated = false;
+            listener.completions = 0;
+        }
+    }
+
+    private int getMaxTimeouts() {
+        return Math.max(1, this.nacosClientConfig.getEventProcessingMaxTimeouts());
+    }
+
+    void shutdown() {
+        this.dispatchingExecutor.shutdownNow();
+        this.isolatedExecutor.shutdownNow();
+        this.scheduler.shutdownNow();
+    }
+
+    /**
+     * The {@link ConfigChangedListener} with its dispatching states
+     */
+    static class DispatchingListener {
+
+        private final ConfigChangedListener listener;
+
+        /**
+         * The owner of listener, or <code>null</code> if not owned
+         */
+        private final Object owner;
+
+        /**
+         * The count of consecutive timeouts, modified by the invoking thread only
+         */
+        private volatile int timeouts;
+
+        /**
+         * The count of consecutive invocations completed in time since isolated, modified by the invoking thread only
+         */
+        private volatile int completions;
+
+        /**
+         * Whether the listener is isolated
+         */
+        private volatile boolean isolated;
+
+        /**
+         * Whether the pending events are being taken by the isolated thread, guarded by this
+         */
+        private boolean draining;
+
+        /**
+         * The first pending event of the isolated listener, guarded by this
+         */
+        private ConfigChangedEvent pendingFirstEvent;
+
+        /**
+         * The last pending event of the isolated listener, guarded by this
+         */
+        private ConfigChangedEvent pendingLastEvent;
+
+        /**
+         * The {@link CoalescingConfigChangedListener}, or <code>null</code> if the events are not coalesced
+         */
+        private final CoalescingConfigChangedListener coalescingListener;
+
+        /**
+         * The first held event, guarded by this
+         */
+        private ConfigChangedEvent firstEvent;
+
+        /**
+         * The last held event, guarded by this
+         */
+        private ConfigChangedEvent lastEvent;
+
+        /**
+         * The time in nanoseconds when the first event was held, guarded by this
+         */
+        private long firstEventTime;
+
+        /**
+         * The scheduled flush, guarded by this
+         */
+        private ScheduledFuture<?> flushFuture;
+
+        DispatchingListener(ConfigChangedListener listener, Object owner) {
+            this.listener = listener;
+            this.owner = owner;
+            this.coalescingListener = listener instanceof CoalescingConfigChangedListener ?
+                    (CoalescingConfigChangedListener) listener : null;
+        }
+
+        boolean isListener(ConfigChangedListener listener) {
+            return this.listener.equals(listener);
+        }
+
+        boolean isSameListener(DispatchingListener that) {
+            return isListener(that.listener);
+        }
+
+        boolean isListener(ConfigChangedListener listener, Object owner) {
+            return isOwner(owner) && isListener(listener);
+        }
+
+        boolean isOwner(Object owner) {
+            return this.owner == owner;
+        }
+    }
+
+    /**
+     * An invocation of listener, the thread is interrupted only if the invocation is not completed on timeout
+     */
+    static class Invocation {
+
+        private final Thread thread;
+
+        private boolean completed;
+
+        private boolean timedOut;
+
+        Invocation(Thread thread) {
+            this.thread = thread;
+        }
+
+        synchronized void timeout() {
+            if (!completed) {
+                timedOut = true;
+                thread.interrupt();
+            }
+        }
+
+        /**
+         * @return {@code true} if timed out
+         */
+        synchronized boolean complete() {
+            completed = true;
+            return timedOut;
+        }
+    }
+
+    /**
+     * The {@link Executor} runs the tasks one by one on the underlying pool, each task is re-submitted to the pool
+     * respectively, thus the serial executors share the pool fairly.
+     */
+    static class SerialExecutor implements Executor {
+
+        private final Executor executor;
+
+        /**
+         * The pending tasks, guarded by this
+         */
+        private final Queue<Runnable> tasks;
+
+        /**
+         * Whether a task is submitted or running, guarded by this
+         */
+        private boolean active;
+
+        SerialExecutor(Executor executor) {
+            this.executor = executor;
+            this.tasks = new ArrayDeque<>();
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            synchronized (this) {
+                tasks.add(task);
+                if (active) {
+                    return;
+                }
+                active = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            try {
+                executor.execute(this::runNext);
+            } catch (RejectedExecutionException e) {
+                // The pool was shutdown
+                synchronized (this) {
+                    tasks.clear();
+                    active = false;
+                }
+            }
+        }
+
+        private void runNext() {
+            Runnable task;
+            synchronized (this) {
+                task = tasks.poll();
+            }
+            try {
+                if (task != null) {
+                    task.run();
+                }
+            } finally {
+                synchronized (this) {
+                    if (tasks.isEmpty()) {
+                        active = false;
+                        return;
+                    }
+                }
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.v1.config;
+
+import io.microsphere.nacos.client.transport.OpenApiRequestBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+
+import static io.microsphere.nacos.client.transport.OpenApiRequestParam.CONFIG_CONTENT;
+import static io.microsphere.nacos.client.util.DigestUtils.newMD5Digest;
+import static io.microsphere.nacos.client.util.DigestUtils.toHex;
+import static io.microsphere.nacos.client.util.IOUtils.DEFAULT_BUFFER_SIZE;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * The form {@link OpenApiRequestBody} of the config content, which is URL-encoded from the {@link InputStream} chunk
+ * by chunk in the same way as {@link java.net.URLEncoder}, and its MD5 is computed on the way.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see OpenApiRequestBody
+ * @since 1.0.0
+ */
+class ConfigContentRequestBody implements OpenApiRequestBody {
+
+    static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded; charset=UTF-8";
+
+    private static final byte[] CONTENT_PREFIX = (CONFIG_CONTENT.getName() + "=").getBytes(US_ASCII);
+
+    private static final byte[] HEX_BYTES = "0123456789ABCDEF".getBytes(US_ASCII);
+
+    private final InputStream content;
+
+    private volatile String md5;
+
+    private volatile IOException readFailure;
+
+    ConfigContentRequestBody(InputStream content) {
+        this.content = content;
+    }
+
+    @Override
+    public String getContentType() {
+        return FORM_CONTENT_TYPE;
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        MessageDigest digest = newMD5Digest();
+        byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+        byte[] encodedBuffer = new byte[DEFAULT_BUFFER_SIZE * 3];
+        outputStream.write(CONTENT_PREFIX);
+        int length;
+        while ((length = read(buffer)) > -1) {
+            digest.update(buffer, 0, length);
+            outputStream.write(encodedBuffer, 0, encode(buffer, length, encodedBuffer));
+        }
+        this.md5 = toHex(digest.digest());
+    }
+
+    private int read(byte[] buffer) throws IOException {
+        try {
+            return this.content.read(buffer);
+        } catch (IOException e) {
+            // Distinguish the failure of the content from the transport's
+            this.readFailure = e;
+            throw e;
+        }
+    }
+
+    private static int encode(byte[] bytes, int length, byte[] encodedBytes) {
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            int value = bytes[i] & 0xFF;
+            if ((value >= 'a' && value <= 'z') || (value >= 'A' && value <= 'Z') || (value >= '0' && value <= '9') ||
+                    value == '.' || value == '-' || value == '*' || value == '_') {
+                encodedBytes[index++] = (byte) value;
+            } else if (value == ' ') {
+                encodedBytes[index++] = '+';
+            } else {
+                encodedBytes[index++] = '%';
+                encodedBytes[index++] = HEX_BYTES[value >>> 4];
+                encodedBytes[index++] = HEX_BYTES[value & 0x0F];
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Get the MD5 of the content
+     *
+     * @return <code>null</code> if the content was not written completely
+     */
+    String getMd5() {
+        return md5;
+    }
+
+    /**
+     * Get the {@link IOException} thrown by reading the content
+     *
+     * @return <code>null</code> if the content was read successfully
+     */
+    IOException getReadFailure() {
+        return readFailure;
+    }
+}
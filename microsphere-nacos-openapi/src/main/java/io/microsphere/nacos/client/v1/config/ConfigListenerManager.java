@@ -21,38 +21,62 @@ import io.microsphere.nacos.client.common.config.ConfigClient;
 import io.microsphere.nacos.client.common.config.event.ConfigChangedEvent;
 import io.microsphere.nacos.client.common.config.event.ConfigChangedListener;
 import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import io.microsphere.nacos.client.common.config.parser.ConfigParsers;
 import io.microsphere.nacos.client.transport.OpenApiClient;
+import io.microsphere.nacos.client.transport.OpenApiClientException;
 import io.microsphere.nacos.client.transport.OpenApiRequest;
+import io.microsphere.nacos.client.v1.config.ConfigChangedEventDispatcher.DispatchingListener;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static io.microsphere.nacos.client.ErrorCode.IO_ERROR;
 import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.ofCreated;
 import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.ofDeleted;
 import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.ofModified;
+import static io.microsphere.nacos.client.constants.Constants.DEFAULT_GROUP_NAME;
+import static io.microsphere.nacos.client.constants.Constants.LISTENING_CONFIG_FIELD_SEPARATOR;
 import static io.microsphere.nacos.client.constants.Constants.LISTENING_CONFIG_SEPARATOR;
 import static io.microsphere.nacos.client.http.HttpMethod.POST;
 import static io.microsphere.nacos.client.transport.OpenApiRequestHeader.LONG_PULLING_TIMEOUT;
+import static io.microsphere.nacos.client.transport.OpenApiRequestHeader.LONG_PULLING_TIMEOUT_NO_HANGUP;
 import static io.microsphere.nacos.client.transport.OpenApiRequestParam.LISTENING_CONFIGS;
-import static io.microsphere.nacos.client.v1.config.util.ConfigUtil.buildConfigId;
-import static io.microsphere.nacos.client.v1.config.util.ConfigUtil.buildListeningConfigDataPacket;
-import static java.lang.Runtime.getRuntime;
+import static io.microsphere.nacos.client.util.IOUtils.decode;
+import static io.microsphere.nacos.client.util.IOUtils.encode;
+import static io.microsphere.nacos.client.util.IOUtils.readAsString;
+import static io.microsphere.nacos.client.util.OpenApiUtils.executeAsStream;
+import static io.microsphere.nacos.client.util.StringUtils.isBlank;
+import static io.microsphere.nacos.client.v1.config.util.ConfigUtil.parseConfigKeys;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
-import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 
 /**
- * The Manager class of {@link Config} Listener
+ * The Manager class of {@link Config} Listener, which could be shared by the {@link ConfigClient config clients} of the
+ * same server, the listeners are registered with their owners, thus the listeners of an owner could be removed
+ * together. The manager is stopped explicitly by {@link #close()}.
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
  * @see Config
@@ -62,78 +86,337 @@ class ConfigListenerManager {
 
     private static final String LISTENER_ENDPOINT = "/v1/cs/configs/listener";
 
-    private final ConfigClient configClient;
+    /**
+     * The initial delay in milliseconds to retry listening after an error
+     */
+    private static final long INITIAL_RETRY_DELAY = 1000;
 
-    private final OpenApiClient openApiClient;
+    /**
+     * The {@link ConfigClient} to fetch the configs, which could be switched if the manager is shared
+     */
+    private volatile ConfigClient configClient;
+
+    /**
+     * The {@link OpenApiClient} to listen the configs, which could be switched if the manager is shared
+     */
+    private volatile OpenApiClient openApiClient;
 
     private final NacosClientConfig nacosClientConfig;
 
-    private final ConcurrentMap<String, ListeningConfig> listeningConfigsCache;
+    /**
+     * The local snapshots of configs, or <code>null</code> if disabled
+     */
+    private final ConfigSnapshotRepository configSnapshotRepository;
+
+    /**
+     * The registry of listening configs, whose keys are canonical
+     */
+    private final ConcurrentMap<ConfigKey, ListeningConfig> listeningConfigsCache;
+
+    /**
+     * The scheduled fetches of the configs that are not existed yet, ordered by their trigger time
+     */
+    private final DelayQueue<FetchingConfig> fetchingConfigsQueue;
 
-    private final CopyOnWriteArraySet<String> fetchingConfigIds;
+    /**
+     * The scheduled fetches indexed by the keys, at most one fetch per key
+     */
+    private final ConcurrentMap<ConfigKey, FetchingConfig> fetchingConfigs;
 
-    private final CopyOnWriteArraySet<String> listeningConfigDataPackets;
+    /**
+     * The long polling tasks, each one listens a shard of configs, guarded by itself
+     */
+    private final List<ListeningTask> listeningTasks;
 
     private final ExecutorService fetchingConfigsExecutor;
 
-    private final ScheduledExecutorService listeningConfigsScheduler;
+    private final ExecutorService listeningConfigsExecutor;
+
+    private final ExecutorService changedConfigsExecutor;
+
+    private final ConfigChangedEventDispatcher eventDispatcher;
 
-    private final ExecutorService publishingEventExecutor;
+    /**
+     * The {@link ConfigParsers} of the events, or <code>null</code> if not cached
+     */
+    private final ConfigParsers configParsers;
+
+    private volatile boolean running;
 
     ConfigListenerManager(ConfigClient configClient, OpenApiClient openApiClient, NacosClientConfig nacosClientConfig) {
+        this(configClient, openApiClient, nacosClientConfig, null);
+    }
+
+    ConfigListenerManager(ConfigClient configClient, OpenApiClient openApiClient, NacosClientConfig nacosClientConfig,
+                          ConfigSnapshotRepository configSnapshotRepository) {
+        this(configClient, openApiClient, nacosClientConfig, configSnapshotRepository, null);
+    }
+
+    ConfigListenerManager(ConfigClient configClient, OpenApiClient openApiClient, NacosClientConfig nacosClientConfig,
+                          ConfigSnapshotRepository configSnapshotRepository, ConfigParsers configParsers) {
         this.configClient = configClient;
         this.openApiClient = openApiClient;
         this.nacosClientConfig = nacosClientConfig;
+        this.configSnapshotRepository = configSnapshotRepository;
         this.listeningConfigsCache = new ConcurrentHashMap<>();
-        this.fetchingConfigIds = new CopyOnWriteArraySet();
-        this.listeningConfigDataPackets = new CopyOnWriteArraySet();
+        this.fetchingConfigsQueue = new DelayQueue<>();
+        this.fetchingConfigs = new ConcurrentHashMap<>();
+        this.listeningTasks = new ArrayList<>();
+        this.running = true;
         this.fetchingConfigsExecutor = initFetchingConfigsExecutor();
-        this.listeningConfigsScheduler = initListeningConfigsScheduler();
-        this.publishingEventExecutor = initPublishingEventExecutor();
-        // Add shutdown hook
-        getRuntime().addShutdownHook(new Thread(this::destroy));
-    }
-
-    private void destroy() {
-        this.fetchingConfigsExecutor.shutdown();
-        this.listeningConfigsScheduler.shutdown();
-        this.publishingEventExecutor.shutdown();
-        this.listeningConfigDataPackets.clear();
-        this.fetchingConfigIds.clear();
+        this.listeningConfigsExecutor = initListeningConfigsExecutor();
+        this.changedConfigsExecutor = initChangedConfigsExecutor();
+        this.eventDispatcher = new ConfigChangedEventDispatcher(nacosClientConfig);
+        this.configParsers = configParsers;
+    }
+
+    /**
+     * Switch the clients to fetch and listen the configs, e.g. the previous ones were closed
+     *
+     * @param configClient  {@link ConfigClient}
+     * @param openApiClient {@link OpenApiClient}
+     */
+    void switchClients(ConfigClient configClient, OpenApiClient openApiClient) {
+        this.configClient = configClient;
+        this.openApiClient = openApiClient;
+    }
+
+    /**
+     * Stop the threads and remove all listeners
+     */
+    void close() {
+        if (!this.running) {
+            return;
+        }
+        this.running = false;
+        // Interrupt the fetching task if it's waiting
+        this.fetchingConfigsExecutor.shutdownNow();
+        synchronized (this.listeningTasks) {
+            this.listeningTasks.forEach(ListeningTask::stop);
+            this.listeningTasks.clear();
+        }
+        // Interrupt the listening tasks if they're waiting or backing off
+        this.listeningConfigsExecutor.shutdownNow();
+        this.changedConfigsExecutor.shutdown();
+        this.eventDispatcher.shutdown();
+        this.fetchingConfigsQueue.clear();
+        this.fetchingConfigs.clear();
         this.listeningConfigsCache.clear();
     }
 
     void addEventListener(String namespaceId, String group, String dataId, ConfigChangedListener listener) {
-        handleEventListener(namespaceId, group, dataId, listener, false);
+        addEventListener(namespaceId, group, dataId, listener, null);
     }
 
-    void removeEventListener(String namespaceId, String group, String dataId, ConfigChangedListener listener) {
-        handleEventListener(namespaceId, group, dataId, listener, true);
+    void addEventListener(String namespaceId, String group, String dataId, ConfigChangedListener listener, Object owner) {
+        addEventListeners(singletonList(ConfigKey.of(namespaceId, group, dataId)), listener, owner);
+    }
+
+    void addEventListeners(Collection<ConfigKey> configKeys, ConfigChangedListener listener) {
+        addEventListeners(configKeys, listener, null);
     }
 
+    /**
+     * Add the {@link ConfigChangedListener} to the configs in bulk, all configs are registered without any network
+     * I/O, then the uninitialized ones are initialized from the local snapshots if their MD5s are not changed on the
+     * server, the rest are fetched concurrently with the bounded parallelism.
+     *
+     * @param configKeys the keys of configs
+     * @param listener   {@link ConfigChangedListener}
+     * @param owner      (optional) the owner of listener
+     */
+    void addEventListeners(Collection<ConfigKey> configKeys, ConfigChangedListener listener, Object owner) {
+        List<ListeningConfig> uninitializedConfigs = new ArrayList<>(configKeys.size());
+        for (ConfigKey configKey : configKeys) {
+            ListeningConfig listeningConfig = register(configKey, listener, owner);
+            if (!listeningConfig.initialized) {
+                uninitializedConfigs.add(listeningConfig);
+            }
+        }
+        uninitializedConfigs = initializeFromSnapshots(uninitializedConfigs);
+        int size = uninitializedConfigs.size();
+        if (size == 0) {
+            return;
+        } else if (size == 1) {
+            initialize(uninitializedConfigs.get(0));
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>(size);
+        for (ListeningConfig listeningConfig : uninitializedConfigs) {
+            futures.add(this.changedConfigsExecutor.submit(() -> initialize(listeningConfig)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                // TODO Log
+            }
+        }
+    }
 
-    private void handleEventListener(String namespaceId, String group, String dataId, ConfigChangedListener listener, boolean forRemoval) {
+    /**
+     * Initialize the configs from the local snapshots, whose MD5s are revalidated by a single listening request
+     * without hanging up.
+     *
+     * @param listeningConfigs the uninitialized configs
+     * @return the configs that are required to be fetched
+     */
+    private List<ListeningConfig> initializeFromSnapshots(List<ListeningConfig> listeningConfigs) {
+        ConfigSnapshotRepository configSnapshotRepository = this.configSnapshotRepository;
+        if (configSnapshotRepository == null || listeningConfigs.isEmpty()) {
+            return listeningConfigs;
+        }
+        List<ListeningConfig> fetchingConfigs = new ArrayList<>(listeningConfigs.size());
+        Map<ListeningConfig, Config> snapshots = new LinkedHashMap<>();
+        StringBuilder dataPackets = new StringBuilder();
+        for (ListeningConfig listeningConfig : listeningConfigs) {
+            Config snapshot = configSnapshotRepository.load(listeningConfig.configKey);
+            String md5 = snapshot == null ? null : snapshot.getMd5();
+            if (md5 == null) {
+                fetchingConfigs.add(listeningConfig);
+            } else {
+                snapshots.put(listeningConfig, snapshot);
+                dataPackets.append(listeningConfig.buildDataPacket(md5));
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return listeningConfigs;
+        }
+        Set<ConfigKey> changedConfigKeys;
+        try {
+            changedConfigKeys = new HashSet<>(getChangedConfigKeys(dataPackets.toString(), false));
+        } catch (Throwable e) {
+            // The server is unavailable, all of them will be fetched with the failover
+            // TODO Log
+            return listeningConfigs;
+        }
+        for (Map.Entry<ListeningConfig, Config> entry : snapshots.entrySet()) {
+            ListeningConfig listeningConfig = entry.getKey();
+            if (changedConfigKeys.contains(listeningConfig.configKey)) {
+                fetchingConfigs.add(listeningConfig);
+            } else {
+                listeningConfig.initialize(entry.getValue());
+            }
+        }
+        return fetchingConfigs;
+    }
 
-        ListeningConfig listeningConfig = getListeningConfig(namespaceId, group, dataId);
-        listeningConfig.handleListener(listener, forRemoval);
+    private ListeningConfig register(ConfigKey configKey, ConfigChangedListener listener, Object owner) {
+        // No network I/O in the remapping function, which holds the lock of the bin
+        return this.listeningConfigsCache.compute(normalize(configKey), (key, existedListeningConfig) -> {
+            ListeningConfig newListeningConfig = existedListeningConfig == null ?
+                    new ListeningConfig(key) : existedListeningConfig;
+            newListeningConfig.listeners.addListener(listener, owner);
+            return newListeningConfig;
+        });
+    }
 
-        Config config = listeningConfig.config;
+    private void initialize(ListeningConfig listeningConfig) {
+        try {
+            listeningConfig.initialize();
+        } catch (Throwable e) {
+            // Catch any exception
+            // TODO Log
+        }
+        if (listeningConfig.config == null) {
+            // The specified config is not existed now or failed to be fetched,
+            // it will be fetched by the scheduled task later
+            scheduleFetchingConfig(listeningConfig.configKey, nextRetryDelay(0));
+        }
+    }
 
-        if (config == null) {
-            // The specified config is not existed now,
-            // it will be fetched in next scheduled task
-            fetchingConfigIds.add(listeningConfig.configId);
-            synchronized (fetchingConfigIds) {
-                fetchingConfigIds.notifyAll();
+    /**
+     * Fire the {@link ConfigChangedEvent#ofCreated(Config) created events} of the current configs to the listener
+     * only, which are dispatched in order with the other events of the same config, the absent configs will fire them
+     * on their creation.
+     *
+     * @param configKeys the keys of configs
+     * @param listener   {@link ConfigChangedListener}
+     * @param owner      (optional) the owner of listener
+     */
+    void fireCreatedEvents(Collection<ConfigKey> configKeys, ConfigChangedListener listener, Object owner) {
+        for (ConfigKey configKey : configKeys) {
+            ListeningConfig listeningConfig = this.listeningConfigsCache.get(normalize(configKey));
+            if (listeningConfig != null) {
+                listeningConfig.fireCreatedEvent(listener, owner);
             }
-        } else {
-            listeningConfig.addDataPacket(config);
         }
     }
 
-    private ListeningConfig getListeningConfig(String namespaceId, String group, String dataId) {
-        String configId = buildConfigId(namespaceId, group, dataId);
-        return this.listeningConfigsCache.computeIfAbsent(configId, id -> new ListeningConfig(namespaceId, group, dataId, configId));
+    void removeEventListener(String namespaceId, String group, String dataId, ConfigChangedListener listener) {
+        removeEventListener(namespaceId, group, dataId, listener, null);
+    }
+
+    void removeEventListener(String namespaceId, String group, String dataId, ConfigChangedListener listener,
+                             Object owner) {
+        ConfigKey configKey = normalize(ConfigKey.of(namespaceId, group, dataId));
+        this.listeningConfigsCache.computeIfPresent(configKey, (key, listeningConfig) -> {
+            listeningConfig.listeners.removeListener(listener, owner);
+            return releaseIfUnused(listeningConfig);
+        });
+    }
+
+    /**
+     * Remove all listeners of the specified owner
+     *
+     * @param owner the owner of listeners
+     */
+    void removeEventListeners(Object owner) {
+        for (ConfigKey configKey : this.listeningConfigsCache.keySet()) {
+            this.listeningConfigsCache.computeIfPresent(configKey, (key, listeningConfig) -> {
+                listeningConfig.listeners.removeListeners(owner);
+                return releaseIfUnused(listeningConfig);
+            });
+        }
+    }
+
+    /**
+     * @return <code>null</code> if the config has no listener, which will not be listened anymore
+     */
+    private ListeningConfig releaseIfUnused(ListeningConfig listeningConfig) {
+        if (listeningConfig.hasListeners()) {
+            return listeningConfig;
+        }
+        listeningConfig.release();
+        return null;
+    }
+
+    /**
+     * Normalize the {@link ConfigKey} as the canonical one, whose blank group is the default group, and the blank
+     * namespace has been normalized by {@link ConfigKey} itself.
+     *
+     * @param configKey {@link ConfigKey}
+     * @return non-null
+     */
+    static ConfigKey normalize(ConfigKey configKey) {
+        String group = configKey.getGroup();
+        return isBlank(group) ? ConfigKey.of(configKey.getNamespaceId(), DEFAULT_GROUP_NAME, configKey.getDataId()) : configKey;
+    }
+
+    /**
+     * Whether no config is listened
+     *
+     * @return <code>true</code> if no config is listened
+     */
+    boolean isIdle() {
+        return this.listeningConfigsCache.isEmpty();
+    }
+
+    /**
+     * Get the listened config, which is kept up to date by the long polling
+     *
+     * @param configKey {@link ConfigKey}
+     * @return <code>null</code> if the config is not listened, not fetched yet or absent
+     */
+    Config getListeningConfig(ConfigKey configKey) {
+        ListeningConfig listeningConfig = this.listeningConfigsCache.get(configKey);
+        if (listeningConfig == null || !listeningConfig.initialized) {
+            return null;
+        }
+        return listeningConfig.config;
     }
 
     private ExecutorService initFetchingConfigsExecutor() {
@@ -147,151 +430,588 @@ class ConfigListenerManager {
         return executorService;
     }
 
-    private ScheduledExecutorService initListeningConfigsScheduler() {
-        ScheduledExecutorService scheduledExecutor = newSingleThreadScheduledExecutor(task -> {
-            Thread thread = new Thread(task, this.nacosClientConfig.getListenerConfigThreadName());
+    private ExecutorService initListeningConfigsExecutor() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executorService = newCachedThreadPool(task -> {
+            String threadName = this.nacosClientConfig.getListenerConfigThreadName() + "-" + threadIndex.incrementAndGet();
+            Thread thread = new Thread(task, threadName);
             thread.setDaemon(true);
             return thread;
         });
-        int longPollingTimeout = nacosClientConfig.getLongPollingTimeout();
-        scheduledExecutor.scheduleAtFixedRate(this::listen, longPollingTimeout, longPollingTimeout, TimeUnit.MILLISECONDS);
-        return scheduledExecutor;
+        return executorService;
     }
 
-
-    private ExecutorService initPublishingEventExecutor() {
-        ExecutorService executorService = newSingleThreadExecutor(task -> {
-            Thread thread = new Thread(task, this.nacosClientConfig.getPublishingConfigEventThreadName());
+    private ExecutorService initChangedConfigsExecutor() {
+        int parallelism = Math.max(1, this.nacosClientConfig.getFetchingConfigsParallelism());
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executorService = newFixedThreadPool(parallelism, task -> {
+            String threadName = this.nacosClientConfig.getFetchingConfigThreadName() + "-" + threadIndex.incrementAndGet();
+            Thread thread = new Thread(task, threadName);
             thread.setDaemon(true);
             return thread;
         });
         return executorService;
     }
 
+    /**
+     * Assign the {@link ListeningTask} with the fewest configs to a new {@link ListeningConfig}, a new
+     * {@link ListeningTask} will be started if all of them are full.
+     * <p>
+     * The membership is published under the lock of {@link #listeningTasks}, thus the rebalancing in
+     * {@link #releaseListeningTask(ListeningConfig)} always sees the new {@link ListeningConfig} even if it's not
+     * visible in {@link #listeningConfigsCache} yet.
+     *
+     * @param listeningConfig the new {@link ListeningConfig}
+     */
+    private void assignListeningTask(ListeningConfig listeningConfig) {
+        synchronized (this.listeningTasks) {
+            ListeningTask listeningTask = getLeastListeningTask(null);
+            if (listeningTask == null || listeningTask.listeningConfigs.size() >= getListeningConfigsPerTask()) {
+                listeningTask = new ListeningTask();
+                this.listeningTasks.add(listeningTask);
+                if (this.running) {
+                    this.listeningConfigsExecutor.execute(listeningTask);
+                }
+            }
+            listeningTask.listeningConfigs.add(listeningConfig);
+            listeningConfig.listeningTask = listeningTask;
+        }
+    }
+
+    /**
+     * Release the {@link ListeningTask} from a removed {@link ListeningConfig}, the configs of the least loaded
+     * {@link ListeningTask} will be moved to the others if they could be held by the fewer tasks.
+     *
+     * @param listeningConfig the removed {@link ListeningConfig}
+     */
+    private void releaseListeningTask(ListeningConfig listeningConfig) {
+        synchronized (this.listeningTasks) {
+            listeningConfig.listeningTask.listeningConfigs.remove(listeningConfig);
+            int size = this.listeningTasks.size();
+            if (size < 2) {
+                return;
+            }
+            int totalListeningConfigs = 0;
+            for (ListeningTask task : this.listeningTasks) {
+                totalListeningConfigs += task.listeningConfigs.size();
+            }
+            if (totalListeningConfigs > (size - 1) * getListeningConfigsPerTask()) {
+                return;
+            }
+            ListeningTask retiredTask = getLeastListeningTask(null);
+            for (ListeningConfig retiredConfig : new ArrayList<>(retiredTask.listeningConfigs)) {
+                retiredConfig.moveTo(getLeastListeningTask(retiredTask));
+            }
+            this.listeningTasks.remove(retiredTask);
+            retiredTask.stop();
+        }
+    }
+
+    private ListeningTask getLeastListeningTask(ListeningTask excludedTask) {
+        ListeningTask leastListeningTask = null;
+        for (ListeningTask listeningTask : this.listeningTasks) {
+            if (listeningTask != excludedTask &&
+                    (leastListeningTask == null ||
+                            listeningTask.listeningConfigs.size() < leastListeningTask.listeningConfigs.size())) {
+                leastListeningTask = listeningTask;
+            }
+        }
+        return leastListeningTask;
+    }
+
+    private int getListeningConfigsPerTask() {
+        return Math.max(1, this.nacosClientConfig.getListeningConfigsPerTask());
+    }
+
+    /**
+     * Schedule to fetch the config that is not existed yet, it's ignored if the fetch of the same config has been
+     * scheduled.
+     *
+     * @param configKey the key of config
+     * @param delay     the delay in milliseconds
+     */
+    private void scheduleFetchingConfig(ConfigKey configKey, long delay) {
+        FetchingConfig fetchingConfig = new FetchingConfig(configKey);
+        fetchingConfig.delay(delay);
+        if (this.fetchingConfigs.putIfAbsent(configKey, fetchingConfig) == null) {
+            this.fetchingConfigsQueue.put(fetchingConfig);
+        }
+    }
 
+    /**
+     * The fetching task blocks until any scheduled fetch is due, all due fetches are drained and executed in bulk,
+     * the missing configs are rescheduled with the exponential backoff respectively.
+     */
     private void fetchConfigs() {
-        while (true) {
-            Collection<String> loadingConfigIds = this.fetchingConfigIds;
-            synchronized (loadingConfigIds) {
-                while (loadingConfigIds.isEmpty()) {
-                    try {
-                        // Blocking if loadingConfigIds is empty
-                        loadingConfigIds.wait();
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                }
+        List<FetchingConfig> dueFetchingConfigs = new ArrayList<>();
+        while (this.running) {
+            try {
+                // Blocking until the head of queue is due
+                dueFetchingConfigs.add(this.fetchingConfigsQueue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
             }
+            // The registrations in bulk are fetched together
+            this.fetchingConfigsQueue.drainTo(dueFetchingConfigs);
             try {
-                Iterator<String> iterator = loadingConfigIds.iterator();
-                while (iterator.hasNext()) {
-                    String configId = iterator.next();
-                    ListeningConfig listeningConfig = listeningConfigsCache.get(configId);
-                    Config config = listeningConfig.config;
-                    if (config == null) {
-                        // try to fetch a new config
-                        config = listeningConfig.fetch();
-                    }
-                    if (config != null) {
-                        // The config was fetched completely,
-                        // the loading config id will be removed
-                        listeningConfig.update(config);
-                        iterator.remove();
-                    }
-                }
+                fetchConfigs(dueFetchingConfigs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                dueFetchingConfigs.clear();
+            }
+        }
+    }
+
+    private void fetchConfigs(List<FetchingConfig> dueFetchingConfigs) throws InterruptedException {
+        int size = dueFetchingConfigs.size();
+        if (size == 1) {
+            fetchConfig(dueFetchingConfigs.get(0));
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>(size);
+        for (FetchingConfig fetchingConfig : dueFetchingConfigs) {
+            futures.add(this.changedConfigsExecutor.submit(() -> fetchConfig(fetchingConfig)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                // TODO Log
+            }
+        }
+    }
+
+    private void fetchConfig(FetchingConfig fetchingConfig) {
+        ConfigKey configKey = fetchingConfig.configKey;
+        ListeningConfig listeningConfig = this.listeningConfigsCache.get(configKey);
+        if (listeningConfig != null && !listeningConfig.released && listeningConfig.config == null) {
+            try {
+                listeningConfig.refresh();
             } catch (Throwable e) {
                 // Catch any exception
                 // TODO Log
             }
+            if (listeningConfig.config == null && this.running) {
+                // The config is still missing, try again later
+                fetchingConfig.delay(nextRetryDelay(fetchingConfig.retryDelay));
+                this.fetchingConfigsQueue.put(fetchingConfig);
+                return;
+            }
         }
-
+        // The config was fetched or is not listened anymore
+        this.fetchingConfigs.remove(configKey, fetchingConfig);
     }
 
-    private boolean fetchAndUpdate(String configId) {
-        ListeningConfig listeningConfig = listeningConfigsCache.get(configId);
-        Config config = listeningConfig.fetch();
-        boolean updated = listeningConfig.update(config);
-        return updated;
+    private boolean fetchAndUpdate(ConfigKey configKey) {
+        ListeningConfig listeningConfig = listeningConfigsCache.get(configKey);
+        if (listeningConfig == null) {
+            // The config is not listened anymore
+            return false;
+        }
+        return listeningConfig.refresh();
     }
 
-    private void listen() {
-        try {
-            String[] changedConfigIds = getChangedConfigIds();
-            if (changedConfigIds != null) {
-                for (String changedConfigId : changedConfigIds) {
-                    fetchAndUpdate(changedConfigId);
+    /**
+     * Fetch and update the changed configs concurrently with the bounded parallelism, the events are fired as soon as
+     * each config was fetched, this method returns after all of them are completed.
+     *
+     * @param changedConfigKeys the keys of changed configs
+     * @throws Exception the first failure of fetching
+     */
+    private void fetchAndUpdate(List<ConfigKey> changedConfigKeys) throws Exception {
+        int size = changedConfigKeys.size();
+        if (size == 1) {
+            fetchAndUpdate(changedConfigKeys.get(0));
+            return;
+        }
+        List<Future<Boolean>> futures = new ArrayList<>(size);
+        for (ConfigKey changedConfigKey : changedConfigKeys) {
+            futures.add(this.changedConfigsExecutor.submit(() -> fetchAndUpdate(changedConfigKey)));
+        }
+        Exception failure = null;
+        for (Future<Boolean> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    Throwable cause = e.getCause();
+                    failure = cause instanceof Exception ? (Exception) cause : e;
                 }
             }
-        } catch (Throwable e) {
-            // Catch any exception
-            // TODO Log
+        }
+        if (failure != null) {
+            throw failure;
         }
     }
 
-    private String[] getChangedConfigIds() {
-        String listeningConfigs = buildListeningConfigs();
-        String[] changedConfigIds = null;
-
-        if (listeningConfigs != null) {
-            int longPollingTimeout = this.nacosClientConfig.getLongPollingTimeout();
-            OpenApiRequest request = OpenApiRequest.Builder.create(LISTENER_ENDPOINT)
-                    .method(POST)
-                    .queryParameter(LISTENING_CONFIGS, listeningConfigs)
-                    .header(LONG_PULLING_TIMEOUT, longPollingTimeout)
-                    .build();
-            String changedConfigIdsContent = this.openApiClient.execute(request, String.class);
-            changedConfigIds = changedConfigIdsContent == null ? null : changedConfigIdsContent.split(LISTENING_CONFIG_SEPARATOR);
-        }
-        return changedConfigIds;
+    private long nextRetryDelay(long retryDelay) {
+        long maxRetryDelay = this.nacosClientConfig.getLongPollingTimeout();
+        long nextRetryDelay = retryDelay < 1 ? INITIAL_RETRY_DELAY : retryDelay << 1;
+        return Math.min(nextRetryDelay, maxRetryDelay);
     }
 
-    private String buildListeningConfigs() {
-        if (listeningConfigDataPackets.isEmpty()) {
+    /**
+     * Get the keys of the changed configs
+     *
+     * @param listeningConfigs the concatenated data packets
+     * @param hangup           whether the request hangs up until any config is changed or timeout
+     * @return <code>null</code> if <code>listeningConfigs</code> is <code>null</code>
+     */
+    private List<ConfigKey> getChangedConfigKeys(String listeningConfigs, boolean hangup) {
+        if (listeningConfigs == null) {
             return null;
         }
-        StringBuilder builder = new StringBuilder();
-        listeningConfigDataPackets.forEach(builder::append);
-        return builder.toString();
+        int longPollingTimeout = this.nacosClientConfig.getLongPollingTimeout();
+        OpenApiRequest.Builder requestBuilder = OpenApiRequest.Builder.create(LISTENER_ENDPOINT)
+                .method(POST)
+                .queryParameter(LISTENING_CONFIGS, listeningConfigs)
+                .header(LONG_PULLING_TIMEOUT, longPollingTimeout);
+        if (!hangup) {
+            requestBuilder.header(LONG_PULLING_TIMEOUT_NO_HANGUP, Boolean.TRUE);
+        }
+        OpenApiRequest request = requestBuilder.build();
+        String encoding = this.openApiClient.getEncoding();
+        String changedConfigKeysContent;
+        try (InputStream content = executeAsStream(this.openApiClient, request)) {
+            changedConfigKeysContent = readAsString(content, encoding);
+        } catch (IOException e) {
+            throw new OpenApiClientException(IO_ERROR, e.getMessage(), e);
+        }
+        // The response is URL-encoded : dataId^2group^2tenant^1dataId^2group^1...
+        return parseConfigKeys(decode(changedConfigKeysContent, encoding));
     }
 
     private Config getConfig(String namespaceId, String group, String dataId) {
         return this.configClient.getConfig(namespaceId, group, dataId);
     }
 
-    class ListeningConfig {
+    /**
+     * The long polling task listens a shard of configs, it re-arms the next polling as soon as the previous one
+     * returns, and backs off only if the polling was failed.
+     * <p>
+     * The pre-encoded data packets are concatenated into a buffer incrementally, the new ones are appended, the modified
+     * ones are replaced in place, and the buffer is compacted lazily only after the removals.
+     */
+    class ListeningTask implements Runnable {
+
+        /**
+         * The pre-encoded data packets of the listened configs, guarded by this
+         */
+        private final Map<ConfigKey, DataPacket> dataPackets;
+
+        /**
+         * The concatenation of {@link #dataPackets}, guarded by this
+         */
+        private final StringBuilder packetBuffer;
+
+        /**
+         * Whether {@link #packetBuffer} requires to be rebuilt, guarded by this
+         */
+        private boolean compactionRequired;
+
+        /**
+         * The configs assigned to this task, guarded by {@link #listeningTasks}
+         */
+        private final Set<ListeningConfig> listeningConfigs;
+
+        private volatile boolean stopped;
+
+        ListeningTask() {
+            this.dataPackets = new LinkedHashMap<>();
+            this.packetBuffer = new StringBuilder();
+            this.listeningConfigs = new HashSet<>();
+        }
+
+        @Override
+        public void run() {
+            long retryDelay = 0;
+            while (isRunning()) {
+                try {
+                    awaitDataPackets();
+                    listen();
+                    retryDelay = 0;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (Throwable e) {
+                    // Catch any exception
+                    // TODO Log
+                    if (!isRunning()) {
+                        // The failure was caused by stopping
+                        break;
+                    }
+                    retryDelay = nextRetryDelay(retryDelay);
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(retryDelay);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+        }
+
+        private boolean isRunning() {
+            return running && !stopped;
+        }
+
+        private synchronized void awaitDataPackets() throws InterruptedException {
+            while (dataPackets.isEmpty() && isRunning()) {
+                // Blocking if no config is listened
+                wait();
+            }
+        }
+
+        private void listen() throws Exception {
+            List<ConfigKey> changedConfigKeys = getChangedConfigKeys(buildListeningConfigs(), true);
+            if (changedConfigKeys != null && !changedConfigKeys.isEmpty()) {
+                fetchAndUpdate(changedConfigKeys);
+            }
+        }
+
+        private synchronized String buildListeningConfigs() {
+            if (dataPackets.isEmpty()) {
+                return null;
+            }
+            StringBuilder packetBuffer = this.packetBuffer;
+            if (compactionRequired) {
+                packetBuffer.setLength(0);
+                for (DataPacket dataPacket : dataPackets.values()) {
+                    dataPacket.offset = packetBuffer.length();
+                    packetBuffer.append(dataPacket.content);
+                }
+                compactionRequired = false;
+            }
+            return packetBuffer.toString();
+        }
+
+        synchronized void addDataPacket(ConfigKey configKey, String content) {
+            DataPacket dataPacket = dataPackets.get(configKey);
+            if (dataPacket == null) {
+                dataPacket = new DataPacket(content);
+                dataPackets.put(configKey, dataPacket);
+                if (!compactionRequired) {
+                    dataPacket.offset = packetBuffer.length();
+                    packetBuffer.append(content);
+                }
+                if (dataPackets.size() == 1) {
+                    // Wake up the listening task
+                    notifyAll();
+                }
+            } else if (!dataPacket.content.equals(content)) {
+                if (!compactionRequired && dataPacket.content.length() == content.length()) {
+                    int offset = dataPacket.offset;
+                    packetBuffer.replace(offset, offset + content.length(), content);
+                } else {
+                    compactionRequired = true;
+                }
+                dataPacket.content = content;
+            }
+        }
+
+        synchronized void removeDataPacket(ConfigKey configKey) {
+            DataPacket dataPacket = dataPackets.remove(configKey);
+            if (dataPacket == null || compactionRequired) {
+                return;
+            }
+            int offset = dataPacket.offset;
+            if (offset + dataPacket.content.length() == packetBuffer.length()) {
+                // The last one is truncated directly
+                packetBuffer.setLength(offset);
+            } else {
+                compactionRequired = true;
+            }
+        }
+
+        synchronized void stop() {
+            this.stopped = true;
+            notifyAll();
+        }
+    }
+
+    /**
+     * The scheduled fetch of a config, which is owned by the fetching task once it's due
+     */
+    static class FetchingConfig implements Delayed {
+
+        private final ConfigKey configKey;
+
+        /**
+         * The delay in milliseconds since the previous attempt
+         */
+        private long retryDelay;
+
+        /**
+         * The trigger time in nanoseconds
+         */
+        private volatile long triggerTime;
 
-        private final String namespaceId;
+        FetchingConfig(ConfigKey configKey) {
+            this.configKey = configKey;
+        }
+
+        void delay(long retryDelay) {
+            this.retryDelay = retryDelay;
+            this.triggerTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryDelay);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(triggerTime - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            if (o == this) {
+                return 0;
+            }
+            if (o instanceof FetchingConfig) {
+                return Long.compare(triggerTime - ((FetchingConfig) o).triggerTime, 0);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    static class DataPacket {
+
+        private String content;
+
+        /**
+         * The offset in the packet buffer
+         */
+        private int offset;
+
+        DataPacket(String content) {
+            this.content = content;
+        }
+    }
 
-        private final String group;
+    class ListeningConfig {
 
-        private final String dataId;
+        private final ConfigKey configKey;
 
-        private final String configId;
+        /**
+         * The pre-encoded prefix of data packet : dataId^2group^2
+         */
+        private final String dataPacketPrefix;
+
+        /**
+         * The pre-encoded suffix of data packet : ^2tenant^1 or ^1
+         */
+        private final String dataPacketSuffix;
 
         private volatile Config config;
 
         private final ConfigChangedListeners listeners;
 
-        ListeningConfig(String namespaceId, String group, String dataId, String configId) {
-            this.namespaceId = namespaceId;
-            this.group = group;
-            this.dataId = dataId;
-            this.configId = configId;
-            this.config = fetch();
+        /**
+         * The {@link ListeningTask} of this config, which is only assigned under the lock of {@link #listeningTasks}
+         */
+        private volatile ListeningTask listeningTask;
+
+        /**
+         * The data packet that is being listened, guarded by this
+         */
+        private String dataPacket;
+
+        private volatile boolean released;
+
+        /**
+         * Whether the {@link Config} has been fetched in first time
+         */
+        private volatile boolean initialized;
+
+        /**
+         * The lock to fetch and update the config in order
+         */
+        private final Object refreshLock = new Object();
+
+        ListeningConfig(ConfigKey configKey) {
+            String namespaceId = configKey.getNamespaceId();
+            this.configKey = configKey;
+            this.dataPacketPrefix = encode(configKey.getDataId() + LISTENING_CONFIG_FIELD_SEPARATOR +
+                    configKey.getGroup() + LISTENING_CONFIG_FIELD_SEPARATOR);
+            this.dataPacketSuffix = encode(namespaceId == null ? LISTENING_CONFIG_SEPARATOR :
+                    LISTENING_CONFIG_FIELD_SEPARATOR + namespaceId + LISTENING_CONFIG_SEPARATOR);
             this.listeners = new ConfigChangedListeners();
+            assignListeningTask(this);
+        }
+
+        boolean hasListeners() {
+            return listeners.hasListeners();
         }
 
+        Config fetch() {
+            ConfigKey configKey = this.configKey;
+            return ConfigListenerManager.this.getConfig(configKey.getNamespaceId(), configKey.getGroup(), configKey.getDataId());
+        }
 
-        void handleListener(ConfigChangedListener listener, boolean forRemoval) {
-            if (forRemoval) {
-                listeners.removeListener(listener);
-            } else {
-                listeners.addListener(listener);
+        /**
+         * Fetch the latest {@link Config} and update it, the concurrent refreshes of the same config are serialized,
+         * thus the events are fired in order.
+         *
+         * @return {@code true} if the {@link Config} was changed, {@code false} otherwise
+         */
+        boolean refresh() {
+            synchronized (refreshLock) {
+                Config config = fetch();
+                if (initialized) {
+                    return update(config);
+                }
+                doInitialize(config);
+                return false;
             }
         }
 
-        Config fetch() {
-            return ConfigListenerManager.this.getConfig(this.namespaceId, this.group, this.dataId);
+        /**
+         * Fetch the {@link Config} in first time without any event if it has not been initialized
+         */
+        void initialize() {
+            synchronized (refreshLock) {
+                if (!initialized) {
+                    doInitialize(fetch());
+                }
+            }
+        }
+
+        /**
+         * Initialize the {@link Config} without any event if it has not been initialized
+         *
+         * @param config the initial {@link Config}
+         */
+        void initialize(Config config) {
+            synchronized (refreshLock) {
+                if (!initialized) {
+                    doInitialize(config);
+                }
+            }
+        }
+
+        private void doInitialize(Config config) {
+            if (config != null) {
+                addDataPacket(config);
+            }
+            this.config = config;
+            this.initialized = true;
+        }
+
+        /**
+         * Fire the created event of the current {@link Config} to the specified listener, which is serialized with
+         * the updates
+         *
+         * @param listener {@link ConfigChangedListener}
+         * @param owner    (optional) the owner of listener
+         */
+        void fireCreatedEvent(ConfigChangedListener listener, Object owner) {
+            synchronized (refreshLock) {
+                Config config = this.config;
+                if (config != null) {
+                    listeners.onEvent(ofCreated(config, configParsers), listener, owner);
+                }
+            }
         }
 
         /**
@@ -305,7 +1025,7 @@ class ConfigListenerManager {
             if (previousConfig == null) {
                 if (config != null) {
                     // The Config was created in first time
-                    listeners.onEvent(ofCreated(config));
+                    listeners.onEvent(ofCreated(config, configParsers));
                 } else {
                     // otherwise does nothing
                     return false;
@@ -313,71 +1033,152 @@ class ConfigListenerManager {
             } else {
                 if (config == null) {
                     // The Config was deleted
-                    listeners.onEvent(ofDeleted(previousConfig));
+                    listeners.onEvent(ofDeleted(previousConfig, configParsers));
                 } else {
                     if (Objects.equals(previousConfig.getMd5(), config.getMd5())) {
                         return false;
                     }
                     // The Config was modified
-                    listeners.onEvent(ofModified(previousConfig, config));
+                    listeners.onEvent(ofModified(previousConfig, config, configParsers));
                 }
-                // Remove the previous Data Package
-                removeDataPacket(previousConfig);
             }
 
             if (config != null) {
-                // Add new Data Package
+                // Add or replace the Data Package
                 addDataPacket(config);
+            } else {
+                // Remove the previous Data Package
+                removeDataPacket();
             }
 
             this.config = config;
             return true;
         }
 
-        private void addDataPacket(Config config) {
-            String md5 = config.getMd5();
-            String listenerConfigId = buildListeningConfigDataPacket(namespaceId, group, dataId, md5);
-            listeningConfigDataPackets.add(listenerConfigId);
+        private synchronized void addDataPacket(Config config) {
+            if (released) {
+                return;
+            }
+            String dataPacket = buildDataPacket(config.getMd5());
+            this.dataPacket = dataPacket;
+            this.listeningTask.addDataPacket(configKey, dataPacket);
+        }
+
+        String buildDataPacket(String md5) {
+            return dataPacketPrefix + (md5 == null ? "" : md5) + dataPacketSuffix;
+        }
+
+        private synchronized void removeDataPacket() {
+            if (this.dataPacket != null) {
+                this.dataPacket = null;
+                this.listeningTask.removeDataPacket(configKey);
+            }
+        }
+
+        /**
+         * Move this config to another {@link ListeningTask}, which is invoked under the lock of {@link #listeningTasks}
+         *
+         * @param targetTask the target {@link ListeningTask}
+         */
+        private synchronized void moveTo(ListeningTask targetTask) {
+            ListeningTask sourceTask = this.listeningTask;
+            String dataPacket = this.dataPacket;
+            if (dataPacket != null) {
+                sourceTask.removeDataPacket(configKey);
+                targetTask.addDataPacket(configKey, dataPacket);
+            }
+            sourceTask.listeningConfigs.remove(this);
+            targetTask.listeningConfigs.add(this);
+            this.listeningTask = targetTask;
         }
 
-        private void removeDataPacket(Config config) {
-            String md5 = config.getMd5();
-            String listenerConfigId = buildListeningConfigDataPacket(namespaceId, group, dataId, md5);
-            listeningConfigDataPackets.remove(listenerConfigId);
+        private void release() {
+            synchronized (this) {
+                this.released = true;
+                removeDataPacket();
+            }
+            releaseListeningTask(this);
         }
     }
 
+    /**
+     * The listeners of a config, the events are dispatched asynchronously in order
+     */
     class ConfigChangedListeners implements ConfigChangedListener {
 
-        private final CopyOnWriteArrayList<ConfigChangedListener> listeners;
+        private final CopyOnWriteArrayList<DispatchingListener> listeners;
+
+        private final Executor serialExecutor;
 
         ConfigChangedListeners() {
             this.listeners = new CopyOnWriteArrayList<>();
+            this.serialExecutor = eventDispatcher.newSerialExecutor();
         }
 
         @Override
         public void onEvent(ConfigChangedEvent event) {
-            Future future = publishingEventExecutor.submit(() -> {
-                listeners.forEach(listener -> listener.onEvent(event));
-            });
-            int eventProcessingTimeout = nacosClientConfig.getEventProcessingTimeout();
-            try {
-                future.get(eventProcessingTimeout, TimeUnit.MILLISECONDS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            } catch (ExecutionException e) {
-                throw new RuntimeException(e);
-            } catch (TimeoutException e) {
-                future.cancel(true);
+            DispatchingListener[] listeners = distinct(this.listeners.toArray(new DispatchingListener[0]));
+            if (listeners.length > 0) {
+                eventDispatcher.dispatch(this.serialExecutor, listeners, event);
+            }
+        }
+
+        /**
+         * The listener added by the different owners, e.g. the overlapped prefix watches, is notified once
+         */
+        private DispatchingListener[] distinct(DispatchingListener[] listeners) {
+            int size = 0;
+            for (DispatchingListener listener : listeners) {
+                boolean duplicated = false;
+                for (int i = 0; i < size && !duplicated; i++) {
+                    duplicated = listeners[i].isSameListener(listener);
+                }
+                if (!duplicated) {
+                    listeners[size++] = listener;
+                }
+            }
+            return size == listeners.length ? listeners : Arrays.copyOf(listeners, size);
+        }
+
+        /**
+         * Dispatch the event to the specified listener only
+         */
+        void onEvent(ConfigChangedEvent event, ConfigChangedListener listener, Object owner) {
+            for (DispatchingListener dispatchingListener : this.listeners) {
+                if (dispatchingListener.isListener(listener, owner)) {
+                    eventDispatcher.dispatch(this.serialExecutor, new DispatchingListener[]{dispatchingListener}, event);
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Add the listener of the owner, which is ignored if it was added, the caller holds the lock of the bin
+         */
+        public void addListener(ConfigChangedListener listener, Object owner) {
+            for (DispatchingListener dispatchingListener : this.listeners) {
+                if (dispatchingListener.isListener(listener, owner)) {
+                    return;
+                }
+            }
+            this.listeners.add(new DispatchingListener(listener, owner));
+        }
+
+        public void removeListener(ConfigChangedListener listener, Object owner) {
+            for (DispatchingListener dispatchingListener : this.listeners) {
+                if (dispatchingListener.isListener(listener, owner)) {
+                    this.listeners.remove(dispatchingListener);
+                    break;
+                }
             }
         }
 
-        public void addListener(ConfigChangedListener listener) {
-            this.listeners.add(listener);
+        public void removeListeners(Object owner) {
+            this.listeners.removeIf(dispatchingListener -> dispatchingListener.isOwner(owner));
         }
 
-        public void removeListener(ConfigChangedListener listener) {
-            this.listeners.remove(listener);
+        boolean hasListeners() {
+            return !this.listeners.isEmpty();
         }
     }
 }
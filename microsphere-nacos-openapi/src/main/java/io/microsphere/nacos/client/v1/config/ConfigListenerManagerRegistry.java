@@ -0,0 +1,255 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.v1.config;
+
+import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.transport.OpenApiClient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The registry of the {@link ConfigListenerManager ConfigListenerManagers} shared by the
+ * {@link OpenApiConfigClient config clients} pointing at the same server with the same credentials and the same
+ * listening settings, a manager is created when the first client acquires it, and is closed when the last client
+ * releases it.
+ * <p>
+ * The listening settings of {@link NacosClientConfig} shared by the clients of a manager :
+ * <ul>
+ *     <li>{@link NacosClientConfig#getLongPollingTimeout() the long polling timeout}</li>
+ *     <li>{@link NacosClientConfig#getListeningConfigsPerTask() the listening configs per task}</li>
+ *     <li>{@link NacosClientConfig#getFetchingConfigsParallelism() the parallelism of fetching configs}</li>
+ *     <li>{@link NacosClientConfig#getFetchingConfigThreadName() the thread name of fetching configs}</li>
+ *     <li>{@link NacosClientConfig#getListenerConfigThreadName() the thread name of listening configs}</li>
+ *     <li>{@link NacosClientConfig#getPublishingConfigEventParallelism() the parallelism of publishing events}</li>
+ *     <li>{@link NacosClientConfig#getPublishingConfigEventThreadName() the thread name of publishing events}</li>
+ *     <li>{@link NacosClientConfig#getEventProcessingTimeout() the timeout of processing events}</li>
+ *     <li>{@link NacosClientConfig#getEventProcessingMaxTimeouts() the max timeouts of processing events}</li>
+ *     <li>{@link NacosClientConfig#getConfigSnapshotDirectory() the directory of config snapshots}</li>
+ *     <li>{@link NacosClientConfig#isConfigFailoverEnabled() the failover of configs}</li>
+ *     <li>{@link NacosClientConfig#getParsedConfigCacheSize() the cache size of parsed configs}</li>
+ * </ul>
+ * The clients differing in any of them get their own managers, the other settings, e.g. the timeouts of HTTP, are
+ * taken from the client that is currently used by the manager.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigListenerManager
+ * @see OpenApiConfigClient
+ * @since 1.0.0
+ */
+class ConfigListenerManagerRegistry {
+
+    /**
+     * The shared managers, guarded by itself
+     */
+    private static final Map<ServerKey, SharedManager> sharedManagers = new HashMap<>();
+
+    /**
+     * Acquire the shared {@link ConfigListenerManager} for the {@link OpenApiConfigClient}
+     *
+     * @param configClient {@link OpenApiConfigClient}
+     * @return non-null
+     */
+    static ConfigListenerManager acquire(OpenApiConfigClient configClient) {
+        ServerKey serverKey = new ServerKey(configClient.getNacosClientConfig());
+        synchronized (sharedManagers) {
+            SharedManager sharedManager = sharedManagers.get(serverKey);
+            if (sharedManager == null) {
+                NacosClientConfig nacosClientConfig = configClient.getNacosClientConfig();
+                OpenApiClient openApiClient = configClient.getOpenApiClient();
+                ConfigListenerManager manager = new ConfigListenerManager(configClient, openApiClient,
+                        nacosClientConfig, ConfigSnapshotRepository.of(nacosClientConfig, openApiClient),
+                        configClient.getConfigParsers());
+                sharedManager = new SharedManager(manager);
+                sharedManagers.put(serverKey, sharedManager);
+            }
+            sharedManager.configClients.add(configClient);
+            return sharedManager.manager;
+        }
+    }
+
+    /**
+     * Release the shared {@link ConfigListenerManager} from the {@link OpenApiConfigClient}, the listeners added by the
+     * client are removed
+     *
+     * @param configClient {@link OpenApiConfigClient}
+     */
+    static void release(OpenApiConfigClient configClient) {
+        ConfigListenerManager closingManager = null;
+        synchronized (sharedManagers) {
+            // The NacosClientConfig may be modified since acquired, thus the client is looked up
+            Iterator<SharedManager> iterator = sharedManagers.values().iterator();
+            while (iterator.hasNext()) {
+                SharedManager sharedManager = iterator.next();
+                List<OpenApiConfigClient> configClients = sharedManager.configClients;
+                if (!configClients.remove(configClient)) {
+                    continue;
+                }
+                ConfigListenerManager manager = sharedManager.manager;
+                manager.removeEventListeners(configClient);
+                if (configClients.isEmpty()) {
+                    iterator.remove();
+                    closingManager = manager;
+                } else {
+                    // The released client may be closed, the remaining one takes over
+                    OpenApiConfigClient nextConfigClient = configClients.get(0);
+                    manager.switchClients(nextConfigClient, nextConfigClient.getOpenApiClient());
+                }
+                break;
+            }
+        }
+        if (closingManager != null) {
+            closingManager.close();
+        }
+    }
+
+    /**
+     * The shared {@link ConfigListenerManager} with its clients
+     */
+    static class SharedManager {
+
+        private final ConfigListenerManager manager;
+
+        private final List<OpenApiConfigClient> configClients;
+
+        SharedManager(ConfigListenerManager manager) {
+            this.manager = manager;
+            this.configClients = new ArrayList<>();
+        }
+    }
+
+    /**
+     * The key of server : the address, scheme, context path, credentials and the listening settings
+     */
+    static class ServerKey {
+
+        private final String serverAddress;
+
+        private final String scheme;
+
+        private final String contextPath;
+
+        private final String userName;
+
+        private final String password;
+
+        private final String accessKey;
+
+        private final String secretKey;
+
+        private final int longPollingTimeout;
+
+        private final int listeningConfigsPerTask;
+
+        private final int fetchingConfigsParallelism;
+
+        private final String fetchingConfigThreadName;
+
+        private final String listenerConfigThreadName;
+
+        private final int publishingConfigEventParallelism;
+
+        private final String publishingConfigEventThreadName;
+
+        private final int eventProcessingTimeout;
+
+        private final int eventProcessingMaxTimeouts;
+
+        private final String configSnapshotDirectory;
+
+        private final boolean configFailoverEnabled;
+
+        private final int parsedConfigCacheSize;
+
+        ServerKey(NacosClientConfig nacosClientConfig) {
+            this.serverAddress = nacosClientConfig.getServerAddress();
+            this.scheme = nacosClientConfig.getScheme();
+            this.contextPath = nacosClientConfig.getContextPath();
+            this.userName = nacosClientConfig.getUserName();
+            this.password = nacosClientConfig.getPassword();
+            this.accessKey = nacosClientConfig.getAccessKey();
+            this.secretKey = nacosClientConfig.getSecretKey();
+            this.longPollingTimeout = nacosClientConfig.getLongPollingTimeout();
+            this.listeningConfigsPerTask = nacosClientConfig.getListeningConfigsPerTask();
+            this.fetchingConfigsParallelism = nacosClientConfig.getFetchingConfigsParallelism();
+            this.fetchingConfigThreadName = nacosClientConfig.getFetchingConfigThreadName();
+            this.listenerConfigThreadName = nacosClientConfig.getListenerConfigThreadName();
+            this.publishingConfigEventParallelism = nacosClientConfig.getPublishingConfigEventParallelism();
+            this.publishingConfigEventThreadName = nacosClientConfig.getPublishingConfigEventThreadName();
+            this.eventProcessingTimeout = nacosClientConfig.getEventProcessingTimeout();
+            this.eventProcessingMaxTimeouts = nacosClientConfig.getEventProcessingMaxTimeouts();
+            this.configSnapshotDirectory = nacosClientConfig.getConfigSnapshotDirectory();
+            this.configFailoverEnabled = nacosClientConfig.isConfigFailoverEnabled();
+            this.parsedConfigCacheSize = nacosClientConfig.getParsedConfigCacheSize();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ServerKey)) return false;
+
+            ServerKey that = (ServerKey) o;
+            return longPollingTimeout == that.longPollingTimeout &&
+                    listeningConfigsPerTask == that.listeningConfigsPerTask &&
+                    fetchingConfigsParallelism == that.fetchingConfigsParallelism &&
+                    publishingConfigEventParallelism == that.publishingConfigEventParallelism &&
+                    eventProcessingTimeout == that.eventProcessingTimeout &&
+                    eventProcessingMaxTimeouts == that.eventProcessingMaxTimeouts &&
+                    configFailoverEnabled == that.configFailoverEnabled &&
+                    parsedConfigCacheSize == that.parsedConfigCacheSize &&
+                    Objects.equals(serverAddress, that.serverAddress) &&
+                    Objects.equals(scheme, that.scheme) &&
+                    Objects.equals(contextPath, that.contextPath) &&
+                    Objects.equals(userName, that.userName) &&
+                    Objects.equals(password, that.password) &&
+                    Objects.equals(accessKey, that.accessKey) &&
+                    Objects.equals(secretKey, that.secretKey) &&
+                    Objects.equals(fetchingConfigThreadName, that.fetchingConfigThreadName) &&
+                    Objects.equals(listenerConfigThreadName, that.listenerConfigThreadName) &&
+                    Objects.equals(publishingConfigEventThreadName, that.publishingConfigEventThreadName) &&
+                    Objects.equals(configSnapshotDirectory, that.configSnapshotDirectory);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(serverAddress);
+            result = 31 * result + Objects.hashCode(scheme);
+            result = 31 * result + Objects.hashCode(contextPath);
+            result = 31 * result + Objects.hashCode(userName);
+            result = 31 * result + Objects.hashCode(password);
+            result = 31 * result + Objects.hashCode(accessKey);
+            result = 31 * result + Objects.hashCode(secretKey);
+            result = 31 * result + longPollingTimeout;
+            result = 31 * result + listeningConfigsPerTask;
+            result = 31 * result + fetchingConfigsParallelism;
+            result = 31 * result + Objects.hashCode(fetchingConfigThreadName);
+            result = 31 * result + Objects.hashCode(listenerConfigThreadName);
+            result = 31 * result + publishingConfigEventParallelism;
+            result = 31 * result + Objects.hashCode(publishingConfigEventThreadName);
+            result = 31 * result + eventProcessingTimeout;
+            result = 31 * result + eventProcessingMaxTimeouts;
+            result = 31 * result + Objects.hashCode(configSnapshotDirectory);
+            result = 31 * result + (configFailoverEnabled ? 1 : 0);
+            result = 31 * result + parsedConfigCacheSize;
+            return result;
+        }
+    }
+}
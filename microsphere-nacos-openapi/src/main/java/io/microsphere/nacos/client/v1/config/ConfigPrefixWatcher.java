@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.v1.config;
+
+import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.common.config.ConfigClient;
+import io.microsphere.nacos.client.common.config.event.ConfigChangedListener;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import io.microsphere.nacos.client.common.model.Page;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static io.microsphere.nacos.client.common.config.ConfigClient.MAX_PAGE_SIZE;
+import static io.microsphere.nacos.client.constants.Constants.DEFAULT_GROUP_NAME;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The watcher of the configs whose data ids start with a prefix in a group, the matched configs are discovered by the
+ * {@link ConfigClient#searchConfigs(String, String, String, boolean, int, int) fuzzy search} periodically, then the
+ * new ones are added into the long polling and the missing ones are removed from it. The configs discovered after the
+ * first round were created meanwhile, thus their created events are fired to the listener.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigClient#addPrefixEventListener(String, String, String, ConfigChangedListener)
+ * @see NacosClientConfig#getConfigDiscoveryInterval()
+ * @since 1.0.0
+ */
+class ConfigPrefixWatcher {
+
+    private static final String WILDCARD = "*";
+
+    private final OpenApiConfigClient configClient;
+
+    private final NacosClientConfig nacosClientConfig;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final ConcurrentMap<PrefixWatch, PrefixWatch> watches;
+
+    ConfigPrefixWatcher(OpenApiConfigClient configClient, NacosClientConfig nacosClientConfig) {
+        this.configClient = configClient;
+        this.nacosClientConfig = nacosClientConfig;
+        this.scheduler = initScheduler();
+        this.watches = new ConcurrentHashMap<>();
+    }
+
+    private ScheduledExecutorService initScheduler() {
+        return newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, this.nacosClientConfig.getListenerConfigThreadName() + " (Discovery)");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Watch the configs whose data ids start with the prefix, the first discovery is executed in the caller thread
+     *
+     * @param namespaceId  the id of namespace
+     * @param group        the group of configs
+     * @param dataIdPrefix the prefix of data ids
+     * @param listener     {@link ConfigChangedListener}
+     */
+    void watch(String namespaceId, String group, String dataIdPrefix, ConfigChangedListener listener) {
+        PrefixWatch watch = new PrefixWatch(namespaceId, group, dataIdPrefix, listener);
+        if (this.watches.putIfAbsent(watch, watch) != null) {
+            // Watched already
+            return;
+        }
+        discover(watch);
+        long interval = Math.max(1, this.nacosClientConfig.getConfigDiscoveryInterval());
+        try {
+            ScheduledFuture<?> future = this.scheduler.scheduleWithFixedDelay(() -> discover(watch), interval, interval,
+                    MILLISECONDS);
+            watch.schedule(future);
+        } catch (RejectedExecutionException e) {
+            // The watcher was closed
+            unwatch(watch);
+        }
+    }
+
+    /**
+     * Stop watching, the listener is removed from the discovered configs
+     *
+     * @param namespaceId  the id of namespace
+     * @param group        the group of configs
+     * @param dataIdPrefix the prefix of data ids
+     * @param listener     {@link ConfigChangedListener}
+     */
+    void unwatch(String namespaceId, String group, String dataIdPrefix, ConfigChangedListener listener) {
+        PrefixWatch watch = this.watches.remove(new PrefixWatch(namespaceId, group, dataIdPrefix, listener));
+        if (watch != null) {
+            unwatch(watch);
+        }
+    }
+
+    private void unwatch(PrefixWatch watch) {
+        this.watches.remove(watch, watch);
+        synchronized (watch) {
+            watch.cancel();
+            for (ConfigKey configKey : watch.configKeys) {
+                this.configClient.removeEventListener(configKey, watch.listener, watch);
+            }
+            watch.configKeys = Collections.emptySet();
+        }
+    }
+
+    void close() {
+        this.scheduler.shutdownNow();
+        for (PrefixWatch watch : this.watches.keySet()) {
+            unwatch(watch);
+        }
+    }
+
+    /**
+     * Discover the matched configs, then add the listener to the new ones and remove it from the missing ones
+     */
+    private void discover(PrefixWatch watch) {
+        Set<ConfigKey> configKeys;
+        try {
+            configKeys = search(watch);
+        } catch (Throwable e) {
+            // Catch any exception, try again in the next round
+            // TODO Log
+            return;
+        }
+        // Serialized with the other rounds and the cancellation of this watch
+        synchronized (watch) {
+            if (watch.cancelled) {
+                return;
+            }
+            Set<ConfigKey> previousConfigKeys = watch.configKeys;
+            List<ConfigKey> addedConfigKeys = new ArrayList<>();
+            for (ConfigKey configKey : configKeys) {
+                if (!previousConfigKeys.contains(configKey)) {
+                    addedConfigKeys.add(configKey);
+                }
+            }
+            for (ConfigKey configKey : previousConfigKeys) {
+                if (!configKeys.contains(configKey)) {
+                    this.configClient.removeEventListener(configKey, watch.listener, watch);
+                }
+            }
+            if (!addedConfigKeys.isEmpty()) {
+                if (watch.discovered) {
+                    this.configClient.addCreatedEventListeners(addedConfigKeys, watch.listener, watch);
+                } else {
+                    this.configClient.addEventListeners(addedConfigKeys, watch.listener, watch);
+                }
+            }
+            watch.configKeys = configKeys;
+            watch.discovered = true;
+        }
+    }
+
+    private Set<ConfigKey> search(PrefixWatch watch) {
+        String namespaceId = watch.namespaceId;
+        String group = watch.group;
+        String dataIdPrefix = watch.dataIdPrefix;
+        Set<ConfigKey> configKeys = new LinkedHashSet<>();
+        int pageNumber = 1;
+        Page<Config> page;
+        do {
+            page = this.configClient.searchConfigs(namespaceId, group, dataIdPrefix + WILDCARD, true, pageNumber,
+                    MAX_PAGE_SIZE);
+            for (Config config : page.getElements()) {
+                String dataId = config.getDataId();
+                // The fuzzy search may match more, e.g. "*" or "_" in the prefix
+                if (dataId != null && dataId.startsWith(dataIdPrefix) && group.equals(config.getGroup())) {
+                    configKeys.add(ConfigKey.of(namespaceId, group, dataId));
+                }
+            }
+        } while (pageNumber++ < page.getTotalPages() && page.getNumberOfElements() > 0);
+        return configKeys;
+    }
+
+    /**
+     * The watch of a prefix with a listener, which owns the listener added to the discovered configs, thus the
+     * listeners of the overlapped watches or added directly are not removed by each other
+     */
+    static class PrefixWatch {
+
+        private final String namespaceId;
+
+        private final String group;
+
+        private final String dataIdPrefix;
+
+        private final ConfigChangedListener listener;
+
+        /**
+         * The discovered keys, guarded by this
+         */
+        private Set<ConfigKey> configKeys;
+
+        /**
+         * Whether the first round of discovery was done, guarded by this
+         */
+        private boolean discovered;
+
+        /**
+         * Whether the watch was cancelled, guarded by this
+         */
+        private boolean cancelled;
+
+        /**
+         * The scheduled discovery, guarded by this
+         */
+        private ScheduledFuture<?> future;
+
+        PrefixWatch(String namespaceId, String group, String dataIdPrefix, ConfigChangedListener listener) {
+            this.namespaceId = namespaceId;
+            this.group = group == null || group.isEmpty() ? DEFAULT_GROUP_NAME : group;
+            this.dataIdPrefix = dataIdPrefix == null ? "" : dataIdPrefix;
+            this.listener = listener;
+            this.configKeys = Collections.emptySet();
+        }
+
+        synchronized void schedule(ScheduledFuture<?> future) {
+            if (cancelled) {
+                future.cancel(false);
+            } else {
+                this.future = future;
+            }
+        }
+
+        synchronized void cancel() {
+            this.cancelled = true;
+            if (this.future != null) {
+                this.future.cancel(false);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof PrefixWatch)) return false;
+
+            PrefixWatch that = (PrefixWatch) o;
+            return Objects.equals(namespaceId, that.namespaceId) &&
+                    group.equals(that.group) &&
+                    dataIdPrefix.equals(that.dataIdPrefix) &&
+                    listener.equals(that.listener);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(namespaceId);
+            result = 31 * result + group.hashCode();
+            result = 31 * result + dataIdPrefix.hashCode();
+            result = 31 * result + listener.hashCode();
+            return result;
+        }
+    }
+}
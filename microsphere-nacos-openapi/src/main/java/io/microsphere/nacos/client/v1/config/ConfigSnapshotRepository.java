@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.v1.config;
+
+import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.common.config.ConfigType;
+import io.microsphere.nacos.client.common.config.io.ConfigDeserializer;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import io.microsphere.nacos.client.io.Deserializer;
+import io.microsphere.nacos.client.io.Serializer;
+import io.microsphere.nacos.client.transport.OpenApiClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static io.microsphere.nacos.client.constants.Constants.DEFAULT_NAMESPACE_ID;
+import static io.microsphere.nacos.client.util.IOUtils.encode;
+import static io.microsphere.nacos.client.util.StringUtils.collectionToCommaDelimitedString;
+import static io.microsphere.nacos.client.util.StringUtils.isBlank;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * The repository of the local snapshots of {@link Config configs}, each snapshot is stored in the file
+ * "{directory}/{namespaceId}/{group}/{dataId}.snapshot", which is replaced atomically, and is only rewritten if the
+ * MD5 of {@link Config} was changed. The snapshot is the JSON of {@link Config} in the format of the Nacos server,
+ * which is written by the {@link Serializer} and is read by the {@link Deserializer} as the fetched one.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see Config
+ * @see NacosClientConfig#getConfigSnapshotDirectory()
+ * @see ConfigDeserializer
+ * @since 1.0.0
+ */
+class ConfigSnapshotRepository {
+
+    private static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final Path directory;
+
+    private final Serializer serializer;
+
+    private final Deserializer deserializer;
+
+    /**
+     * The MD5s of the snapshots that were loaded or saved
+     */
+    private final ConcurrentMap<ConfigKey, String> md5s;
+
+    ConfigSnapshotRepository(Path directory, Serializer serializer, Deserializer deserializer) {
+        this.directory = directory;
+        this.serializer = serializer;
+        this.deserializer = deserializer;
+        this.md5s = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Create an instance of {@link ConfigSnapshotRepository} if {@link NacosClientConfig#getConfigSnapshotDirectory()}
+     * is present
+     *
+     * @param nacosClientConfig {@link NacosClientConfig}
+     * @param openApiClient     {@link OpenApiClient} providing the {@link Serializer} and {@link Deserializer}
+     * @return <code>null</code> if the snapshots are disabled
+     */
+    static ConfigSnapshotRepository of(NacosClientConfig nacosClientConfig, OpenApiClient openApiClient) {
+        String directory = nacosClientConfig.getConfigSnapshotDirectory();
+        return isBlank(directory) ? null : new ConfigSnapshotRepository(Paths.get(directory),
+                openApiClient.getSerializer(), openApiClient.getDeserializer());
+    }
+
+    /**
+     * Load the snapshot of {@link Config}
+     *
+     * @param configKey {@link ConfigKey}
+     * @return <code>null</code> if not found or unreadable
+     */
+    Config load(ConfigKey configKey) {
+        Path file = resolve(configKey);
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            Config config = this.deserializer.deserialize(inputStream, Config.class);
+            if (config == null) {
+                // The empty snapshot
+                return null;
+            }
+            String md5 = config.getMd5();
+            if (md5 != null) {
+                this.md5s.put(configKey, md5);
+            }
+            return config;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (Throwable e) {
+            // The broken snapshot is ignored
+            // TODO Log
+            return null;
+        }
+    }
+
+    /**
+     * Save the snapshot of {@link Config} atomically if its MD5 was changed
+     *
+     * @param configKey {@link ConfigKey}
+     * @param config    {@link Config}
+     */
+    void save(ConfigKey configKey, Config config) {
+        String md5 = config.getMd5();
+        if (md5 != null && Objects.equals(md5, this.md5s.get(configKey))) {
+            // Unchanged
+            return;
+        }
+        Path file = resolve(configKey);
+        Path tempFile = null;
+        try {
+            Path parent = file.getParent();
+            Files.createDirectories(parent);
+            tempFile = Files.createTempFile(parent, file.getFileName().toString(), TEMP_FILE_SUFFIX);
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                this.serializer.serialize(toSnapshot(config), outputStream);
+            }
+            move(tempFile, file);
+            tempFile = null;
+            if (md5 == null) {
+                this.md5s.remove(configKey);
+            } else {
+                this.md5s.put(configKey, md5);
+            }
+        } catch (IOException | RuntimeException e) {
+            // The snapshot is optional
+            // TODO Log
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * Delete the snapshot of {@link Config}
+     *
+     * @param configKey {@link ConfigKey}
+     */
+    void delete(ConfigKey configKey) {
+        this.md5s.remove(configKey);
+        deleteQuietly(resolve(configKey));
+    }
+
+    /**
+     * Convert {@link Config} to the JSON members of the Nacos server, which are read by {@link ConfigDeserializer}
+     */
+    private static Map<String, Object> toSnapshot(Config config) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("id", config.getId());
+        snapshot.put("tenant", config.getNamespaceId());
+        snapshot.put("group", config.getGroup());
+        snapshot.put("dataId", config.getDataId());
+        snapshot.put("appName", config.getAppName());
+        snapshot.put("md5", config.getMd5());
+        snapshot.put("content", config.getContent());
+        snapshot.put("desc", config.getDescription());
+        snapshot.put("use", config.getUse());
+        snapshot.put("effect", config.getEffect());
+        snapshot.put("schema", config.getSchema());
+        Set<String> tags = config.getTags();
+        snapshot.put("configTags", tags == null || tags.isEmpty() ? null : collectionToCommaDelimitedString(tags));
+        ConfigType type = config.getType();
+        snapshot.put("type", type == null ? null : type.getValue());
+        snapshot.put("createUser", config.getOperator());
+        snapshot.put("createIp", config.getOperatorIp());
+        snapshot.put("createTime", config.getCreatedTime());
+        snapshot.put("modifyTime", config.getLastModifiedTime());
+        return snapshot;
+    }
+
+    private Path resolve(ConfigKey configKey) {
+        String namespaceId = configKey.getNamespaceId();
+        return this.directory.resolve(toFileName(namespaceId == null ? DEFAULT_NAMESPACE_ID : namespaceId))
+                .resolve(toFileName(configKey.getGroup()))
+                .resolve(toFileName(configKey.getDataId()) + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    /**
+     * Escape the name into the portable file name, "." and "*" are escaped additionally to avoid the relative paths
+     * and the wildcards.
+     */
+    private static String toFileName(String name) {
+        return encode(String.valueOf(name)).replace(".", "%2E").replace("*", "%2A");
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // TODO Log
+        }
+    }
+}
@@ -16,20 +16,57 @@
  */
 package io.microsphere.nacos.client.v1.config;
 
+import io.microsphere.nacos.client.ErrorCode;
 import io.microsphere.nacos.client.NacosClientConfig;
 import io.microsphere.nacos.client.common.OpenApiTemplateClient;
 import io.microsphere.nacos.client.common.config.ConfigClient;
 import io.microsphere.nacos.client.common.config.ConfigType;
 import io.microsphere.nacos.client.common.config.event.ConfigChangedListener;
+import io.microsphere.nacos.client.common.config.event.TypedConfigChangedListener;
+import io.microsphere.nacos.client.common.config.event.TypedConfigChangedListenerAdapter;
 import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import io.microsphere.nacos.client.common.config.model.ConfigPage;
+import io.microsphere.nacos.client.common.config.model.ConfigPublishResult;
 import io.microsphere.nacos.client.common.config.model.HistoryConfig;
 import io.microsphere.nacos.client.common.config.model.HistoryConfigPage;
 import io.microsphere.nacos.client.common.config.model.NewConfig;
+import io.microsphere.nacos.client.common.config.parser.ConfigParsers;
+import io.microsphere.nacos.client.common.config.parser.ParsedConfig;
 import io.microsphere.nacos.client.common.model.Page;
 import io.microsphere.nacos.client.http.HttpMethod;
 import io.microsphere.nacos.client.transport.OpenApiClient;
+import io.microsphere.nacos.client.transport.OpenApiClientException;
 import io.microsphere.nacos.client.transport.OpenApiRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static io.microsphere.nacos.client.ErrorCode.INTERNAL_SERVER_ERROR;
+import static io.microsphere.nacos.client.ErrorCode.IO_ERROR;
+import static io.microsphere.nacos.client.ErrorCode.NOT_FOUND;
+import static io.microsphere.nacos.client.ErrorCode.SERVER_ERROR;
+import static io.microsphere.nacos.client.OpenApiVersion.V1;
+import static io.microsphere.nacos.client.common.config.model.ConfigPublishResult.ofFailed;
+import static io.microsphere.nacos.client.common.config.model.ConfigPublishResult.ofPublished;
+import static io.microsphere.nacos.client.common.config.model.ConfigPublishResult.ofUnchanged;
+import static io.microsphere.nacos.client.constants.Constants.BLUR_SEARCH_PARAM_VALUE;
+import static io.microsphere.nacos.client.constants.Constants.DEFAULT_GROUP_NAME;
 import static io.microsphere.nacos.client.constants.Constants.SEARCH_PARAM_VALUE;
 import static io.microsphere.nacos.client.http.HttpMethod.DELETE;
 import static io.microsphere.nacos.client.http.HttpMethod.GET;
@@ -53,7 +90,17 @@ import static io.microsphere.nacos.client.transport.OpenApiRequestParam.OPERATOR
 import static io.microsphere.nacos.client.transport.OpenApiRequestParam.PAGE_NUMBER;
 import static io.microsphere.nacos.client.transport.OpenApiRequestParam.PAGE_SIZE;
 import static io.microsphere.nacos.client.transport.OpenApiRequestParam.SHOW;
+import static io.microsphere.nacos.client.util.DigestUtils.md5Hex;
+import static io.microsphere.nacos.client.util.FutureUtils.await;
+import static io.microsphere.nacos.client.util.DigestUtils.newMD5Digest;
+import static io.microsphere.nacos.client.util.DigestUtils.toHex;
+import static io.microsphere.nacos.client.util.IOUtils.DEFAULT_BUFFER_SIZE;
+import static io.microsphere.nacos.client.util.OpenApiUtils.executeAsStream;
 import static io.microsphere.nacos.client.util.StringUtils.collectionToCommaDelimitedString;
+import static io.microsphere.nacos.client.util.StringUtils.isBlank;
+import static io.microsphere.nacos.client.v1.config.ConfigListenerManager.normalize;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * The {@link ConfigClient} for for <a href="https://nacos.io/en/docs/v2/open-api/#configuration-management">Open API V1 - Configuration Management</a>
@@ -71,11 +118,40 @@ public class OpenApiConfigClient extends OpenApiTemplateClient implements Config
 
     protected static final String CONFIG_HISTORY_PREVIOUS_ENDPOINT = "/cs/history/previous";
 
-    protected final ConfigListenerManager configListenerManager;
+    /**
+     * The shared {@link ConfigListenerManager}, which is acquired on the first listener, guarded by this
+     */
+    private volatile ConfigListenerManager configListenerManager;
+
+    /**
+     * Whether this client was closed, guarded by this
+     */
+    private boolean closed;
+
+    /**
+     * The watcher of the prefixes, which is created on the first prefix listener, guarded by this
+     */
+    private ConfigPrefixWatcher configPrefixWatcher;
+
+    /**
+     * The executor of the batch operations, which is created on the first use, guarded by this
+     */
+    private ExecutorService batchExecutor;
+
+    /**
+     * The local snapshots of configs, or <code>null</code> if disabled
+     */
+    private final ConfigSnapshotRepository configSnapshotRepository;
+
+    /**
+     * The cache of the parsed configs shared by the readers and listeners
+     */
+    private final ConfigParsers configParsers;
 
     public OpenApiConfigClient(OpenApiClient openApiClient, NacosClientConfig nacosClientConfig) {
         super(openApiClient, nacosClientConfig);
-        this.configListenerManager = new ConfigListenerManager(this, openApiClient, nacosClientConfig);
+        this.configSnapshotRepository = ConfigSnapshotRepository.of(nacosClientConfig, openApiClient);
+        this.configParsers = new ConfigParsers(nacosClientConfig.getParsedConfigCacheSize());
     }
 
     @Override
@@ -84,8 +160,251 @@ public class OpenApiConfigClient extends OpenApiTemplateClient implements Config
         return response(request, String.class);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The content is copied from the response of Open API V1 chunk by chunk, which is raw rather than wrapped as the
+     * V2's.
+     */
+    @Override
+    public String getConfigContent(String namespaceId, String group, String dataId, String tag, OutputStream outputStream) throws IOException {
+        Objects.requireNonNull(outputStream, "The 'outputStream' argument must not be null!");
+        OpenApiRequest request = OpenApiRequest.Builder.create(V1.getEndpointPath() + CONFIG_ENDPOINT)
+                .method(GET)
+                .queryParameter(CONFIG_TENANT, namespaceId)
+                .queryParameter(CONFIG_GROUP, group)
+                .queryParameter(CONFIG_DATA_ID, dataId)
+                .queryParameter(CONFIG_TAG, tag)
+                .build();
+        InputStream stream;
+        try {
+            stream = executeAsStream(this.openApiClient, request);
+        } catch (OpenApiClientException e) {
+            if (e.getErrorCode() == NOT_FOUND) {
+                return null;
+            }
+            throw e;
+        }
+        try (InputStream content = stream) {
+            MessageDigest digest = newMD5Digest();
+            byte[] buffer = new byte[DEFAULT_BUFFER_SIZE];
+            int length;
+            while ((length = content.read(buffer)) > -1) {
+                digest.update(buffer, 0, length);
+                outputStream.write(buffer, 0, length);
+            }
+            return toHex(digest.digest());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The fetched {@link Config} is saved as the local snapshot if {@link NacosClientConfig#getConfigSnapshotDirectory()}
+     * is present, and the snapshot will be returned if the server is unavailable and
+     * {@link NacosClientConfig#isConfigFailoverEnabled() the failover} is enabled.
+     */
     @Override
     public Config getConfig(String namespaceId, String group, String dataId) {
+        ConfigSnapshotRepository configSnapshotRepository = this.configSnapshotRepository;
+        if (configSnapshotRepository == null) {
+            return doGetConfig(namespaceId, group, dataId);
+        }
+        ConfigKey configKey = ConfigKey.of(namespaceId, group, dataId);
+        Config config;
+        try {
+            config = doGetConfig(namespaceId, group, dataId);
+        } catch (OpenApiClientException e) {
+            Config snapshot = null;
+            if (this.nacosClientConfig.isConfigFailoverEnabled() && isUnavailable(e)) {
+                snapshot = configSnapshotRepository.load(configKey);
+            }
+            if (snapshot == null) {
+                throw e;
+            }
+            return snapshot;
+        }
+        if (config == null) {
+            configSnapshotRepository.delete(configKey);
+        } else {
+            configSnapshotRepository.save(configKey, config);
+        }
+        return config;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The configs of the group are listed page by page via the
+     * {@link #searchConfigs(String, String, String, boolean, int, int) search}, which is narrowed by the common prefix
+     * of {@code dataIds}, as long as the remaining pages are fewer than the missing configs, then the missing ones are
+     * got one by one in parallel, which is bounded by {@link NacosClientConfig#getFetchingConfigsParallelism()}.
+     */
+    @Override
+    public Map<String, Config> getConfigs(String namespaceId, String group, Collection<String> dataIds) {
+        Objects.requireNonNull(dataIds, "The 'dataIds' argument must not be null!");
+        String configGroup = isBlank(group) ? DEFAULT_GROUP_NAME : group;
+        Set<String> pendingDataIds = new LinkedHashSet<>(dataIds);
+        Map<String, Config> configsMap = new HashMap<>();
+        if (pendingDataIds.size() > 1) {
+            try {
+                listConfigs(namespaceId, configGroup, pendingDataIds, configsMap);
+            } catch (OpenApiClientException e) {
+                // Fallback to get the configs one by one, which may be loaded from the snapshots
+                // TODO Log
+            }
+        }
+        configsMap.putAll(executeInParallel(pendingDataIds, dataId -> getConfig(namespaceId, configGroup, dataId)));
+
+        Map<String, Config> configs = new LinkedHashMap<>();
+        for (String dataId : dataIds) {
+            Config config = configsMap.get(dataId);
+            if (config != null) {
+                configs.put(dataId, config);
+            }
+        }
+        return configs;
+    }
+
+    /**
+     * List the configs of the group, the found and absent data ids are removed from the {@code pendingDataIds}, the
+     * MD5s of the found configs are computed from their contents if absent
+     */
+    private void listConfigs(String namespaceId, String group, Set<String> pendingDataIds, Map<String, Config> configsMap) {
+        String dataIdPrefix = getCommonPrefix(pendingDataIds);
+        boolean blur = !dataIdPrefix.isEmpty();
+        String dataId = blur ? dataIdPrefix + "*" : "";
+        int pageNumber = 1;
+        while (true) {
+            Page<Config> page = searchConfigs(namespaceId, group, dataId, blur, pageNumber, MAX_PAGE_SIZE);
+            for (Config config : page.getElements()) {
+                String configDataId = config.getDataId();
+                // The fuzzy search may match more
+                if (group.equals(config.getGroup()) && pendingDataIds.remove(configDataId)) {
+                    if (config.getMd5() == null) {
+                        // The configs found by the search carry no MD5
+                        config.setMd5(md5Hex(config.getContent()));
+                    }
+                    configsMap.put(configDataId, config);
+                    saveSnapshot(ConfigKey.of(namespaceId, group, configDataId), config);
+                }
+            }
+            int remainingPages = page.getTotalPages() - pageNumber;
+            if (remainingPages < 1 || page.getNumberOfElements() < 1) {
+                // All configs were listed, the pending ones are absent
+                for (String absentDataId : pendingDataIds) {
+                    saveSnapshot(ConfigKey.of(namespaceId, group, absentDataId), null);
+                }
+                pendingDataIds.clear();
+                return;
+            }
+            if (remainingPages >= pendingDataIds.size()) {
+                // Getting the pending configs one by one requires fewer requests
+                return;
+            }
+            pageNumber++;
+        }
+    }
+
+    private void saveSnapshot(ConfigKey configKey, Config config) {
+        ConfigSnapshotRepository configSnapshotRepository = this.configSnapshotRepository;
+        if (configSnapshotRepository == null) {
+            return;
+        }
+        if (config == null) {
+            configSnapshotRepository.delete(configKey);
+        } else {
+            configSnapshotRepository.save(configKey, config);
+        }
+    }
+
+    private static String getCommonPrefix(Collection<String> values) {
+        String prefix = null;
+        for (String value : values) {
+            if (value == null) {
+                return "";
+            }
+            if (prefix == null) {
+                prefix = value;
+                continue;
+            }
+            int length = Math.min(prefix.length(), value.length());
+            int i = 0;
+            while (i < length && prefix.charAt(i) == value.charAt(i)) {
+                i++;
+            }
+            prefix = prefix.substring(0, i);
+        }
+        return prefix == null ? "" : prefix;
+    }
+
+    /**
+     * Execute the action for each key in parallel, which is bounded by
+     * {@link NacosClientConfig#getFetchingConfigsParallelism()}, the current thread is blocked until all of them are
+     * completed.
+     *
+     * @param keys   the keys
+     * @param action the action with the key
+     * @param <K>    the type of key
+     * @param <V>    the type of result
+     * @return the non-null results in the order of keys
+     * @throws OpenApiClientException if the current thread was interrupted
+     */
+    protected <K, V> Map<K, V> executeInParallel(Collection<K> keys, Function<K, V> action) {
+        Map<K, V> results = new LinkedHashMap<>();
+        if (keys.size() < 2) {
+            for (K key : keys) {
+                V result = action.apply(key);
+                if (result != null) {
+                    results.put(key, result);
+                }
+            }
+            return results;
+        }
+        ExecutorService executor = getBatchExecutor();
+        Map<K, Future<V>> futures = new LinkedHashMap<>();
+        try {
+            for (K key : keys) {
+                futures.put(key, executor.submit(() -> action.apply(key)));
+            }
+            for (Map.Entry<K, Future<V>> entry : futures.entrySet()) {
+                V result = await(entry.getValue());
+                if (result != null) {
+                    results.put(entry.getKey(), result);
+                }
+            }
+        } finally {
+            for (Future<V> future : futures.values()) {
+                future.cancel(true);
+            }
+        }
+        return results;
+    }
+
+    private synchronized ExecutorService getBatchExecutor() {
+        if (this.closed) {
+            throw new IllegalStateException("The ConfigClient has been closed!");
+        }
+        ExecutorService batchExecutor = this.batchExecutor;
+        if (batchExecutor == null) {
+            int parallelism = Math.max(1, this.nacosClientConfig.getFetchingConfigsParallelism());
+            AtomicInteger threadIndex = new AtomicInteger();
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(parallelism, parallelism, 60, SECONDS,
+                    new LinkedBlockingQueue<>(), task -> {
+                String threadName = this.nacosClientConfig.getFetchingConfigThreadName() + " (Batch)-" + threadIndex.incrementAndGet();
+                Thread thread = new Thread(task, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            // The idle threads are not retained
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            batchExecutor = threadPoolExecutor;
+            this.batchExecutor = batchExecutor;
+        }
+        return batchExecutor;
+    }
+
+    protected Config doGetConfig(String namespaceId, String group, String dataId) {
         OpenApiRequest request = buildGetConfigRequest(namespaceId, group, dataId, null, true);
         return response(request, Config.class);
     }
@@ -118,6 +437,138 @@ public class OpenApiConfigClient extends OpenApiTemplateClient implements Config
         return response(request, Boolean.class);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The content is sent as the chunked form body, which is URL-encoded on the way, rather than the query parameter,
+     * thus its size is only limited by the server.
+     */
+    @Override
+    public String publishConfigContent(String namespaceId, String group, String dataId, InputStream content, ConfigType configType) throws IOException {
+        Objects.requireNonNull(content, "The 'content' argument must not be null!");
+        ConfigContentRequestBody body = new ConfigContentRequestBody(content);
+        String type = configType == null ? null : configType.getValue();
+        OpenApiRequest request = configRequestBuilder(namespaceId, group, dataId, null, POST)
+                .queryParameter(CONFIG_TYPE, type)
+                .body(body)
+                .build();
+        Boolean published;
+        try {
+            published = response(request, Boolean.class);
+        } catch (OpenApiClientException e) {
+            IOException readFailure = body.getReadFailure();
+            if (readFailure != null) {
+                throw readFailure;
+            }
+            throw e;
+        }
+        return Boolean.TRUE.equals(published) ? body.getMd5() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The config is {@link ConfigPublishResult#isUnchanged() unchanged} if its MD5 and the metadata set by the caller,
+     * e.g. {@link NewConfig#getType() the type}, are equal to the published ones. The listened configs are known
+     * locally, the others are fetched by {@link #getConfigs(String, String, Collection)} for each group, the configs
+     * are published in parallel, which is bounded by {@link NacosClientConfig#getFetchingConfigsParallelism()}.
+     */
+    @Override
+    public Map<ConfigKey, ConfigPublishResult> publishConfigs(Collection<NewConfig> newConfigs) {
+        Objects.requireNonNull(newConfigs, "The 'newConfigs' argument must not be null!");
+        Map<ConfigKey, NewConfig> newConfigsMap = new LinkedHashMap<>();
+        for (NewConfig newConfig : newConfigs) {
+            newConfigsMap.put(ConfigKey.of(newConfig), newConfig);
+        }
+        Map<ConfigKey, Config> publishedConfigs = getPublishedConfigs(newConfigsMap.keySet());
+        return executeInParallel(newConfigsMap.keySet(), configKey -> {
+            Config publishedConfig = publishedConfigs.get(normalize(configKey));
+            return publishConfig(configKey, newConfigsMap.get(configKey), publishedConfig);
+        });
+    }
+
+    private ConfigPublishResult publishConfig(ConfigKey configKey, NewConfig newConfig, Config publishedConfig) {
+        long startTime = System.nanoTime();
+        String md5 = md5Hex(newConfig.getContent());
+        if (md5 != null && isUnchanged(newConfig, md5, publishedConfig)) {
+            return ofUnchanged(configKey, md5, getElapsedTime(startTime));
+        }
+        try {
+            if (publishConfig(newConfig)) {
+                return ofPublished(configKey, md5, getElapsedTime(startTime));
+            }
+            return ofFailed(configKey, md5, getElapsedTime(startTime), null);
+        } catch (Throwable e) {
+            return ofFailed(configKey, md5, getElapsedTime(startTime), e);
+        }
+    }
+
+    /**
+     * Whether the {@link NewConfig} is equal to the published {@link Config} : the MD5 and the metadata set by the
+     * caller, the metadata that is unknown in the published {@link Config} is regarded as changed
+     */
+    private static boolean isUnchanged(NewConfig newConfig, String md5, Config publishedConfig) {
+        if (publishedConfig == null) {
+            return false;
+        }
+        String publishedMd5 = publishedConfig.getMd5();
+        if (publishedMd5 == null) {
+            publishedMd5 = md5Hex(publishedConfig.getContent());
+        }
+        return md5.equals(publishedMd5) &&
+                isUnchanged(newConfig.getType(), publishedConfig.getType()) &&
+                isUnchanged(newConfig.getAppName(), publishedConfig.getAppName()) &&
+                isUnchanged(newConfig.getDescription(), publishedConfig.getDescription()) &&
+                isUnchanged(newConfig.getTags(), publishedConfig.getTags()) &&
+                isUnchanged(newConfig.getUse(), publishedConfig.getUse()) &&
+                isUnchanged(newConfig.getEffect(), publishedConfig.getEffect()) &&
+                isUnchanged(newConfig.getSchema(), publishedConfig.getSchema());
+    }
+
+    private static boolean isUnchanged(Object value, Object publishedValue) {
+        return value == null || value.equals(publishedValue);
+    }
+
+    /**
+     * Get the published configs, the listened ones are known locally, the others are fetched
+     *
+     * @param configKeys the keys of configs
+     * @return the {@link Map} with the {@link ConfigListenerManager#normalize(ConfigKey) normalized keys}
+     */
+    private Map<ConfigKey, Config> getPublishedConfigs(Collection<ConfigKey> configKeys) {
+        Map<ConfigKey, Config> publishedConfigs = new HashMap<>();
+        Map<ConfigKey, Set<String>> groupedDataIds = new LinkedHashMap<>();
+        ConfigListenerManager configListenerManager = this.configListenerManager;
+        for (ConfigKey configKey : configKeys) {
+            ConfigKey normalizedConfigKey = normalize(configKey);
+            Config config = configListenerManager == null ? null :
+                    configListenerManager.getListeningConfig(normalizedConfigKey);
+            if (config == null) {
+                ConfigKey groupKey = ConfigKey.of(normalizedConfigKey.getNamespaceId(), normalizedConfigKey.getGroup(), null);
+                groupedDataIds.computeIfAbsent(groupKey, key -> new LinkedHashSet<>()).add(normalizedConfigKey.getDataId());
+            } else {
+                publishedConfigs.put(normalizedConfigKey, config);
+            }
+        }
+        for (Map.Entry<ConfigKey, Set<String>> entry : groupedDataIds.entrySet()) {
+            ConfigKey groupKey = entry.getKey();
+            try {
+                for (Config config : getConfigs(groupKey.getNamespaceId(), groupKey.getGroup(), entry.getValue()).values()) {
+                    publishedConfigs.put(ConfigKey.of(groupKey.getNamespaceId(), groupKey.getGroup(), config.getDataId()),
+                            config);
+                }
+            } catch (RuntimeException e) {
+                // The configs of this group will be published without the comparison
+                // TODO Log
+            }
+        }
+        return publishedConfigs;
+    }
+
+    private static long getElapsedTime(long startTime) {
+        return NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
     @Override
     public boolean deleteConfig(String namespaceId, String group, String dataId, String tag) {
         OpenApiRequest request = configRequestBuilder(namespaceId, group, dataId, tag, DELETE).build();
@@ -148,6 +599,39 @@ public class OpenApiConfigClient extends OpenApiTemplateClient implements Config
         return page;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The search endpoint is only available in Open API V1, thus it's used by all versions.
+     */
+    @Override
+    public Page<Config> searchConfigs(String namespaceId, String group, String dataId, boolean blur, int pageNumber, int pageSize) {
+        if (pageNumber < 1) {
+            throw new IllegalArgumentException("The argument 'pageNumber' must be greater than 0");
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The argument 'pageSize' must be greater than 0");
+        }
+        if (pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("The argument 'pageSize' must less than or equal " + MAX_PAGE_SIZE);
+        }
+
+        OpenApiRequest request = OpenApiRequest.Builder.create(V1.getEndpointPath() + CONFIG_ENDPOINT)
+                .method(GET)
+                .queryParameter(CONFIG_TENANT, namespaceId)
+                .queryParameter(CONFIG_GROUP, group == null ? "" : group)
+                .queryParameter(CONFIG_DATA_ID, dataId == null ? "" : dataId)
+                .queryParameter(CONFIG_SEARCH, blur ? BLUR_SEARCH_PARAM_VALUE : SEARCH_PARAM_VALUE)
+                .queryParameter(PAGE_NUMBER, pageNumber)
+                .queryParameter(PAGE_SIZE, pageSize)
+                .build();
+
+        ConfigPage page = this.openApiClient.execute(request, ConfigPage.class);
+        page.setPageNumber(pageNumber);
+        page.setPageSize(pageSize);
+        return page;
+    }
+
     @Override
     public HistoryConfig getHistoryConfig(String namespaceId, String group, String dataId, long revision) {
         OpenApiRequest request = requestBuilder(getConfigHistoryEndpoint(), namespaceId, group, dataId, GET)
@@ -164,14 +648,191 @@ public class OpenApiConfigClient extends OpenApiTemplateClient implements Config
         return response(request, HistoryConfig.class);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The listening threads are started on the first listener, and are shared by the clients pointing at the same
+     * server until they are {@link #close() closed}.
+     */
     @Override
     public void addEventListener(String namespaceId, String group, String dataId, ConfigChangedListener listener) {
-        this.configListenerManager.addEventListener(namespaceId, group, dataId, listener);
+        getConfigListenerManager().addEventListener(namespaceId, group, dataId, listener, this);
+    }
+
+    @Override
+    public void addEventListeners(Collection<ConfigKey> configKeys, ConfigChangedListener listener) {
+        addEventListeners(configKeys, listener, this);
+    }
+
+    /**
+     * Add the {@link ConfigChangedListener} of the owner to the configs, which is added once per owner
+     *
+     * @param configKeys the keys of configs
+     * @param listener   {@link ConfigChangedListener}
+     * @param owner      the owner of listener
+     */
+    void addEventListeners(Collection<ConfigKey> configKeys, ConfigChangedListener listener, Object owner) {
+        getConfigListenerManager().addEventListeners(configKeys, listener, owner);
+    }
+
+    /**
+     * Add the {@link ConfigChangedListener} of the owner to the configs that were created after listening, the
+     * created events of their current configs are fired to the listener.
+     *
+     * @param configKeys the keys of configs
+     * @param listener   {@link ConfigChangedListener}
+     * @param owner      the owner of listener
+     */
+    void addCreatedEventListeners(Collection<ConfigKey> configKeys, ConfigChangedListener listener, Object owner) {
+        ConfigListenerManager configListenerManager = getConfigListenerManager();
+        configListenerManager.addEventListeners(configKeys, listener, owner);
+        configListenerManager.fireCreatedEvents(configKeys, listener, owner);
     }
 
     @Override
     public void removeEventListener(String namespaceId, String group, String dataId, ConfigChangedListener listener) {
-        this.configListenerManager.removeEventListener(namespaceId, group, dataId, listener);
+        removeEventListener(ConfigKey.of(namespaceId, group, dataId), listener, this);
+    }
+
+    /**
+     * Remove the {@link ConfigChangedListener} of the owner from the config
+     *
+     * @param configKey the key of config
+     * @param listener  {@link ConfigChangedListener}
+     * @param owner     the owner of listener
+     */
+    void removeEventListener(ConfigKey configKey, ConfigChangedListener listener, Object owner) {
+        ConfigListenerManager configListenerManager = this.configListenerManager;
+        if (configListenerManager != null) {
+            configListenerManager.removeEventListener(configKey.getNamespaceId(), configKey.getGroup(),
+                    configKey.getDataId(), listener, owner);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The matched configs are discovered in the caller thread at first, then every
+     * {@link NacosClientConfig#getConfigDiscoveryInterval() discovery interval}.
+     */
+    @Override
+    public void addPrefixEventListener(String namespaceId, String group, String dataIdPrefix, ConfigChangedListener listener) {
+        getConfigPrefixWatcher().watch(namespaceId, group, dataIdPrefix, listener);
+    }
+
+    @Override
+    public void removePrefixEventListener(String namespaceId, String group, String dataIdPrefix, ConfigChangedListener listener) {
+        ConfigPrefixWatcher configPrefixWatcher;
+        synchronized (this) {
+            configPrefixWatcher = this.configPrefixWatcher;
+        }
+        if (configPrefixWatcher != null) {
+            configPrefixWatcher.unwatch(namespaceId, group, dataIdPrefix, listener);
+        }
+    }
+
+    /**
+     * Remove the listeners added by this client and release the shared listening threads, which are stopped if no
+     * other client uses them.
+     */
+    @Override
+    public void close() {
+        ConfigListenerManager configListenerManager;
+        ConfigPrefixWatcher configPrefixWatcher;
+        ExecutorService batchExecutor;
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            configListenerManager = this.configListenerManager;
+            configPrefixWatcher = this.configPrefixWatcher;
+            this.configPrefixWatcher = null;
+            batchExecutor = this.batchExecutor;
+            this.batchExecutor = null;
+        }
+        if (batchExecutor != null) {
+            batchExecutor.shutdownNow();
+        }
+        if (configPrefixWatcher != null) {
+            configPrefixWatcher.close();
+        }
+        synchronized (this) {
+            this.configListenerManager = null;
+        }
+        if (configListenerManager != null) {
+            ConfigListenerManagerRegistry.release(this);
+        }
+    }
+
+    private ConfigListenerManager getConfigListenerManager() {
+        ConfigListenerManager configListenerManager = this.configListenerManager;
+        if (configListenerManager == null) {
+            synchronized (this) {
+                if (this.closed) {
+                    throw new IllegalStateException("The ConfigClient has been closed!");
+                }
+                configListenerManager = this.configListenerManager;
+                if (configListenerManager == null) {
+                    configListenerManager = ConfigListenerManagerRegistry.acquire(this);
+                    this.configListenerManager = configListenerManager;
+                }
+            }
+        }
+        return configListenerManager;
+    }
+
+    /**
+     * Get the {@link ConfigParsers} that caches the parsed configs of this client
+     *
+     * @return non-null
+     */
+    ConfigParsers getConfigParsers() {
+        return this.configParsers;
+    }
+
+    private synchronized ConfigPrefixWatcher getConfigPrefixWatcher() {
+        if (this.closed) {
+            throw new IllegalStateException("The ConfigClient has been closed!");
+        }
+        ConfigPrefixWatcher configPrefixWatcher = this.configPrefixWatcher;
+        if (configPrefixWatcher == null) {
+            configPrefixWatcher = new ConfigPrefixWatcher(this, this.nacosClientConfig);
+            this.configPrefixWatcher = configPrefixWatcher;
+        }
+        return configPrefixWatcher;
+    }
+
+    @Override
+    public ParsedConfig getParsedConfig(ConfigKey configKey, ConfigType configType) {
+        Config config = getConfig(configKey.getNamespaceId(), configKey.getGroup(), configKey.getDataId());
+        return this.configParsers.parse(config, configType);
+    }
+
+    @Override
+    public void addTypedListener(ConfigKey configKey, ConfigType configType, TypedConfigChangedListener listener) {
+        addEventListener(configKey.getNamespaceId(), configKey.getGroup(), configKey.getDataId(),
+                new TypedConfigChangedListenerAdapter(listener, configType, this.configParsers));
+    }
+
+    /**
+     * Whether the server is unavailable : I/O error or server error
+     */
+    private static boolean isUnavailable(OpenApiClientException e) {
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+            if (cause instanceof OpenApiClientException) {
+                ErrorCode errorCode = ((OpenApiClientException) cause).getErrorCode();
+                if (errorCode == IO_ERROR || errorCode == INTERNAL_SERVER_ERROR || errorCode == SERVER_ERROR) {
+                    return true;
+                }
+            }
+            cause = cause.getCause();
+        }
+        return false;
     }
 
     protected OpenApiRequest buildGetConfigRequest(String namespaceId, String group, String dataId, String tag, boolean showDetails) {
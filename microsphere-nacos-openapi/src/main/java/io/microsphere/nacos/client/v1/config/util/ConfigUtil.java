@@ -17,9 +17,13 @@
 package io.microsphere.nacos.client.v1.config.util;
 
 import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
 import io.microsphere.nacos.client.common.namespace.model.Namespace;
 import io.microsphere.nacos.client.constants.Constants;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static io.microsphere.nacos.client.constants.Constants.LISTENING_CONFIG_FIELD_SEPARATOR_CHAR;
 import static io.microsphere.nacos.client.constants.Constants.LISTENING_CONFIG_SEPARATOR_CHAR;
 import static io.microsphere.nacos.client.util.IOUtils.encode;
@@ -83,4 +87,52 @@ public abstract class ConfigUtil {
 
         return encode(idBuilder.toString());
     }
+
+    /**
+     * Parse the {@link ConfigKey config keys} from the decoded content of the listener's response
+     *
+     * @param content dataId^2group^1dataId^2group^2tenant^1...
+     * @return non-null
+     */
+    public static List<ConfigKey> parseConfigKeys(String content) {
+        List<ConfigKey> configKeys = new ArrayList<>();
+        if (content == null) {
+            return configKeys;
+        }
+        int length = content.length();
+        int start = 0;
+        while (start < length) {
+            int end = content.indexOf(LISTENING_CONFIG_SEPARATOR_CHAR, start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                ConfigKey configKey = parseConfigKey(content, start, end);
+                if (configKey != null) {
+                    configKeys.add(configKey);
+                }
+            }
+            start = end + 1;
+        }
+        return configKeys;
+    }
+
+    private static ConfigKey parseConfigKey(String content, int start, int end) {
+        int groupStart = content.indexOf(LISTENING_CONFIG_FIELD_SEPARATOR_CHAR, start);
+        if (groupStart < 0 || groupStart >= end) {
+            // Malformed
+            return null;
+        }
+        String dataId = content.substring(start, groupStart++);
+        int tenantStart = content.indexOf(LISTENING_CONFIG_FIELD_SEPARATOR_CHAR, groupStart);
+        String group;
+        String namespaceId = null;
+        if (tenantStart < 0 || tenantStart >= end) {
+            group = content.substring(groupStart, end);
+        } else {
+            group = content.substring(groupStart, tenantStart++);
+            namespaceId = content.substring(tenantStart, end);
+        }
+        return ConfigKey.of(namespaceId, group, dataId);
+    }
 }
@@ -16,10 +16,12 @@
  */
 package io.microsphere.nacos.client.v1.discovery;
 
+import com.google.gson.JsonParseException;
 import io.microsphere.nacos.client.NacosClientConfig;
 import io.microsphere.nacos.client.common.OpenApiTemplateClient;
 import io.microsphere.nacos.client.common.discovery.ConsistencyType;
 import io.microsphere.nacos.client.common.discovery.InstanceClient;
+import io.microsphere.nacos.client.common.discovery.io.InstancesReader;
 import io.microsphere.nacos.client.common.discovery.model.BaseInstance;
 import io.microsphere.nacos.client.common.discovery.model.BatchMetadataResult;
 import io.microsphere.nacos.client.common.discovery.model.DeleteInstance;
@@ -34,12 +36,20 @@ import io.microsphere.nacos.client.common.discovery.model.UpdateHealthInstance;
 import io.microsphere.nacos.client.common.discovery.model.UpdateInstance;
 import io.microsphere.nacos.client.http.HttpMethod;
 import io.microsphere.nacos.client.transport.OpenApiClient;
+import io.microsphere.nacos.client.transport.OpenApiClientException;
 import io.microsphere.nacos.client.transport.OpenApiRequest;
 import io.microsphere.nacos.client.transport.OpenApiRequestParam;
 import io.microsphere.nacos.client.util.ModelUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
+import static io.microsphere.nacos.client.ErrorCode.DESERIALIZATION_ERROR;
+import static io.microsphere.nacos.client.constants.Constants.DEFAULT_APPLICATION_NAME;
 import static io.microsphere.nacos.client.http.HttpMethod.DELETE;
 import static io.microsphere.nacos.client.http.HttpMethod.GET;
 import static io.microsphere.nacos.client.http.HttpMethod.POST;
@@ -65,6 +75,7 @@ import static io.microsphere.nacos.client.util.ModelUtils.setPropertyIfAbsent;
 import static io.microsphere.nacos.client.util.OpenApiUtils.createBatchMetadataRequest;
 import static io.microsphere.nacos.client.util.OpenApiUtils.createRequestBuilder;
 import static io.microsphere.nacos.client.util.OpenApiUtils.executeAsMessageOK;
+import static io.microsphere.nacos.client.util.OpenApiUtils.executeAsStream;
 import static io.microsphere.nacos.client.util.StringUtils.isBlank;
 
 /**
@@ -121,19 +132,8 @@ public class OpenApiInstanceClient extends OpenApiTemplateClient implements Inst
     public InstancesList getInstancesList(String namespaceId, String groupName, String clusterName, String serviceName,
                                           String ip, Integer port, Boolean healthyOnly, String app) {
 
-        OpenApiRequestParam clusterParam = isOpenApiV1() ? CLUSTERS : CLUSTER_NAME;
-
-        OpenApiRequest request = OpenApiRequest.Builder.create(getInstancesListEndpoint())
-                .method(HttpMethod.GET)
-                .queryParameter(NAMESPACE_ID, namespaceId)
-                .queryParameter(SERVICE_GROUP_NAME, groupName)
-                .queryParameter(clusterParam, clusterName)
-                .queryParameter(SERVICE_NAME, serviceName)
-                .queryParameter(INSTANCE_IP, ip)
-                .queryParameter(INSTANCE_PORT, port)
-                .queryParameter(INSTANCE_HEALTHY_ONLY, healthyOnly)
-                .queryParameter(APP, app)
-                .build();
+        OpenApiRequest request = buildInstancesListRequest(namespaceId, groupName, clusterName, serviceName, ip, port,
+                healthyOnly, app);
 
         InstancesList instancesList = response(request, InstancesList.class);
 
@@ -156,6 +156,19 @@ public class OpenApiInstanceClient extends OpenApiTemplateClient implements Inst
         return instancesList;
     }
 
+    @Override
+    public int visitInstances(String namespaceId, String groupName, String clusterName, String serviceName,
+                              Boolean healthyOnly, Predicate<? super Instance> filter, Consumer<? super Instance> consumer) {
+        OpenApiRequest request = buildInstancesListRequest(namespaceId, groupName, clusterName, serviceName, null, null,
+                healthyOnly, DEFAULT_APPLICATION_NAME);
+        InputStream content = executeAsStream(this.openApiClient, request);
+        try (InstancesReader reader = new InstancesReader(new InputStreamReader(content, this.openApiClient.getEncoding()), isOpenApiV2())) {
+            return reader.read(namespaceId, groupName, serviceName, filter, consumer);
+        } catch (IOException | JsonParseException | IllegalStateException | NumberFormatException e) {
+            throw new OpenApiClientException(DESERIALIZATION_ERROR, e.getMessage(), e);
+        }
+    }
+
     @Override
     public Heartbeat sendHeartbeat(Instance instance) {
         OpenApiRequest request = createRequestBuilder(getInstanceHeartbeatEndpoint(), PUT, instance)
@@ -196,6 +209,23 @@ public class OpenApiInstanceClient extends OpenApiTemplateClient implements Inst
                 .queryParameter(INSTANCE_HEALTHY, instance.getHealthy());
     }
 
+    protected OpenApiRequest buildInstancesListRequest(String namespaceId, String groupName, String clusterName,
+                                                       String serviceName, String ip, Integer port, Boolean healthyOnly,
+                                                       String app) {
+        OpenApiRequestParam clusterParam = isOpenApiV1() ? CLUSTERS : CLUSTER_NAME;
+        return OpenApiRequest.Builder.create(getInstancesListEndpoint())
+                .method(HttpMethod.GET)
+                .queryParameter(NAMESPACE_ID, namespaceId)
+                .queryParameter(SERVICE_GROUP_NAME, groupName)
+                .queryParameter(clusterParam, clusterName)
+                .queryParameter(SERVICE_NAME, serviceName)
+                .queryParameter(INSTANCE_IP, ip)
+                .queryParameter(INSTANCE_PORT, port)
+                .queryParameter(INSTANCE_HEALTHY_ONLY, healthyOnly)
+                .queryParameter(APP, app)
+                .build();
+    }
+
     protected OpenApiRequest.Builder instanceRequestBuilder(GenericInstance instance, HttpMethod method) {
         return instanceRequestBuilder((BaseInstance) instance, method)
                 .queryParameter(INSTANCE_WEIGHT, instance.getWeight())
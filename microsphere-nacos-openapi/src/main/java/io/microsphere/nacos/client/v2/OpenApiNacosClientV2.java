@@ -25,9 +25,13 @@ import io.microsphere.nacos.client.common.auth.model.Authentication;
 import io.microsphere.nacos.client.common.config.ConfigClient;
 import io.microsphere.nacos.client.common.config.ConfigType;
 import io.microsphere.nacos.client.common.config.event.ConfigChangedListener;
+import io.microsphere.nacos.client.common.config.event.TypedConfigChangedListener;
 import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import io.microsphere.nacos.client.common.config.model.ConfigPublishResult;
 import io.microsphere.nacos.client.common.config.model.HistoryConfig;
 import io.microsphere.nacos.client.common.config.model.NewConfig;
+import io.microsphere.nacos.client.common.config.parser.ParsedConfig;
 import io.microsphere.nacos.client.common.discovery.ConsistencyType;
 import io.microsphere.nacos.client.common.discovery.InstanceClient;
 import io.microsphere.nacos.client.common.discovery.ServiceClient;
@@ -60,9 +64,15 @@ import io.microsphere.nacos.client.v2.client.model.ClientInfo;
 import io.microsphere.nacos.client.v2.client.model.ClientInstance;
 import io.microsphere.nacos.client.v2.client.model.ClientSubscriber;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static io.microsphere.nacos.client.OpenApiVersion.V2;
 import static io.microsphere.nacos.client.common.discovery.ConsistencyType.EPHEMERAL;
@@ -111,12 +121,22 @@ public class OpenApiNacosClientV2 extends OpenApiTemplateClient implements Nacos
 
     private final RaftClient raftClient;
 
+    /**
+     * Whether the {@link OpenApiClient} was created by this client, which will be closed with this client
+     */
+    private final boolean openApiClientOwned;
+
     public OpenApiNacosClientV2(NacosClientConfig nacosClientConfig) {
-        this(new OpenApiHttpClient(nacosClientConfig), nacosClientConfig);
+        this(new OpenApiHttpClient(nacosClientConfig), nacosClientConfig, true);
     }
 
     public OpenApiNacosClientV2(OpenApiClient openApiClient, NacosClientConfig nacosClientConfig) {
+        this(openApiClient, nacosClientConfig, false);
+    }
+
+    private OpenApiNacosClientV2(OpenApiClient openApiClient, NacosClientConfig nacosClientConfig, boolean openApiClientOwned) {
         super(openApiClient, nacosClientConfig);
+        this.openApiClientOwned = openApiClientOwned;
         this.authenticationClient = new OpenApiAuthenticationClient(openApiClient, nacosClientConfig);
         this.configClient = new OpenApiConfigClient(openApiClient, nacosClientConfig);
         this.serviceClient = new OpenApiServiceClient(openApiClient, nacosClientConfig);
@@ -189,6 +209,11 @@ public class OpenApiNacosClientV2 extends OpenApiTemplateClient implements Nacos
         return configClient.getConfigContent(namespaceId, group, dataId, tag);
     }
 
+    @Override
+    public String getConfigContent(String namespaceId, String group, String dataId, String tag, OutputStream outputStream) throws IOException {
+        return configClient.getConfigContent(namespaceId, group, dataId, tag, outputStream);
+    }
+
     @Override
     public Config getConfig(String group, String dataId) {
         return configClient.getConfig(group, dataId);
@@ -199,6 +224,11 @@ public class OpenApiNacosClientV2 extends OpenApiTemplateClient implements Nacos
         return configClient.getConfig(namespaceId, group, dataId);
     }
 
+    @Override
+    public Map<String, Config> getConfigs(String namespaceId, String group, Collection<String> dataIds) {
+        return configClient.getConfigs(namespaceId, group, dataIds);
+    }
+
     @Override
     public boolean publishConfigContent(String group, String dataId, String content) {
         return configClient.publishConfigContent(group, dataId, content);
@@ -219,11 +249,21 @@ public class OpenApiNacosClientV2 extends OpenApiTemplateClient implements Nacos
         return configClient.publishConfigContent(namespaceId, group, dataId, content, tag, configType);
     }
 
+    @Override
+    public String publishConfigContent(String namespaceId, String group, String dataId, InputStream content, ConfigType configType) throws IOException {
+        return configClient.publishConfigContent(namespaceId, group, dataId, content, configType);
+    }
+
     @Override
     public boolean publishConfig(NewConfig newConfig) {
         return configClient.publishConfig(newConfig);
     }
 
+    @Override
+    public Map<ConfigKey, ConfigPublishResult> publishConfigs(Collection<NewConfig> newConfigs) {
+        return configClient.publishConfigs(newConfigs);
+    }
+
     @Override
     public boolean deleteConfig(String dataId) {
         return configClient.deleteConfig(dataId);
@@ -264,6 +304,11 @@ public class OpenApiNacosClientV2 extends OpenApiTemplateClient implements Nacos
         return configClient.getHistoryConfigs(namespaceId, group, dataId, pageNumber, pageSize);
     }
 
+    @Override
+    public Page<Config> searchConfigs(String namespaceId, String group, String dataId, boolean blur, int pageNumber, int pageSize) {
+        return configClient.searchConfigs(namespaceId, group, dataId, blur, pageNumber, pageSize);
+    }
+
     @Override
     public HistoryConfig getHistoryConfig(String dataId, long revision) {
         return configClient.getHistoryConfig(dataId, revision);
@@ -309,6 +354,11 @@ public class OpenApiNacosClientV2 extends OpenApiTemplateClient implements Nacos
         configClient.addEventListener(namespaceId, group, dataId, listener);
     }
 
+    @Override
+    public void addEventListeners(Collection<ConfigKey> configKeys, ConfigChangedListener listener) {
+        configClient.addEventListeners(configKeys, listener);
+    }
+
     @Override
     public void removeEventListener(String dataId, ConfigChangedListener listener) {
         configClient.removeEventListener(dataId, listener);
@@ -324,6 +374,51 @@ public class OpenApiNacosClientV2 extends OpenApiTemplateClient implements Nacos
         configClient.removeEventListener(namespaceId, group, dataId, listener);
     }
 
+    @Override
+    public void removeEventListeners(Collection<ConfigKey> configKeys, ConfigChangedListener listener) {
+        configClient.removeEventListeners(configKeys, listener);
+    }
+
+    /**
+     * Close the {@link ConfigClient}, and the {@link OpenApiClient} if it was created by this client
+     */
+    @Override
+    public void close() {
+        configClient.close();
+        if (openApiClientOwned) {
+            try {
+                openApiClient.close();
+            } catch (Exception e) {
+                // TODO Log
+            }
+        }
+    }
+
+    @Override
+    public void addPrefixEventListener(String namespaceId, String group, String dataIdPrefix, ConfigChangedListener listener) {
+        configClient.addPrefixEventListener(namespaceId, group, dataIdPrefix, listener);
+    }
+
+    @Override
+    public void removePrefixEventListener(String namespaceId, String group, String dataIdPrefix, ConfigChangedListener listener) {
+        configClient.removePrefixEventListener(namespaceId, group, dataIdPrefix, listener);
+    }
+
+    @Override
+    public ParsedConfig getParsedConfig(ConfigKey configKey, ConfigType configType) {
+        return configClient.getParsedConfig(configKey, configType);
+    }
+
+    @Override
+    public void addTypedListener(ConfigKey configKey, ConfigType configType, TypedConfigChangedListener listener) {
+        configClient.addTypedListener(configKey, configType, listener);
+    }
+
+    @Override
+    public void removeTypedListener(ConfigKey configKey, ConfigType configType, TypedConfigChangedListener listener) {
+        configClient.removeTypedListener(configKey, configType, listener);
+    }
+
     @Override
     public boolean createService(Service service) {
         return serviceClient.createService(service);
@@ -484,6 +579,21 @@ public class OpenApiNacosClientV2 extends OpenApiTemplateClient implements Nacos
         return instanceClient.getInstancesList(namespaceId, groupName, clusterName, serviceName, ip, port, healthyOnly, app);
     }
 
+    @Override
+    public List<Instance> getInstances(String namespaceId, String groupName, String clusterName, String serviceName, Boolean healthyOnly, Predicate<? super Instance> filter) {
+        return instanceClient.getInstances(namespaceId, groupName, clusterName, serviceName, healthyOnly, filter);
+    }
+
+    @Override
+    public int visitInstances(String namespaceId, String groupName, String clusterName, String serviceName, Consumer<? super Instance> consumer) {
+        return instanceClient.visitInstances(namespaceId, groupName, clusterName, serviceName, consumer);
+    }
+
+    @Override
+    public int visitInstances(String namespaceId, String groupName, String clusterName, String serviceName, Boolean healthyOnly, Predicate<? super Instance> filter, Consumer<? super Instance> consumer) {
+        return instanceClient.visitInstances(namespaceId, groupName, clusterName, serviceName, healthyOnly, filter, consumer);
+    }
+
     @Override
     public Heartbeat sendHeartbeat(Instance instance) {
         return instanceClient.sendHeartbeat(instance);
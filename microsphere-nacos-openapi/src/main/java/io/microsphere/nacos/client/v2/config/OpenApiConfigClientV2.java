@@ -58,7 +58,7 @@ public class OpenApiConfigClientV2 extends OpenApiConfigClient implements Config
     }
 
     @Override
-    public Config getConfig(String namespaceId, String group, String dataId) {
+    protected Config doGetConfig(String namespaceId, String group, String dataId) {
         // No getConfig endpoint is not found in Open API V2
         String configEndpoint = V1.getEndpointPath() + CONFIG_ENDPOINT;
         OpenApiRequest request = OpenApiRequest.Builder.create(configEndpoint)
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.archive;
+
+import io.microsphere.nacos.client.common.config.ConfigClient;
+import io.microsphere.nacos.client.common.config.ConfigType;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigPublishResult;
+import io.microsphere.nacos.client.common.config.model.NewConfig;
+import io.microsphere.nacos.client.v1.config.InMemoryConfigClient;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.singleton;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConfigExporter} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigExporter
+ * @see ConfigImporter
+ * @since 1.0.0
+ */
+public class ConfigExporterTest {
+
+    private static final int PAGE_SIZE = ConfigClient.MAX_PAGE_SIZE;
+
+    private static final int TOTAL_CONFIGS = PAGE_SIZE * 3 + 7;
+
+    @Test
+    public void testExportAndImport() throws Exception {
+        try (InMemoryConfigClient source = sourceConfigClient();
+             InMemoryConfigClient target = new InMemoryConfigClient()) {
+            ConfigExporter exporter = new ConfigExporter(source, 2);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            assertEquals(TOTAL_CONFIGS, exporter.exportConfigs("source", outputStream));
+
+            ConfigImporter importer = new ConfigImporter(target, 100);
+            List<ConfigPublishResult> results = new ArrayList<>();
+            long count = importer.importConfigs("target", new ByteArrayInputStream(outputStream.toByteArray()), results::add);
+            assertEquals(TOTAL_CONFIGS, count);
+            assertEquals(TOTAL_CONFIGS, results.size());
+            assertEquals(TOTAL_CONFIGS, target.searchConfigs("target", null, null, false, 1, 1).getTotalElements());
+
+            // The configs are exported in order
+            for (int i = 0; i < TOTAL_CONFIGS; i++) {
+                ConfigPublishResult result = results.get(i);
+                assertTrue(result.isPublished());
+                assertEquals("data-id-" + i, result.getConfigKey().getDataId());
+                Config config = target.getConfig("target", "DEFAULT_GROUP", "data-id-" + i);
+                assertEquals("target", config.getNamespaceId());
+                assertEquals("line1\nline2=" + i, config.getContent());
+                assertEquals(ConfigType.PROPERTIES, config.getType());
+                assertEquals(i == 0 ? singleton("tag") : null, config.getTags());
+                assertNull(config.getDescription());
+            }
+        }
+    }
+
+    private InMemoryConfigClient sourceConfigClient() {
+        InMemoryConfigClient configClient = new InMemoryConfigClient();
+        for (int i = 0; i < TOTAL_CONFIGS; i++) {
+            NewConfig newConfig = new NewConfig();
+            newConfig.setNamespaceId("source");
+            newConfig.setGroup("DEFAULT_GROUP");
+            newConfig.setDataId("data-id-" + i);
+            newConfig.setContent("line1\nline2=" + i);
+            newConfig.setType(ConfigType.PROPERTIES);
+            if (i == 0) {
+                newConfig.setTags(singleton("tag"));
+            }
+            configClient.publishConfig(newConfig);
+        }
+        return configClient;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.event;
+
+import io.microsphere.nacos.client.common.config.ConfigType;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.parser.ConfigParsers;
+import org.junit.jupiter.api.Test;
+
+import static io.microsphere.nacos.client.common.config.ConfigType.JSON;
+import static io.microsphere.nacos.client.common.config.ConfigType.PROPERTIES;
+import static io.microsphere.nacos.client.common.config.ConfigType.TEXT;
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.Kind.CREATED;
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.Kind.DELETED;
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.Kind.MODIFIED;
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.coalesce;
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.ofCreated;
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.ofDeleted;
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.ofModified;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConfigChangedEvent} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigChangedEvent
+ * @since 1.0.0
+ */
+public class ConfigChangedEventTest {
+
+    @Test
+    public void testCoalesce() {
+        Config v1 = createConfig("v1");
+        Config v2 = createConfig("v2");
+        Config v3 = createConfig("v3");
+
+        ConfigChangedEvent created = ofCreated(v1);
+        assertSame(created, coalesce(created, created));
+
+        ConfigChangedEvent event = coalesce(created, ofModified(v2, v3));
+        assertTrue(event.isCreated());
+        assertSame(v3, event.getCurrent());
+
+        event = coalesce(ofModified(v1, v2), ofModified(v2, v3));
+        assertTrue(event.isModified());
+        assertSame(v1, event.getPrevious());
+        assertSame(v3, event.getCurrent());
+
+        event = coalesce(ofModified(v1, v2), ofDeleted(v2));
+        assertTrue(event.isDeleted());
+        assertSame(v1, event.getPrevious());
+
+        // Not changed eventually
+        assertNull(coalesce(created, ofDeleted(v1)));
+        assertNull(coalesce(ofModified(v1, v2), ofModified(v2, createConfig("v1"))));
+    }
+
+    @Test
+    public void testGetChangeSet() {
+        Config v1 = createConfig("v1", PROPERTIES, "a=1\nb=2\nc=3");
+        Config v2 = createConfig("v2", PROPERTIES, "a=1\nb=20\nd=4");
+
+        ConfigChangedEvent event = ofModified(v1, v2);
+        ConfigChangeSet changeSet = event.getChangeSet();
+        assertSame(changeSet, event.getChangeSet());
+        assertEquals(3, changeSet.size());
+        assertEquals(new ConfigPropertyChange("b", "2", "20", MODIFIED), changeSet.getChange("b"));
+        assertEquals(new ConfigPropertyChange("c", "3", null, DELETED), changeSet.getChange("c"));
+        assertEquals(new ConfigPropertyChange("d", null, "4", CREATED), changeSet.getChange("d"));
+        assertNull(changeSet.getChange("a"));
+
+        v1 = createConfig("v1", JSON, "{\"a\":{\"b\":[1,2]},\"ab\":1}");
+        v2 = createConfig("v2", JSON, "{\"a\":{\"b\":[1,3]},\"ab\":1}");
+        changeSet = ofModified(v1, v2).getChangeSet();
+        assertEquals(1, changeSet.size());
+        assertTrue(changeSet.isChanged("a"));
+        assertTrue(changeSet.isChanged("a.b"));
+        assertTrue(changeSet.isChanged("a.b[1]"));
+        assertFalse(changeSet.isChanged("a.b[0]"));
+        assertFalse(changeSet.isChanged("ab"));
+
+        changeSet = ofCreated(v1).getChangeSet();
+        assertEquals(3, changeSet.getChanges(CREATED).size());
+
+        // Not structured
+        assertNull(ofCreated(createConfig("v1", TEXT, "text")).getChangeSet());
+        // Malformed
+        assertNull(ofCreated(createConfig("v1", JSON, "{")).getChangeSet());
+    }
+
+    @Test
+    public void testGetChangeSetWithConfigParsers() {
+        ConfigParsers configParsers = new ConfigParsers(16);
+        Config v1 = createConfig("v1", PROPERTIES, "a=1");
+        Config v2 = createConfig("v2", PROPERTIES, "a=2");
+        Config v3 = createConfig("v3", PROPERTIES, "a=3");
+
+        // The configs are parsed by the ConfigParsers, and cached by their MD5s
+        ConfigChangedEvent event = ofModified(v1, v2, configParsers);
+        assertEquals(new ConfigPropertyChange("a", "1", "2", MODIFIED), event.getChangeSet().getChange("a"));
+        assertEquals(2, configParsers.size());
+
+        // The coalesced event keeps the ConfigParsers
+        event = coalesce(event, ofModified(v2, v3, configParsers));
+        assertEquals(new ConfigPropertyChange("a", "1", "3", MODIFIED), event.getChangeSet().getChange("a"));
+        assertEquals(3, configParsers.size());
+    }
+
+    private Config createConfig(String md5, ConfigType type, String content) {
+        Config config = createConfig(md5);
+        config.setType(type);
+        config.setContent(content);
+        return config;
+    }
+
+    private Config createConfig(String md5) {
+        Config config = new Config();
+        config.setDataId("test.yaml");
+        config.setMd5(md5);
+        return config;
+    }
+}
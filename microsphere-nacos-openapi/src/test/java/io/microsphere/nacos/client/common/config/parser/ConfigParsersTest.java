@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.parser;
+
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.transport.OpenApiClientException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.microsphere.nacos.client.common.config.ConfigType.JSON;
+import static io.microsphere.nacos.client.common.config.ConfigType.PROPERTIES;
+import static io.microsphere.nacos.client.common.config.ConfigType.TEXT;
+import static io.microsphere.nacos.client.common.config.ConfigType.YAML;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link ConfigParsers} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigParsers
+ * @since 1.0.0
+ */
+public class ConfigParsersTest {
+
+    @Test
+    public void testParse() {
+        ConfigParsers configParsers = new ConfigParsers(2);
+
+        Config config = createConfig("{\"a\":{\"b\":[1,\"c\"]},\"d\":true}", "md5-1");
+        ParsedConfig parsedConfig = configParsers.parse(config, JSON);
+        assertEquals(JSON, parsedConfig.getType());
+        assertEquals("md5-1", parsedConfig.getMd5());
+        List<Object> list = parsedConfig.getProperty("a.b");
+        assertEquals(2, list.size());
+        assertEquals("c", list.get(1));
+        assertEquals(Boolean.TRUE, parsedConfig.getProperty("d"));
+        assertNull(parsedConfig.getProperty("a.x"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("e"));
+
+        // The same MD5 is parsed once
+        Config sameConfig = createConfig("{\"a\":{\"b\":[1,\"c\"]},\"d\":true}", "md5-1");
+        assertSame(parsedConfig.getValue(), configParsers.parse(sameConfig, JSON).getValue());
+        assertEquals(1, configParsers.size());
+
+        // The properties
+        Config properties = createConfig("a.b=1\nc=2", "md5-2");
+        Map<String, String> map = configParsers.parse(properties, PROPERTIES).getValue();
+        assertEquals("1", map.get("a.b"));
+        assertEquals("1", configParsers.parse(properties, PROPERTIES).getProperty("a.b"));
+
+        // The eldest is evicted
+        configParsers.parse(createConfig("text", "md5-3"), TEXT);
+        assertEquals(2, configParsers.size());
+        assertEquals("text", configParsers.parse(createConfig("text", "md5-3"), null).getValue());
+    }
+
+    @Test
+    public void testParseOnFailure() {
+        ConfigParsers configParsers = new ConfigParsers(2);
+        assertThrows(OpenApiClientException.class, () -> configParsers.parse(createConfig("{", "md5"), JSON));
+        assertEquals(0, configParsers.size());
+        assertThrows(IllegalArgumentException.class, () -> configParsers.parse(createConfig("a: b", "md5"), YAML));
+        assertNull(configParsers.parse(null, JSON));
+    }
+
+    private Config createConfig(String content, String md5) {
+        Config config = new Config();
+        config.setNamespaceId("test");
+        config.setGroup("DEFAULT_GROUP");
+        config.setDataId("test");
+        config.setContent(content);
+        config.setMd5(md5);
+        return config;
+    }
+}
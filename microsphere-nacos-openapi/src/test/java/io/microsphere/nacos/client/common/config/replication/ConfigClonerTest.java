@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.replication;
+
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.NewConfig;
+import io.microsphere.nacos.client.common.model.Page;
+import io.microsphere.nacos.client.v1.config.InMemoryConfigClient;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.microsphere.nacos.client.common.config.ConfigClient.MAX_PAGE_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConfigCloner} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigCloner
+ * @since 1.0.0
+ */
+public class ConfigClonerTest {
+
+    private static final String GROUP = "DEFAULT_GROUP";
+
+    @Test
+    public void test() {
+        Set<String> failingDataIds = ConcurrentHashMap.newKeySet();
+        try (InMemoryConfigClient source = new InMemoryConfigClient();
+             InMemoryConfigClient target = new InMemoryConfigClient() {
+                 @Override
+                 public boolean publishConfig(NewConfig newConfig) {
+                     if (failingDataIds.remove(newConfig.getDataId())) {
+                         throw new IllegalStateException(newConfig.getDataId());
+                     }
+                     return super.publishConfig(newConfig);
+                 }
+             }) {
+            for (int i = 0; i < 1200; i++) {
+                source.publishConfigContent("source", GROUP, String.format("config-%04d", i), "content-" + i);
+            }
+            source.publishConfigContent("source", GROUP, "skipped", "skipped");
+            target.publishConfigContent("target", GROUP, "config-0000", "CONTENT-0");
+            failingDataIds.add("config-0600");
+
+            ConfigCloner cloner = new ConfigCloner(source, target, "source", "target");
+            cloner.setBatchSize(50);
+            cloner.setQueueCapacity(10);
+            cloner.setTransformer(newConfig -> {
+                if ("skipped".equals(newConfig.getDataId())) {
+                    return null;
+                }
+                newConfig.setContent(newConfig.getContent().toUpperCase());
+                return newConfig;
+            });
+            List<ConfigCloneProgress> reports = new ArrayList<>();
+            cloner.setProgressListener(reports::add);
+
+            // The config on the second page failed, the pre-existing one is left unchanged by its MD5
+            ConfigCloneProgress progress = cloner.cloneConfigs();
+            assertTrue(progress.isFinished());
+            assertFalse(progress.isCompleted());
+            assertNull(progress.getFailure());
+            assertEquals(1201, progress.getReadCount());
+            assertEquals(1, progress.getSkippedCount());
+            assertEquals(1198, progress.getPublishedCount());
+            assertEquals(1, progress.getUnchangedCount());
+            assertEquals(1, progress.getFailedCount());
+            assertEquals(3, progress.getTotalPages());
+            assertEquals(1, progress.getCompletedPageNumber());
+            assertTrue(reports.size() > 1);
+            assertTrue(progress.getThroughput() >= 0);
+            assertNull(target.getConfigContent("target", GROUP, "config-0600"));
+            assertNull(target.getConfigContent("target", GROUP, "skipped"));
+
+            // Resume from the failed page, the cloned configs are left unchanged by their MD5s
+            progress = cloner.cloneConfigs(progress.getCompletedPageNumber() + 1);
+            assertTrue(progress.isCompleted());
+            assertEquals(701, progress.getReadCount());
+            assertEquals(1, progress.getPublishedCount());
+            assertEquals(699, progress.getUnchangedCount());
+            assertEquals(3, progress.getCompletedPageNumber());
+            Page<Config> targetConfigs = target.searchConfigs("target", null, null, false, 1, MAX_PAGE_SIZE);
+            assertEquals(1200, targetConfigs.getTotalElements());
+            assertEquals("CONTENT-600", target.getConfigContent("target", GROUP, "config-0600"));
+        }
+    }
+
+    @Test
+    public void testFailure() {
+        try (InMemoryConfigClient source = new InMemoryConfigClient() {
+            @Override
+            public Page<Config> searchConfigs(String namespaceId, String group, String dataId, boolean blur,
+                                              int pageNumber, int pageSize) {
+                throw new IllegalStateException("unavailable");
+            }
+        }; InMemoryConfigClient target = new InMemoryConfigClient()) {
+            ConfigCloner cloner = new ConfigCloner(source, target, null, null);
+            ConfigCloneProgress progress = cloner.cloneConfigs();
+            assertTrue(progress.isFinished());
+            assertFalse(progress.isCompleted());
+            assertEquals("unavailable", progress.getFailure().getMessage());
+            assertEquals(0, progress.getCompletedPageNumber());
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.config.replication;
+
+import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.common.config.event.ConfigChangedListener;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.replication.ConfigReplicator.PendingChange;
+import io.microsphere.nacos.client.v1.config.InMemoryConfigClient;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.ofCreated;
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.ofModified;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConfigReplicator} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigReplicator
+ * @since 1.0.0
+ */
+public class ConfigReplicatorTest {
+
+    private static final String GROUP = "test-group";
+
+    private static final long TIMEOUT = 5000;
+
+    @Test
+    public void test() throws Exception {
+        NacosClientConfig nacosClientConfig = new NacosClientConfig();
+        nacosClientConfig.setConfigDiscoveryInterval(100);
+        nacosClientConfig.setLongPollingTimeout(200);
+        try (InMemoryConfigClient source = new InMemoryConfigClient(nacosClientConfig);
+             InMemoryConfigClient target = new InMemoryConfigClient()) {
+            source.publishConfigContent("source", GROUP, "app.a", "a");
+            source.publishConfigContent("source", GROUP, "app.b", "b");
+            source.publishConfigContent("source", GROUP, "other", "other");
+            target.publishConfigContent("target", GROUP, "app.b", "b");
+
+            ConfigReplicator replicator = new ConfigReplicator(source, target, "source", "target", GROUP, "app.");
+            try {
+                replicator.setFlushInterval(10);
+                replicator.start();
+
+                // The bulk copy
+                assertEquals("a", target.getConfigContent("target", GROUP, "app.a"));
+                assertNull(target.getConfigContent("target", GROUP, "other"));
+                assertEquals(1, replicator.getReplicatedCount());
+                assertEquals(1, replicator.getUnchangedCount());
+
+                // The incremental changes : the config created after the first discovery, the modified and the
+                // deleted ones are listened by the prefix listener of the source
+                source.publishConfigContent("source", GROUP, "app.c", "c1");
+                source.publishConfigContent("source", GROUP, "app.c", "c2");
+                source.publishConfigContent("source", GROUP, "app.b", "b2");
+                source.deleteConfig("source", GROUP, "app.a");
+                await(() -> "c2".equals(target.getConfigContent("target", GROUP, "app.c")) &&
+                        "b2".equals(target.getConfigContent("target", GROUP, "app.b")) &&
+                        target.getConfigContent("target", GROUP, "app.a") == null);
+                await(() -> replicator.getPendingCount() == 0);
+
+                assertTrue(replicator.getReplicatedCount() >= 4);
+                assertEquals(0, replicator.getFailedCount());
+                assertEquals(0, replicator.getPendingLag());
+                assertTrue(replicator.getMaxLag() >= replicator.getLastLag());
+            } finally {
+                replicator.close();
+            }
+
+            // No change is replicated after closed
+            long replicatedCount = replicator.getReplicatedCount();
+            source.publishConfigContent("source", GROUP, "app.d", "d");
+            Thread.sleep(3 * nacosClientConfig.getConfigDiscoveryInterval());
+            assertNull(target.getConfigContent("target", GROUP, "app.d"));
+            assertEquals(replicatedCount, replicator.getReplicatedCount());
+        }
+    }
+
+    @Test
+    public void testChangeMergedWhileFlushing() throws Exception {
+        ConfigChangedListener[] listeners = new ConfigChangedListener[1];
+        RacingPendingChanges pendingChanges = new RacingPendingChanges();
+        try (InMemoryConfigClient source = new InMemoryConfigClient() {
+            @Override
+            public void addPrefixEventListener(String namespaceId, String group, String dataIdPrefix,
+                                               ConfigChangedListener listener) {
+                listeners[0] = listener;
+            }
+        }; InMemoryConfigClient target = new InMemoryConfigClient();
+             ConfigReplicator replicator = new ConfigReplicator(source, target, "source", "target", GROUP, "app.",
+                     pendingChanges)) {
+            replicator.setFlushInterval(10);
+            replicator.start();
+
+            Config v1 = newConfig("v1");
+            Config v2 = newConfig("v2");
+            // The newer change is merged after the older one was drained by the flush
+            pendingChanges.race = () -> listeners[0].onEvent(ofModified(v1, v2));
+            listeners[0].onEvent(ofCreated(v1));
+
+            await(() -> "v2".equals(target.getConfigContent("target", GROUP, "app.a")));
+            await(() -> replicator.getPendingCount() == 0);
+            assertEquals("v2", target.getConfigContent("target", GROUP, "app.a"));
+        }
+    }
+
+    private static Config newConfig(String content) {
+        Config config = new Config();
+        config.setNamespaceId("source");
+        config.setGroup(GROUP);
+        config.setDataId("app.a");
+        config.setContent(content);
+        return config;
+    }
+
+    /**
+     * The pending changes that run the race once a change is iterated
+     */
+    private static class RacingPendingChanges extends ConcurrentHashMap<String, PendingChange> {
+
+        private volatile Runnable race;
+
+        @Override
+        public Set<Map.Entry<String, PendingChange>> entrySet() {
+            Set<Map.Entry<String, PendingChange>> entrySet = super.entrySet();
+            return new AbstractSet<Map.Entry<String, PendingChange>>() {
+
+                @Override
+                public Iterator<Map.Entry<String, PendingChange>> iterator() {
+                    return racing(entrySet.iterator());
+                }
+
+                @Override
+                public int size() {
+                    return entrySet.size();
+                }
+            };
+        }
+
+        @Override
+        public Collection<PendingChange> values() {
+            Collection<PendingChange> values = super.values();
+            return new AbstractCollection<PendingChange>() {
+
+                @Override
+                public Iterator<PendingChange> iterator() {
+                    return racing(values.iterator());
+                }
+
+                @Override
+                public int size() {
+                    return values.size();
+                }
+            };
+        }
+
+        private <E> Iterator<E> racing(Iterator<E> iterator) {
+            return new Iterator<E>() {
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public E next() {
+                    E element = iterator.next();
+                    Runnable race = RacingPendingChanges.this.race;
+                    if (race != null) {
+                        RacingPendingChanges.this.race = null;
+                        race.run();
+                    }
+                    return element;
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                }
+            };
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timeout");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.discovery.io;
+
+import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.common.discovery.model.Instance;
+import io.microsphere.nacos.client.common.discovery.model.Service;
+import io.microsphere.nacos.client.io.DefaultDeserializer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link MetadataDeserializer} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see MetadataDeserializer
+ * @since 1.0.0
+ */
+public class MetadataDeserializerTest {
+
+    private final DefaultDeserializer deserializer = new DefaultDeserializer(new NacosClientConfig());
+
+    @Test
+    public void testInstanceMetadata() {
+        Instance instance = deserializer.deserialize("{\"ip\":\"127.0.0.1\",\"port\":8080,\"metadata\":{\"zone\":\"a\",\"version\":\"1.0.0\"}}",
+                Instance.class);
+        Map<String, String> metadata = instance.getMetadata();
+        assertEquals("a", metadata.get("zone"));
+        assertEquals("1.0.0", metadata.get("version"));
+        assertThrows(UnsupportedOperationException.class, () -> metadata.put("zone", "b"));
+    }
+
+    @Test
+    public void testOtherMetadata() {
+        // Only the metadata of instance is bound to MetadataDeserializer
+        Service service = deserializer.deserialize("{\"name\":\"test\",\"metadata\":{\"zone\":\"a\"}}", Service.class);
+        Map<String, String> metadata = service.getMetadata();
+        metadata.put("zone", "b");
+        assertEquals("b", metadata.get("zone"));
+    }
+}
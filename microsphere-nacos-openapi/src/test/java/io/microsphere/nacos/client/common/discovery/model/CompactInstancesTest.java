@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.discovery.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link CompactInstances} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see CompactInstances
+ * @since 1.0.0
+ */
+public class CompactInstancesTest {
+
+    private static final String[] IPS = {"127.0.0.1", "255.255.255.255", "fe80:0:0:0:1:2:3:4", "::1", "01.2.3.4", "localhost"};
+
+    @Test
+    public void testOf() {
+        List<Instance> instances = new ArrayList<>();
+        for (int i = 0; i < IPS.length; i++) {
+            instances.add(createInstance(IPS[i], 8080 + i, i % 2 == 0));
+        }
+        instances.add(new Instance());
+
+        CompactInstances compactInstances = CompactInstances.of(instances);
+        assertSame(compactInstances, CompactInstances.of(compactInstances));
+        assertEquals(instances.size(), compactInstances.size());
+
+        for (int i = 0; i < instances.size(); i++) {
+            assertInstance(instances.get(i), compactInstances.get(i));
+        }
+
+        // the metadata is interned
+        assertSame(compactInstances.get(0).getMetadata(), compactInstances.get(1).getMetadata());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> compactInstances.get(instances.size()));
+        assertThrows(UnsupportedOperationException.class, () -> compactInstances.get(0).setIp("127.0.0.1"));
+        assertThrows(UnsupportedOperationException.class, () -> compactInstances.add(new Instance()));
+
+        assertInstance(instances.get(0), new Instance().from(compactInstances.get(0)));
+    }
+
+    @Test
+    public void testEquals() {
+        List<Instance> instances = new ArrayList<>();
+        instances.add(createInstance("127.0.0.1", 8080, true));
+        instances.add(createInstance("127.0.0.1", 8081, true));
+
+        CompactInstances compactInstances = CompactInstances.of(instances);
+        CompactInstances otherCompactInstances = CompactInstances.of(new ArrayList<>(instances));
+        // The views of the same element
+        assertEquals(compactInstances.get(0), compactInstances.get(0));
+        assertEquals(compactInstances.get(0).hashCode(), compactInstances.get(0).hashCode());
+        // The views of the equal columns
+        assertEquals(compactInstances.get(1), otherCompactInstances.get(1));
+        assertEquals(compactInstances.get(1).hashCode(), otherCompactInstances.get(1).hashCode());
+        assertEquals(compactInstances, otherCompactInstances);
+        assertNotEquals(compactInstances.get(0), compactInstances.get(1));
+        assertEquals(1, new HashSet<>(asList(compactInstances.get(0), otherCompactInstances.get(0))).size());
+    }
+
+    @Test
+    public void testInstancesListCompact() {
+        InstancesList instancesList = new InstancesList();
+        assertSame(instancesList, instancesList.compact());
+        assertNull(instancesList.getHosts());
+
+        List<Instance> hosts = new ArrayList<>();
+        hosts.add(createInstance("192.168.0.1", 8080, true));
+        instancesList.setHosts(hosts);
+        instancesList.compact();
+        assertEquals(CompactInstances.class, instancesList.getHosts().getClass());
+        assertInstance(hosts.get(0), instancesList.getHosts().get(0));
+    }
+
+    private Instance createInstance(String ip, int port, boolean healthy) {
+        Instance instance = new Instance();
+        instance.setNamespaceId("public");
+        instance.setGroupName("DEFAULT_GROUP");
+        instance.setClusterName("DEFAULT");
+        instance.setServiceName("test-service");
+        instance.setService("DEFAULT_GROUP@@test-service");
+        instance.setIp(ip);
+        instance.setPort(port);
+        instance.setInstanceId(ip + "#" + port + "#DEFAULT#DEFAULT_GROUP@@test-service");
+        instance.setHealthy(healthy);
+        instance.setEnabled(true);
+        instance.setEphemeral(!healthy);
+        instance.setWeight(1.0);
+        instance.setMarked(false);
+        instance.setInstanceHeartBeatInterval(5000L);
+        instance.setInstanceHeartBeatTimeOut(15000L);
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("version", "1.0.0");
+        instance.setMetadata(metadata);
+        return instance;
+    }
+
+    private void assertInstance(Instance expected, Instance actual) {
+        assertEquals(expected.getNamespaceId(), actual.getNamespaceId());
+        assertEquals(expected.getGroupName(), actual.getGroupName());
+        assertEquals(expected.getClusterName(), actual.getClusterName());
+        assertEquals(expected.getServiceName(), actual.getServiceName());
+        assertEquals(expected.getService(), actual.getService());
+        assertEquals(expected.getIp(), actual.getIp());
+        assertEquals(expected.getPort(), actual.getPort());
+        assertEquals(expected.getInstanceId(), actual.getInstanceId());
+        assertEquals(expected.getHealthy(), actual.getHealthy());
+        assertEquals(expected.getEnabled(), actual.getEnabled());
+        assertEquals(expected.getEphemeral(), actual.getEphemeral());
+        assertEquals(expected.getWeight(), actual.getWeight());
+        assertEquals(expected.getValid(), actual.getValid());
+        assertEquals(expected.getMarked(), actual.getMarked());
+        assertEquals(expected.getInstanceIdGenerator(), actual.getInstanceIdGenerator());
+        assertEquals(expected.getInstanceHeartBeatInterval(), actual.getInstanceHeartBeatInterval());
+        assertEquals(expected.getInstanceHeartBeatTimeOut(), actual.getInstanceHeartBeatTimeOut());
+        assertEquals(expected.getIpDeleteTimeout(), actual.getIpDeleteTimeout());
+        assertEquals(expected.getMetadata(), actual.getMetadata());
+    }
+}
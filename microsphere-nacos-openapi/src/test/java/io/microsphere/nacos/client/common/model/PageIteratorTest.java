@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.common.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link PageIterator} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see PageIterator
+ * @since 1.0.0
+ */
+public class PageIteratorTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Test
+    public void testIterate() {
+        for (int parallelism = 0; parallelism < 4; parallelism++) {
+            Set<Integer> fetchedPageNumbers = ConcurrentHashMap.newKeySet();
+            PageIterator<Integer> iterator = new PageIterator<>(pageFetcher(95, fetchedPageNumbers), parallelism);
+            List<Integer> elements = new ArrayList<>();
+            iterator.forEachRemaining(elements::add);
+            assertEquals(95, elements.size());
+            for (int i = 0; i < elements.size(); i++) {
+                assertEquals(i, elements.get(i).intValue());
+            }
+            assertEquals(10, fetchedPageNumbers.size());
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    public void testLazy() {
+        Set<Integer> fetchedPageNumbers = ConcurrentHashMap.newKeySet();
+        try (Stream<Integer> stream = new PageIterator<>(pageFetcher(95, fetchedPageNumbers), 0).stream()) {
+            assertTrue(fetchedPageNumbers.isEmpty());
+            assertEquals(15, stream.limit(15).count());
+        }
+        // Only the first two pages were fetched
+        assertEquals(2, fetchedPageNumbers.size());
+    }
+
+    @Test
+    public void testEmpty() {
+        PageIterator<Integer> iterator = new PageIterator<>(pageFetcher(0, ConcurrentHashMap.newKeySet()), 1);
+        assertFalse(iterator.hasNext());
+        assertEquals(0, iterator.stream().collect(Collectors.toList()).size());
+    }
+
+    @Test
+    public void testFailure() {
+        PageIterator<Integer> iterator = new PageIterator<>(pageNumber -> {
+            if (pageNumber > 1) {
+                throw new IllegalStateException("Page " + pageNumber);
+            }
+            return pageFetcher(95, ConcurrentHashMap.newKeySet()).apply(pageNumber);
+        }, 2);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            iterator.next();
+        }
+        assertThrows(IllegalStateException.class, iterator::next);
+    }
+
+    @Test
+    public void testPage() {
+        Page<Integer> page = pageFetcher(25, ConcurrentHashMap.newKeySet()).apply(1);
+        assertTrue(page.isFirst());
+        assertFalse(page.isLast());
+        assertFalse(page.hasPrevious());
+        assertTrue(page.hasNext());
+
+        page = pageFetcher(25, ConcurrentHashMap.newKeySet()).apply(3);
+        assertTrue(page.isLast());
+        assertTrue(page.hasPrevious());
+        assertFalse(page.hasNext());
+    }
+
+    private IntFunction<Page<Integer>> pageFetcher(int totalElements, Set<Integer> fetchedPageNumbers) {
+        return pageNumber -> {
+            fetchedPageNumbers.add(pageNumber);
+            List<Integer> elements = new ArrayList<>();
+            for (int i = (pageNumber - 1) * PAGE_SIZE; i < Math.min(totalElements, pageNumber * PAGE_SIZE); i++) {
+                elements.add(i);
+            }
+            return new Page<>(totalElements, elements, pageNumber, PAGE_SIZE);
+        };
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.transport;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.v1.config.OpenApiConfigClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+
+import static io.microsphere.nacos.client.ErrorCode.CLIENT_ERROR;
+import static io.microsphere.nacos.client.ErrorCode.INTERNAL_SERVER_ERROR;
+import static io.microsphere.nacos.client.http.HttpMethod.POST;
+import static io.microsphere.nacos.client.util.DigestUtils.md5Hex;
+import static io.microsphere.nacos.client.util.IOUtils.readAsString;
+import static io.microsphere.nacos.client.util.OpenApiUtils.executeAsStream;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link OpenApiHttpClient} Test for the releasing of the pooled connections and the streamed request body, which runs
+ * against a local HTTP server
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see OpenApiHttpClient
+ * @since 1.0.0
+ */
+public class OpenApiHttpClientConnectionTest {
+
+    private static final int MAX_PER_ROUTE = 2;
+
+    private static final int CALLS = MAX_PER_ROUTE * 3;
+
+    private static final String RESULT = "{\"code\":0,\"message\":\"success\",\"data\":\"ok\"}";
+
+    private HttpServer server;
+
+    private NacosClientConfig nacosClientConfig;
+
+    private OpenApiHttpClient openApiClient;
+
+    @BeforeEach
+    public void init() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::respond);
+        server.start();
+        nacosClientConfig = new NacosClientConfig();
+        nacosClientConfig.setServerAddress("127.0.0.1:" + server.getAddress().getPort());
+        nacosClientConfig.setMaxPerRoute(MAX_PER_ROUTE);
+        nacosClientConfig.setConnectionTimeout(3000);
+        openApiClient = new OpenApiHttpClient(nacosClientConfig);
+    }
+
+    @AfterEach
+    public void destroy() throws Exception {
+        openApiClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void testExecuteAsResultWithContentLength() {
+        assertExecuteAsResult("/fixed");
+    }
+
+    @Test
+    public void testExecuteAsResultWithChunkedContent() {
+        assertExecuteAsResult("/chunked");
+    }
+
+    @Test
+    public void testExecuteAsStreamOnError() {
+        OpenApiRequest request = OpenApiRequest.Builder.create("/error/500").build();
+        for (int i = 0; i < CALLS; i++) {
+            OpenApiClientException e = assertThrows(OpenApiClientException.class, () -> executeAsStream(openApiClient, request));
+            assertEquals(INTERNAL_SERVER_ERROR, e.getErrorCode());
+        }
+    }
+
+    @Test
+    public void testExecuteAsResultOnUnknownError() {
+        OpenApiRequest request = OpenApiRequest.Builder.create("/error/418").build();
+        for (int i = 0; i < CALLS; i++) {
+            OpenApiClientException e = assertThrows(OpenApiClientException.class, () -> openApiClient.executeAsResult(request, String.class));
+            assertEquals(CLIENT_ERROR, e.getErrorCode());
+        }
+    }
+
+    @Test
+    public void testExecuteWithRequestBody() {
+        OpenApiRequest request = OpenApiRequest.Builder.create("/echo")
+                .method(POST)
+                .body(new OpenApiRequestBody() {
+                    @Override
+                    public String getContentType() {
+                        return "text/plain;charset=UTF-8";
+                    }
+
+                    @Override
+                    public void writeTo(OutputStream outputStream) throws IOException {
+                        outputStream.write("Hello,World".getBytes(UTF_8));
+                    }
+                })
+                .build();
+        for (int i = 0; i < CALLS; i++) {
+            assertEquals("text/plain;charset=UTF-8|chunked|Hello,World", openApiClient.executeAsResult(request, String.class));
+        }
+    }
+
+    @Test
+    public void testGetConfigContentAsStream() throws IOException {
+        OpenApiConfigClient configClient = new OpenApiConfigClient(openApiClient, nacosClientConfig);
+        for (int i = 0; i < CALLS; i++) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            assertEquals(md5Hex(RESULT), configClient.getConfigContent(null, "test-group", "test.yaml", null, outputStream));
+            assertEquals(RESULT, new String(outputStream.toByteArray(), UTF_8));
+            // The absent config
+            assertNull(configClient.getConfigContent(null, "test-group", "absent", null, outputStream));
+        }
+    }
+
+    private void assertExecuteAsResult(String endpoint) {
+        OpenApiRequest request = OpenApiRequest.Builder.create(endpoint).build();
+        // The calls more than the max connections per route must not wait for the leaked connections
+        for (int i = 0; i < CALLS; i++) {
+            String data = openApiClient.executeAsResult(request, String.class);
+            assertEquals("ok", data);
+        }
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getQuery();
+        byte[] content = RESULT.getBytes(UTF_8);
+        int statusCode = 200;
+        int index = path.indexOf("/error/");
+        if (index > -1) {
+            statusCode = Integer.parseInt(path.substring(index + 7));
+        } else if (query != null && query.contains("dataId=absent")) {
+            statusCode = 404;
+        } else if (path.endsWith("/echo")) {
+            Headers headers = exchange.getRequestHeaders();
+            String echo = headers.getFirst("Content-Type") + "|" + headers.getFirst("Transfer-Encoding") + "|" +
+                    readAsString(exchange.getRequestBody(), "UTF-8");
+            content = RESULT.replace("\"ok\"", "\"" + echo + "\"").getBytes(UTF_8);
+        }
+        // The zero length indicates the chunked transfer encoding
+        long length = path.endsWith("/chunked") ? 0 : content.length;
+        exchange.sendResponseHeaders(statusCode, length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(content);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.util;
+
+import org.junit.jupiter.api.Test;
+
+import static io.microsphere.nacos.client.util.DigestUtils.md5Hex;
+import static io.microsphere.nacos.client.util.DigestUtils.toHex;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link DigestUtils} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see DigestUtils
+ * @since 1.0.0
+ */
+public class DigestUtilsTest {
+
+    @Test
+    public void testMd5Hex() {
+        assertNull(md5Hex((String) null));
+        assertNull(md5Hex((byte[]) null));
+        assertEquals("d41d8cd98f00b204e9800998ecf8427e", md5Hex(""));
+        assertEquals("5eb63bbbe01eeed093cb22bb8f5acdc3", md5Hex("hello world"));
+        // The content is encoded in UTF-8
+        assertEquals(md5Hex("\u4f60\u597d".getBytes(UTF_8)), md5Hex("\u4f60\u597d"));
+    }
+
+    @Test
+    public void testToHex() {
+        assertEquals("", toHex(new byte[0]));
+        assertEquals("00ff7f80", toHex(new byte[]{0, -1, 127, -128}));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.util;
+
+import io.microsphere.nacos.client.transport.OpenApiClientException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import static io.microsphere.nacos.client.ErrorCode.CLIENT_ERROR;
+import static io.microsphere.nacos.client.util.FutureUtils.await;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link FutureUtils} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see FutureUtils
+ * @since 1.0.0
+ */
+public class FutureUtilsTest {
+
+    @Test
+    public void testAwait() {
+        assertEquals("OK", await(completedFuture("OK")));
+    }
+
+    @Test
+    public void testAwaitOnFailure() {
+        IllegalStateException runtimeException = new IllegalStateException("For testing");
+        assertSame(runtimeException, assertThrows(IllegalStateException.class, () -> await(failedFuture(runtimeException))));
+
+        IOException checkedException = new IOException("For testing");
+        OpenApiClientException e = assertThrows(OpenApiClientException.class, () -> await(failedFuture(checkedException)));
+        assertEquals(CLIENT_ERROR, e.getErrorCode());
+        assertSame(checkedException, e.getCause());
+    }
+
+    @Test
+    public void testAwaitOnInterrupted() {
+        Thread.currentThread().interrupt();
+        try {
+            OpenApiClientException e = assertThrows(OpenApiClientException.class, () -> await(new CompletableFuture<>()));
+            assertEquals(CLIENT_ERROR, e.getErrorCode());
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private static Future<String> failedFuture(Throwable failure) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        future.completeExceptionally(failure);
+        return future;
+    }
+}
@@ -19,16 +19,20 @@ package io.microsphere.nacos.client.util;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static io.microsphere.nacos.client.util.IOUtils.DEFAULT_BUFFER_SIZE;
 import static io.microsphere.nacos.client.util.IOUtils.DEFAULT_BUFFER_SIZE_PROPERTY_NAME;
 import static io.microsphere.nacos.client.util.IOUtils.EMPTY_BYTE_ARRAY;
 import static io.microsphere.nacos.client.util.IOUtils.MAX_BUFFER_SIZE;
+import static io.microsphere.nacos.client.util.IOUtils.closeQuietly;
 import static io.microsphere.nacos.client.util.IOUtils.readAsBytes;
 import static io.microsphere.nacos.client.util.IOUtils.readAsString;
 import static io.microsphere.nacos.client.util.StringUtils.EMPTY_STRING;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@link IOUtils} Test
@@ -72,4 +76,15 @@ public class IOUtilsTest {
         assertEquals(EMPTY_STRING, readAsString(null, ENCODING));
         assertEquals(ENCODING, readAsString(new ByteArrayInputStream(TEST_BYTES), ENCODING));
     }
+
+    @Test
+    public void testCloseQuietly() {
+        closeQuietly(null);
+        AtomicBoolean closed = new AtomicBoolean();
+        closeQuietly(() -> closed.set(true));
+        assertTrue(closed.get());
+        closeQuietly(() -> {
+            throw new IOException("For testing");
+        });
+    }
 }
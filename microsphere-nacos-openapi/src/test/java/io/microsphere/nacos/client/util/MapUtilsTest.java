@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.microsphere.nacos.client.util.MapUtils.MAX_ARRAY_MAP_SIZE;
+import static io.microsphere.nacos.client.util.MapUtils.immutableMap;
+import static io.microsphere.nacos.client.util.MapUtils.ofMap;
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MapUtils} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see MapUtils
+ * @since 1.0.0
+ */
+public class MapUtilsTest {
+
+    @Test
+    public void testOfMap() {
+        assertSame(emptyMap(), ofMap());
+        assertThrows(IllegalArgumentException.class, () -> ofMap("a"));
+
+        Map<String, Object> map = ofMap("a", "1", "b", 2, "c", null);
+        assertEquals(ArrayMap.class, map.getClass());
+        assertEquals(3, map.size());
+        assertEquals("1", map.get("a"));
+        assertEquals(2, map.get("b"));
+        assertNull(map.get("c"));
+        assertTrue(map.containsKey("c"));
+        assertFalse(map.containsKey("d"));
+        assertThrows(UnsupportedOperationException.class, () -> map.put("d", "4"));
+
+        Map<String, Object> hashMap = new HashMap<>();
+        hashMap.put("a", "1");
+        hashMap.put("b", 2);
+        hashMap.put("c", null);
+        assertEquals(hashMap, map);
+        assertEquals(map, hashMap);
+        assertEquals(hashMap.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void testImmutableMap() {
+        assertNull(immutableMap(null));
+        assertSame(emptyMap(), immutableMap(new HashMap<>()));
+
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < MAX_ARRAY_MAP_SIZE; i++) {
+            map.put("key-" + i, "value-" + i);
+        }
+        Map<String, String> immutableMap = immutableMap(map);
+        assertEquals(ArrayMap.class, immutableMap.getClass());
+        assertEquals(map, immutableMap);
+        assertSame(immutableMap, immutableMap(immutableMap));
+
+        map.put("key-" + MAX_ARRAY_MAP_SIZE, "value");
+        immutableMap = immutableMap(map);
+        assertFalse(immutableMap instanceof ArrayMap);
+        assertEquals(map, immutableMap);
+        assertThrows(UnsupportedOperationException.class, () -> immutableMap(map).clear());
+    }
+}
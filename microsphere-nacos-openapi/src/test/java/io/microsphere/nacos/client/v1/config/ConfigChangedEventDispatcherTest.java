@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.v1.config;
+
+import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.common.config.event.CoalescingConfigChangedListener;
+import io.microsphere.nacos.client.common.config.event.ConfigChangedEvent;
+import io.microsphere.nacos.client.common.config.event.ConfigChangedListener;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.v1.config.ConfigChangedEventDispatcher.DispatchingListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.ofCreated;
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.ofDeleted;
+import static io.microsphere.nacos.client.common.config.event.ConfigChangedEvent.ofModified;
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConfigChangedEventDispatcher} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigChangedEventDispatcher
+ * @since 1.0.0
+ */
+public class ConfigChangedEventDispatcherTest {
+
+    private static final int CONFIGS = 8;
+
+    private static final int EVENTS = 100;
+
+    private static final long TIMEOUT = 5000;
+
+    @Test
+    public void testDispatchInOrder() throws Exception {
+        ConfigChangedEventDispatcher dispatcher = newDispatcher(4, 0, 1);
+        try {
+            Map<String, List<String>> contents = new ConcurrentHashMap<>();
+            CountDownLatch latch = new CountDownLatch(CONFIGS * EVENTS);
+            DispatchingListener[] listeners = listeners(event -> {
+                contents.computeIfAbsent(event.getDataId(), dataId -> synchronizedList(new ArrayList<>()))
+                        .add(event.getContent());
+                latch.countDown();
+            });
+            List<Executor> serialExecutors = new ArrayList<>();
+            for (int i = 0; i < CONFIGS; i++) {
+                serialExecutors.add(dispatcher.newSerialExecutor());
+            }
+            for (int n = 0; n < EVENTS; n++) {
+                for (int i = 0; i < CONFIGS; i++) {
+                    dispatcher.dispatch(serialExecutors.get(i), listeners, ofCreated(config("config-" + i, "v" + n)));
+                }
+            }
+            assertTrue(latch.await(TIMEOUT, MILLISECONDS));
+
+            // The events of every config are received in order
+            for (int i = 0; i < CONFIGS; i++) {
+                List<String> configContents = contents.get("config-" + i);
+                assertEquals(EVENTS, configContents.size());
+                for (int n = 0; n < EVENTS; n++) {
+                    assertEquals("v" + n, configContents.get(n));
+                }
+            }
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testDispatchConcurrently() throws Exception {
+        ConfigChangedEventDispatcher dispatcher = newDispatcher(2, 0, 1);
+        try {
+            // The listener of a config waits for the one of another config
+            CountDownLatch latch = new CountDownLatch(1);
+            CountDownLatch completed = new CountDownLatch(1);
+            dispatcher.dispatch(dispatcher.newSerialExecutor(), listeners(event -> {
+                if (awaitUninterruptibly(latch)) {
+                    completed.countDown();
+                }
+            }), ofCreated(config("config-0", "v0")));
+            dispatcher.dispatch(dispatcher.newSerialExecutor(), listeners(event -> latch.countDown()),
+                    ofCreated(config("config-1", "v0")));
+            assertTrue(completed.await(TIMEOUT, MILLISECONDS));
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testTimeoutThenIsolation() throws Exception {
+        // The single thread is shared by all configs
+        ConfigChangedEventDispatcher dispatcher = newDispatcher(1, 100, 2);
+        try {
+            CountDownLatch interrupted = new CountDownLatch(2);
+            CountDownLatch released = new CountDownLatch(1);
+            CountDownLatch completed = new CountDownLatch(1);
+            DispatchingListener[] slowListeners = listeners(event -> {
+                if ("blocking".equals(event.getContent())) {
+                    try {
+                        Thread.sleep(SECONDS.toMillis(10));
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                } else if (awaitUninterruptibly(released)) {
+                    // Ignore the interruption, wait for the listener of another config
+                    completed.countDown();
+                }
+            });
+            Executor slowSerialExecutor = dispatcher.newSerialExecutor();
+
+            // The listener is interrupted on timeout, then isolated after the consecutive timeouts
+            dispatcher.dispatch(slowSerialExecutor, slowListeners, ofCreated(config("slow", "blocking")));
+            dispatcher.dispatch(slowSerialExecutor, slowListeners, ofCreated(config("slow", "blocking")));
+            assertTrue(interrupted.await(TIMEOUT, MILLISECONDS));
+
+            // The isolated listener does not hold the shared thread anymore
+            dispatcher.dispatch(slowSerialExecutor, slowListeners, ofCreated(config("slow", "isolated")));
+            dispatcher.dispatch(dispatcher.newSerialExecutor(), listeners(event -> released.countDown()),
+                    ofCreated(config("fast", "v0")));
+            assertTrue(released.await(TIMEOUT, MILLISECONDS));
+            assertTrue(completed.await(TIMEOUT, MILLISECONDS));
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testIsolationCoalescedThenRestored() throws Exception {
+        ConfigChangedEventDispatcher dispatcher = newDispatcher(1, 100, 2);
+        try {
+            CountDownLatch interrupted = new CountDownLatch(2);
+            CountDownLatch holding = new CountDownLatch(1);
+            CountDownLatch released = new CountDownLatch(1);
+            BlockingQueue<String> contents = new LinkedBlockingQueue<>();
+            BlockingQueue<String> threadNames = new LinkedBlockingQueue<>();
+            DispatchingListener[] listeners = listeners(event -> {
+                String content = event.getContent();
+                if ("blocking".equals(content)) {
+                    try {
+                        Thread.sleep(SECONDS.toMillis(10));
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return;
+                }
+                if ("holding".equals(content)) {
+                    holding.countDown();
+                    awaitUninterruptibly(released);
+                }
+                contents.add(content);
+                threadNames.add(Thread.currentThread().getName());
+            });
+            Executor serialExecutor = dispatcher.newSerialExecutor();
+
+            // Isolated after the consecutive timeouts
+            dispatcher.dispatch(serialExecutor, listeners, ofCreated(config("test", "blocking")));
+            dispatcher.dispatch(serialExecutor, listeners, ofCreated(config("test", "blocking")));
+            assertTrue(interrupted.await(TIMEOUT, MILLISECONDS));
+
+            // The events to the busy isolated listener are coalesced into the latest one
+            dispatcher.dispatch(serialExecutor, listeners, ofCreated(config("test", "holding")));
+            assertTrue(holding.await(TIMEOUT, MILLISECONDS));
+            for (int i = 1; i <= EVENTS; i++) {
+                dispatcher.dispatch(serialExecutor, listeners,
+                        ofModified(config("test", "v" + (i - 1)), config("test", "v" + i)));
+            }
+            // Let the holding invocation time out to keep the listener isolated
+            Thread.sleep(200);
+            released.countDown();
+            assertEquals("holding", contents.poll(TIMEOUT, MILLISECONDS));
+            assertEquals("v" + EVENTS, contents.poll(TIMEOUT, MILLISECONDS));
+            assertNull(contents.poll(300, MILLISECONDS));
+            assertTrue(threadNames.poll(TIMEOUT, MILLISECONDS).contains("(Isolated)"));
+            assertTrue(threadNames.poll(TIMEOUT, MILLISECONDS).contains("(Isolated)"));
+
+            // Restored after the consecutive invocations completed in time
+            dispatcher.dispatch(serialExecutor, listeners, ofModified(config("test", "v100"), config("test", "w1")));
+            assertEquals("w1", contents.poll(TIMEOUT, MILLISECONDS));
+            assertTrue(threadNames.poll(TIMEOUT, MILLISECONDS).contains("(Isolated)"));
+            Thread.sleep(100);
+            dispatcher.dispatch(serialExecutor, listeners, ofModified(config("test", "w1"), config("test", "w2")));
+            assertEquals("w2", contents.poll(TIMEOUT, MILLISECONDS));
+            assertFalse(threadNames.poll(TIMEOUT, MILLISECONDS).contains("(Isolated)"));
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testCoalescingFlush() throws Exception {
+        ConfigChangedEventDispatcher dispatcher = newDispatcher(1, 0, 1);
+        try {
+            BlockingQueue<ConfigChangedEvent> events = new LinkedBlockingQueue<>();
+            DispatchingListener[] listeners = listeners(new CoalescingConfigChangedListener(events::add, 100, 1000));
+            Executor serialExecutor = dispatcher.newSerialExecutor();
+
+            // The successive changes are coalesced into one when the window is quiet
+            dispatcher.dispatch(serialExecutor, listeners, ofCreated(config("test", "v1")));
+            dispatcher.dispatch(serialExecutor, listeners, ofModified(config("test", "v1"), config("test", "v2")));
+            dispatcher.dispatch(serialExecutor, listeners, ofModified(config("test", "v2"), config("test", "v3")));
+            ConfigChangedEvent event = events.poll(TIMEOUT, MILLISECONDS);
+            assertTrue(event.isCreated());
+            assertEquals("v3", event.getContent());
+
+            // The creation and the deletion cancel each other out
+            dispatcher.dispatch(serialExecutor, listeners, ofCreated(config("other", "v1")));
+            dispatcher.dispatch(serialExecutor, listeners, ofDeleted(config("other", "v1")));
+            assertNull(events.poll(300, MILLISECONDS));
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    public void testCoalescingFlushOnMaxDelay() throws Exception {
+        ConfigChangedEventDispatcher dispatcher = newDispatcher(1, 0, 1);
+        try {
+            BlockingQueue<ConfigChangedEvent> events = new LinkedBlockingQueue<>();
+            DispatchingListener[] listeners = listeners(new CoalescingConfigChangedListener(events::add, 100, 200));
+            Executor serialExecutor = dispatcher.newSerialExecutor();
+
+            // The window is never quiet, the held events are flushed on the maximum delay
+            for (int n = 1; n <= 20; n++) {
+                dispatcher.dispatch(serialExecutor, listeners, ofModified(config("test", "v" + (n - 1)),
+                        config("test", "v" + n)));
+                Thread.sleep(30);
+            }
+            assertTrue(events.size() >= 2);
+
+            // The coalesced events are contiguous
+            String content = "v0";
+            while (!"v20".equals(content)) {
+                ConfigChangedEvent event = events.poll(TIMEOUT, MILLISECONDS);
+                assertTrue(event.isModified());
+                assertEquals(content, event.getPrevious().getContent());
+                content = event.getContent();
+            }
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    private static ConfigChangedEventDispatcher newDispatcher(int parallelism, int eventProcessingTimeout,
+                                                              int eventProcessingMaxTimeouts) {
+        NacosClientConfig nacosClientConfig = new NacosClientConfig();
+        nacosClientConfig.setPublishingConfigEventParallelism(parallelism);
+        nacosClientConfig.setEventProcessingTimeout(eventProcessingTimeout);
+        nacosClientConfig.setEventProcessingMaxTimeouts(eventProcessingMaxTimeouts);
+        return new ConfigChangedEventDispatcher(nacosClientConfig);
+    }
+
+    private static DispatchingListener[] listeners(ConfigChangedListener listener) {
+        return new DispatchingListener[]{new DispatchingListener(listener, null)};
+    }
+
+    /**
+     * Wait for the latch regardless of the interruptions by the timeouts
+     */
+    private static boolean awaitUninterruptibly(CountDownLatch latch) {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (true) {
+            try {
+                return latch.await(deadline - System.currentTimeMillis(), MILLISECONDS);
+            } catch (InterruptedException e) {
+                // Interrupted on timeout
+            }
+        }
+    }
+
+    private static Config config(String dataId, String content) {
+        Config config = new Config();
+        config.setGroup("test-group");
+        config.setDataId(dataId);
+        config.setContent(content);
+        config.setMd5(content);
+        return config;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.v1.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
+
+import static io.microsphere.nacos.client.util.DigestUtils.md5Hex;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link ConfigContentRequestBody} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigContentRequestBody
+ * @since 1.0.0
+ */
+public class ConfigContentRequestBodyTest {
+
+    @Test
+    public void test() throws Exception {
+        StringBuilder contentBuilder = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            contentBuilder.append("key.").append(i).append(" = value-*_~ &%+/\u4f60\u597d\n");
+        }
+        String content = contentBuilder.toString();
+        ConfigContentRequestBody body = new ConfigContentRequestBody(new ByteArrayInputStream(content.getBytes(UTF_8)));
+        assertNull(body.getMd5());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+        assertEquals("content=" + URLEncoder.encode(content, "UTF-8"), new String(outputStream.toByteArray(), UTF_8));
+        assertEquals(md5Hex(content), body.getMd5());
+        assertNull(body.getReadFailure());
+    }
+
+    @Test
+    public void testReadFailure() {
+        IOException failure = new IOException("broken");
+        ConfigContentRequestBody body = new ConfigContentRequestBody(new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw failure;
+            }
+        });
+        assertSame(failure, assertThrows(IOException.class, () -> body.writeTo(new ByteArrayOutputStream())));
+        assertSame(failure, body.getReadFailure());
+        assertNull(body.getMd5());
+    }
+}
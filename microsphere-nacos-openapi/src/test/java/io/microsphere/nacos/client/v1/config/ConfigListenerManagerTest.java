@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.v1.config;
+
+import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.common.config.event.ConfigChangedEvent;
+import io.microsphere.nacos.client.common.config.event.ConfigChangedListener;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import io.microsphere.nacos.client.common.config.model.NewConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.microsphere.nacos.client.constants.Constants.DEFAULT_GROUP_NAME;
+import static io.microsphere.nacos.client.constants.Constants.DEFAULT_NAMESPACE_ID;
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConfigListenerManager} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigListenerManager
+ * @since 1.0.0
+ */
+public class ConfigListenerManagerTest {
+
+    private static final String GROUP = "test-group";
+
+    private static final int LISTENING_CONFIGS_PER_TASK = 2;
+
+    private static final int CONFIGS = 32;
+
+    private static final int THREADS = 8;
+
+    private CountingConfigClient configClient;
+
+    @BeforeEach
+    public void init() {
+        NacosClientConfig nacosClientConfig = new NacosClientConfig();
+        nacosClientConfig.setListeningConfigsPerTask(LISTENING_CONFIGS_PER_TASK);
+        nacosClientConfig.setLongPollingTimeout(200);
+        configClient = new CountingConfigClient(nacosClientConfig);
+        for (int i = 0; i < CONFIGS; i++) {
+            configClient.publishConfigContent(GROUP, dataId(i), "v1");
+        }
+    }
+
+    @AfterEach
+    public void destroy() {
+        configClient.close();
+    }
+
+    @Test
+    public void testConcurrentRegistrationAcrossShards() throws Exception {
+        // The configs of even indexes are kept listening, the others are added and removed repeatedly,
+        // thus the shards are started and retired concurrently with the registrations
+        Map<String, String> contents = new ConcurrentHashMap<>();
+        CountDownLatch modifiedLatch = new CountDownLatch(CONFIGS / 2);
+        ConfigChangedListener listener = event -> {
+            if (event.isModified() && contents.put(event.getDataId(), event.getContent()) == null) {
+                modifiedLatch.countDown();
+            }
+        };
+        ExecutorService executor = newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = thread * 2; i < CONFIGS; i += THREADS * 2) {
+                        for (int n = 0; n < 100; n++) {
+                            String churningDataId = dataId(random.nextInt(CONFIGS / 2) * 2 + 1);
+                            ConfigChangedListener churningListener = event -> {
+                            };
+                            configClient.addEventListener(GROUP, churningDataId, churningListener);
+                            configClient.removeEventListener(GROUP, churningDataId, churningListener);
+                        }
+                        configClient.addEventListener(GROUP, dataId(i), listener);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Every listening config is still listened by a running shard
+        for (int i = 0; i < CONFIGS; i += 2) {
+            configClient.publishConfigContent(GROUP, dataId(i), "v2");
+        }
+        modifiedLatch.await(5, SECONDS);
+        assertEquals(CONFIGS / 2, contents.size());
+        contents.values().forEach(content -> assertEquals("v2", content));
+    }
+
+    @Test
+    public void testDefaultGroup() throws Exception {
+        BlockingQueue<ConfigChangedEvent> events = new LinkedBlockingQueue<>();
+        ConfigChangedListener listener = events::add;
+        String dataId = dataId(CONFIGS);
+        configClient.publishConfigContent(null, null, dataId, "v1");
+        // The blank group is listened as the default group
+        configClient.addEventListener(null, null, dataId, listener);
+
+        configClient.publishConfigContent("", DEFAULT_GROUP_NAME, dataId, "v2");
+        ConfigChangedEvent event = events.poll(5, SECONDS);
+        assertNotNull(event);
+        assertTrue(event.isModified());
+        assertEquals(DEFAULT_GROUP_NAME, event.getGroup());
+        assertEquals("v2", event.getContent());
+
+        // The listener is removed by the equivalent key
+        configClient.removeEventListener("", DEFAULT_GROUP_NAME, dataId, listener);
+        configClient.publishConfigContent(null, "", dataId, "v3");
+        assertNull(events.poll(500, MILLISECONDS));
+    }
+
+    @Test
+    public void testContinuousLongPolling() throws Exception {
+        NacosClientConfig nacosClientConfig = new NacosClientConfig();
+        nacosClientConfig.setLongPollingTimeout(30000);
+        try (InMemoryConfigClient client = new InMemoryConfigClient(nacosClientConfig)) {
+            BlockingQueue<ConfigChangedEvent> events = new LinkedBlockingQueue<>();
+            client.publishConfigContent(GROUP, "polling", "v0");
+            client.addEventListener(GROUP, "polling", events::add);
+            // The next long polling is issued as soon as the previous one returned rather than the timeout
+            for (int n = 1; n <= 5; n++) {
+                client.publishConfigContent(GROUP, "polling", "v" + n);
+                ConfigChangedEvent event = events.poll(2, SECONDS);
+                assertNotNull(event);
+                assertEquals("v" + n, event.getContent());
+            }
+        }
+    }
+
+    @Test
+    public void testBulkRegistrationAndChanges() throws Exception {
+        configClient.fetchDelay = 20;
+        List<ConfigKey> configKeys = new ArrayList<>();
+        for (int i = 0; i < CONFIGS; i++) {
+            configKeys.add(ConfigKey.of(DEFAULT_NAMESPACE_ID, GROUP, dataId(i)));
+        }
+        Map<String, List<ConfigChangedEvent>> events = new ConcurrentHashMap<>();
+        CountDownLatch latch = new CountDownLatch(CONFIGS);
+        configClient.fetchCount.set(0);
+        configClient.addEventListeners(configKeys, event -> {
+            events.computeIfAbsent(event.getDataId(), dataId -> synchronizedList(new ArrayList<>())).add(event);
+            if ("v3".equals(event.getContent())) {
+                latch.countDown();
+            }
+        });
+        // The initial configs are fetched concurrently without any event
+        assertEquals(CONFIGS, configClient.fetchCount.get());
+        assertTrue(configClient.maxConcurrentFetches.get() > 1);
+        assertTrue(events.isEmpty());
+
+        // The changed configs are fetched concurrently, the events of every config are fired in order
+        configClient.maxConcurrentFetches.set(0);
+        for (int i = 0; i < CONFIGS; i++) {
+            // Published without fetching
+            configClient.publishConfig(newConfig(dataId(i), "v2"));
+            configClient.publishConfig(newConfig(dataId(i), "v3"));
+        }
+        assertTrue(latch.await(5, SECONDS));
+        assertTrue(configClient.maxConcurrentFetches.get() > 1);
+        for (int i = 0; i < CONFIGS; i++) {
+            String content = "v1";
+            for (ConfigChangedEvent event : events.get(dataId(i))) {
+                assertTrue(event.isModified());
+                assertEquals(content, event.getPrevious().getContent());
+                content = event.getContent();
+            }
+            assertEquals("v3", content);
+        }
+    }
+
+    @Test
+    public void testAbsentConfig() throws Exception {
+        BlockingQueue<ConfigChangedEvent> events = new LinkedBlockingQueue<>();
+        configClient.addEventListener(GROUP, "absent", events::add);
+
+        // The absent config is fetched with the backoff rather than spinning
+        configClient.fetchCount.set(0);
+        assertNull(events.poll(1, SECONDS));
+        assertTrue(configClient.fetchCount.get() < 20);
+
+        configClient.publishConfigContent(GROUP, "absent", "v1");
+        ConfigChangedEvent event = events.poll(5, SECONDS);
+        assertNotNull(event);
+        assertTrue(event.isCreated());
+        assertEquals("v1", event.getContent());
+    }
+
+    @Test
+    public void testSharedListening() throws Exception {
+        String fetchingThreadName = "shared-fetching-" + System.nanoTime();
+        NacosClientConfig nacosClientConfig = new NacosClientConfig();
+        nacosClientConfig.setLongPollingTimeout(200);
+        nacosClientConfig.setFetchingConfigThreadName(fetchingThreadName);
+        InMemoryConfigClient client = new InMemoryConfigClient(nacosClientConfig);
+        InMemoryConfigClient sharedClient = client.newSharedClient();
+        try {
+            client.publishConfigContent(GROUP, "shared", "v1");
+            // The threads are started on the first listener
+            assertEquals(0, countThreads(fetchingThreadName));
+
+            BlockingQueue<ConfigChangedEvent> events = new LinkedBlockingQueue<>();
+            BlockingQueue<ConfigChangedEvent> sharedEvents = new LinkedBlockingQueue<>();
+            client.addEventListener(GROUP, "shared", events::add);
+            sharedClient.addEventListener(GROUP, "shared", sharedEvents::add);
+            // The threads are shared by the clients of the same server
+            assertEquals(1, countThreads(fetchingThreadName));
+
+            client.publishConfigContent(GROUP, "shared", "v2");
+            assertEquals("v2", events.poll(5, SECONDS).getContent());
+            assertEquals("v2", sharedEvents.poll(5, SECONDS).getContent());
+
+            // The listeners of the closed client are removed, the other one keeps listening
+            client.close();
+            sharedClient.publishConfigContent(GROUP, "shared", "v3");
+            assertEquals("v3", sharedEvents.poll(5, SECONDS).getContent());
+            assertNull(events.poll(500, MILLISECONDS));
+        } finally {
+            client.close();
+            sharedClient.close();
+        }
+        // The threads are stopped after the last client was closed
+        long deadline = System.currentTimeMillis() + 5000;
+        while (countThreads(fetchingThreadName) > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, countThreads(fetchingThreadName));
+    }
+
+    @Test
+    public void testListeningSettingsNotShared() throws Exception {
+        String fetchingThreadName = "fetching-" + System.nanoTime();
+        String otherFetchingThreadName = "other-fetching-" + System.nanoTime();
+        NacosClientConfig nacosClientConfig = new NacosClientConfig();
+        nacosClientConfig.setLongPollingTimeout(200);
+        nacosClientConfig.setFetchingConfigThreadName(fetchingThreadName);
+        NacosClientConfig otherNacosClientConfig = new NacosClientConfig();
+        otherNacosClientConfig.setLongPollingTimeout(200);
+        otherNacosClientConfig.setFetchingConfigThreadName(otherFetchingThreadName);
+        try (InMemoryConfigClient client = new InMemoryConfigClient(nacosClientConfig);
+             InMemoryConfigClient otherClient = client.newSharedClient(otherNacosClientConfig)) {
+            client.publishConfigContent(GROUP, "settings", "v1");
+
+            BlockingQueue<ConfigChangedEvent> events = new LinkedBlockingQueue<>();
+            BlockingQueue<ConfigChangedEvent> otherEvents = new LinkedBlockingQueue<>();
+            client.addEventListener(GROUP, "settings", events::add);
+            otherClient.addEventListener(GROUP, "settings", otherEvents::add);
+            // The clients of the same server with the different settings have their own threads
+            assertEquals(1, countThreads(fetchingThreadName));
+            assertEquals(1, countThreads(otherFetchingThreadName));
+
+            client.publishConfigContent(GROUP, "settings", "v2");
+            assertEquals("v2", events.poll(5, SECONDS).getContent());
+            assertEquals("v2", otherEvents.poll(5, SECONDS).getContent());
+        }
+    }
+
+    private static int countThreads(String threadName) {
+        int count = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (threadName.equals(thread.getName()) && thread.isAlive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static NewConfig newConfig(String dataId, String content) {
+        NewConfig newConfig = new NewConfig();
+        newConfig.setNamespaceId(DEFAULT_NAMESPACE_ID);
+        newConfig.setGroup(GROUP);
+        newConfig.setDataId(dataId);
+        newConfig.setContent(content);
+        return newConfig;
+    }
+
+    private static String dataId(int index) {
+        return "config-" + index;
+    }
+
+    /**
+     * The {@link InMemoryConfigClient} counts the fetches of configs
+     */
+    static class CountingConfigClient extends InMemoryConfigClient {
+
+        private final AtomicInteger fetchCount = new AtomicInteger();
+
+        private final AtomicInteger concurrentFetches = new AtomicInteger();
+
+        private final AtomicInteger maxConcurrentFetches = new AtomicInteger();
+
+        private volatile long fetchDelay;
+
+        CountingConfigClient(NacosClientConfig nacosClientConfig) {
+            super(nacosClientConfig);
+        }
+
+        @Override
+        protected Config doGetConfig(String namespaceId, String group, String dataId) {
+            fetchCount.incrementAndGet();
+            maxConcurrentFetches.accumulateAndGet(concurrentFetches.incrementAndGet(), Math::max);
+            try {
+                if (fetchDelay > 0) {
+                    Thread.sleep(fetchDelay);
+                }
+                return super.doGetConfig(namespaceId, group, dataId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } finally {
+                concurrentFetches.decrementAndGet();
+            }
+        }
+    }
+}
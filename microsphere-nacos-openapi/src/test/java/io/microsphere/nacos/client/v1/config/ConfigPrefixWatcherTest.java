@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.v1.config;
+
+import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.common.config.event.ConfigChangedEvent;
+import io.microsphere.nacos.client.common.config.event.ConfigChangedListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static io.microsphere.nacos.client.constants.Constants.DEFAULT_NAMESPACE_ID;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * {@link ConfigPrefixWatcher} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigPrefixWatcher
+ * @since 1.0.0
+ */
+public class ConfigPrefixWatcherTest {
+
+    private static final String GROUP = "test-group";
+
+    private InMemoryConfigClient configClient;
+
+    @BeforeEach
+    public void init() {
+        NacosClientConfig nacosClientConfig = new NacosClientConfig();
+        nacosClientConfig.setConfigDiscoveryInterval(100);
+        nacosClientConfig.setLongPollingTimeout(200);
+        configClient = new InMemoryConfigClient(nacosClientConfig);
+    }
+
+    @AfterEach
+    public void destroy() {
+        configClient.close();
+    }
+
+    @Test
+    public void testOverlappedWatches() throws Exception {
+        configClient.publishConfigContent(GROUP, "app.a", "v1");
+        BlockingQueue<ConfigChangedEvent> events = new LinkedBlockingQueue<>();
+        ConfigChangedListener listener = events::add;
+
+        // The same listener is added by the overlapped watches and directly
+        configClient.addPrefixEventListener(DEFAULT_NAMESPACE_ID, GROUP, "app.", listener);
+        configClient.addPrefixEventListener(DEFAULT_NAMESPACE_ID, GROUP, "app.a", listener);
+        configClient.addEventListener(GROUP, "app.a", listener);
+        configClient.addEventListener(GROUP, "app.a", listener);
+        assertChanged(events, "v2");
+
+        // The listeners of the other watch and the direct one are kept
+        configClient.removePrefixEventListener(DEFAULT_NAMESPACE_ID, GROUP, "app.", listener);
+        assertChanged(events, "v3");
+
+        configClient.removePrefixEventListener(DEFAULT_NAMESPACE_ID, GROUP, "app.a", listener);
+        assertChanged(events, "v4");
+
+        configClient.removeEventListener(GROUP, "app.a", listener);
+        configClient.publishConfigContent(GROUP, "app.a", "v5");
+        assertNull(events.poll(500, MILLISECONDS));
+    }
+
+    /**
+     * Modify the config, the listener is notified once
+     */
+    private void assertChanged(BlockingQueue<ConfigChangedEvent> events, String content) throws InterruptedException {
+        configClient.publishConfigContent(GROUP, "app.a", content);
+        assertEquals(content, events.poll(5, SECONDS).getContent());
+        assertNull(events.poll(500, MILLISECONDS));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.v1.config;
+
+import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import io.microsphere.nacos.client.io.DefaultDeserializer;
+import io.microsphere.nacos.client.io.DefaultSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static io.microsphere.nacos.client.common.config.ConfigType.YAML;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConfigSnapshotRepository} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigSnapshotRepository
+ * @since 1.0.0
+ */
+public class ConfigSnapshotRepositoryTest {
+
+    @Test
+    public void test() throws Exception {
+        Path directory = Files.createTempDirectory("config-snapshots");
+        ConfigSnapshotRepository repository = newRepository(directory);
+        ConfigKey configKey = ConfigKey.of("test-ns", "DEFAULT_GROUP", "../test.yaml");
+
+        assertNull(repository.load(configKey));
+
+        Config config = new Config();
+        config.setNamespaceId("test-ns");
+        config.setDataId("../test.yaml");
+        config.setGroup("DEFAULT_GROUP");
+        config.setMd5("md5");
+        config.setContent("Hello,World");
+        config.setType(YAML);
+        config.setTags(new HashSet<>(Arrays.asList("a", "b")));
+        config.setDescription("test");
+        config.setLastModifiedTime(1L);
+        repository.save(configKey, config);
+
+        // The snapshot is stored under the directory as JSON
+        Path file = directory.resolve("test-ns").resolve("DEFAULT_GROUP").resolve("%2E%2E%2Ftest%2Eyaml.snapshot");
+        assertTrue(Files.exists(file));
+        String json = new String(Files.readAllBytes(file), UTF_8);
+        assertTrue(json.startsWith("{"));
+        assertTrue(json.contains("\"content\":\"Hello,World\""));
+
+        Config snapshot = newRepository(directory).load(configKey);
+        assertEquals("test-ns", snapshot.getNamespaceId());
+        assertEquals("DEFAULT_GROUP", snapshot.getGroup());
+        assertEquals("../test.yaml", snapshot.getDataId());
+        assertEquals("md5", snapshot.getMd5());
+        assertEquals("Hello,World", snapshot.getContent());
+        assertEquals(YAML, snapshot.getType());
+        assertEquals(config.getTags(), snapshot.getTags());
+        assertEquals("test", snapshot.getDescription());
+        assertEquals(1L, snapshot.getLastModifiedTime().longValue());
+
+        repository.delete(configKey);
+        assertNull(repository.load(configKey));
+    }
+
+    @Test
+    public void testLoadUnreadableSnapshot() throws Exception {
+        Path directory = Files.createTempDirectory("config-snapshots");
+        ConfigSnapshotRepository repository = newRepository(directory);
+        ConfigKey configKey = ConfigKey.of("test-ns", "DEFAULT_GROUP", "test.yaml");
+        Path file = directory.resolve("test-ns").resolve("DEFAULT_GROUP").resolve("test%2Eyaml.snapshot");
+        Files.createDirectories(file.getParent());
+
+        // The Java serialization is not read
+        try (OutputStream outputStream = Files.newOutputStream(file);
+             ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(new Config());
+        }
+        assertNull(repository.load(configKey));
+
+        // The empty and broken ones are ignored
+        Files.write(file, new byte[0]);
+        assertNull(repository.load(configKey));
+        Files.write(file, "{\"content\":".getBytes(UTF_8));
+        assertNull(repository.load(configKey));
+    }
+
+    private static ConfigSnapshotRepository newRepository(Path directory) {
+        NacosClientConfig nacosClientConfig = new NacosClientConfig();
+        return new ConfigSnapshotRepository(directory, new DefaultSerializer(nacosClientConfig),
+                new DefaultDeserializer(nacosClientConfig));
+    }
+}
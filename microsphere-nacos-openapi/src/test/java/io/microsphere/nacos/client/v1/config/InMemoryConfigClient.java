@@ -0,0 +1,321 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.v1.config;
+
+import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.common.config.ConfigClient;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import io.microsphere.nacos.client.common.config.model.ConfigPage;
+import io.microsphere.nacos.client.common.config.model.NewConfig;
+import io.microsphere.nacos.client.common.model.Page;
+import io.microsphere.nacos.client.io.DefaultDeserializer;
+import io.microsphere.nacos.client.io.DefaultSerializer;
+import io.microsphere.nacos.client.io.Deserializer;
+import io.microsphere.nacos.client.io.Serializer;
+import io.microsphere.nacos.client.transport.OpenApiClient;
+import io.microsphere.nacos.client.transport.OpenApiClientException;
+import io.microsphere.nacos.client.transport.OpenApiRequest;
+import io.microsphere.nacos.client.transport.OpenApiResponse;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.microsphere.nacos.client.ErrorCode.CLIENT_ERROR;
+import static io.microsphere.nacos.client.constants.Constants.DEFAULT_ENCODING;
+import static io.microsphere.nacos.client.constants.Constants.DEFAULT_GROUP_NAME;
+import static io.microsphere.nacos.client.constants.Constants.LISTENING_CONFIG_FIELD_SEPARATOR_CHAR;
+import static io.microsphere.nacos.client.constants.Constants.LISTENING_CONFIG_SEPARATOR_CHAR;
+import static io.microsphere.nacos.client.transport.OpenApiRequestHeader.LONG_PULLING_TIMEOUT;
+import static io.microsphere.nacos.client.transport.OpenApiRequestHeader.LONG_PULLING_TIMEOUT_NO_HANGUP;
+import static io.microsphere.nacos.client.transport.OpenApiRequestParam.LISTENING_CONFIGS;
+import static io.microsphere.nacos.client.util.DigestUtils.md5Hex;
+import static io.microsphere.nacos.client.util.IOUtils.decode;
+import static io.microsphere.nacos.client.util.StringUtils.isBlank;
+import static io.microsphere.nacos.client.v1.config.util.ConfigUtil.buildConfigId;
+import static java.lang.Integer.parseInt;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.regex.Pattern.quote;
+
+/**
+ * The in-memory {@link ConfigClient} for testing, the I/O of {@link OpenApiConfigClient} is replaced by an in-memory
+ * store, thus its batch operations, listeners and prefix watches run as they are :
+ * <ul>
+ *     <li>The configs found by {@link #searchConfigs(String, String, String, boolean, int, int) search} carry no MD5
+ *     as the Nacos server's</li>
+ *     <li>The long polling of listeners is served by the store, which hangs up until any listened config is changed
+ *     or timeout</li>
+ * </ul>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see OpenApiConfigClient
+ * @since 1.0.0
+ */
+public class InMemoryConfigClient extends OpenApiConfigClient {
+
+    private static final AtomicInteger serverIndex = new AtomicInteger();
+
+    private final ConfigStore configStore;
+
+    public InMemoryConfigClient() {
+        this(new NacosClientConfig());
+    }
+
+    public InMemoryConfigClient(NacosClientConfig nacosClientConfig) {
+        this(new ConfigStore(), isolate(nacosClientConfig));
+    }
+
+    private InMemoryConfigClient(ConfigStore configStore, NacosClientConfig nacosClientConfig) {
+        super(configStore, nacosClientConfig);
+        this.configStore = configStore;
+    }
+
+    /**
+     * Create another client of the same store and server, which shares the listening threads with this one
+     *
+     * @return non-null
+     */
+    public InMemoryConfigClient newSharedClient() {
+        return new InMemoryConfigClient(this.configStore, getNacosClientConfig());
+    }
+
+    /**
+     * Create another client of the same store and server with the specified settings
+     *
+     * @param nacosClientConfig {@link NacosClientConfig}
+     * @return non-null
+     */
+    public InMemoryConfigClient newSharedClient(NacosClientConfig nacosClientConfig) {
+        nacosClientConfig.setServerAddress(getNacosClientConfig().getServerAddress());
+        return new InMemoryConfigClient(this.configStore, nacosClientConfig);
+    }
+
+    /**
+     * The listening threads are shared by the clients of the same server, thus every in-memory client has its own
+     */
+    private static NacosClientConfig isolate(NacosClientConfig nacosClientConfig) {
+        nacosClientConfig.setServerAddress("in-memory-" + serverIndex.incrementAndGet());
+        return nacosClientConfig;
+    }
+
+    @Override
+    public String getConfigContent(String namespaceId, String group, String dataId, String tag) {
+        Config config = this.configStore.get(namespaceId, group, dataId);
+        return config == null ? null : config.getContent();
+    }
+
+    @Override
+    protected Config doGetConfig(String namespaceId, String group, String dataId) {
+        return this.configStore.get(namespaceId, group, dataId);
+    }
+
+    @Override
+    public boolean publishConfig(NewConfig newConfig) {
+        this.configStore.put(newConfig);
+        return true;
+    }
+
+    @Override
+    public boolean deleteConfig(String namespaceId, String group, String dataId, String tag) {
+        this.configStore.remove(namespaceId, group, dataId);
+        return true;
+    }
+
+    @Override
+    public Page<Config> searchConfigs(String namespaceId, String group, String dataId, boolean blur, int pageNumber, int pageSize) {
+        return this.configStore.search(namespaceId, group, dataId, blur, pageNumber, pageSize);
+    }
+
+    /**
+     * The in-memory store of configs, which serves the long polling of listeners as the {@link OpenApiClient}
+     */
+    static class ConfigStore implements OpenApiClient {
+
+        /**
+         * The configs in the order of creation, guarded by this
+         */
+        private final Map<ConfigKey, Config> configs = new LinkedHashMap<>();
+
+        private final Serializer serializer = new DefaultSerializer(new NacosClientConfig());
+
+        private final Deserializer deserializer = new DefaultDeserializer(new NacosClientConfig());
+
+        synchronized Config get(String namespaceId, String group, String dataId) {
+            Config config = this.configs.get(key(namespaceId, group, dataId));
+            return config == null ? null : copy(config, true);
+        }
+
+        synchronized void put(NewConfig newConfig) {
+            Config config = new Config();
+            config.setNamespaceId(isBlank(newConfig.getNamespaceId()) ? null : newConfig.getNamespaceId());
+            config.setGroup(isBlank(newConfig.getGroup()) ? DEFAULT_GROUP_NAME : newConfig.getGroup());
+            config.setDataId(newConfig.getDataId());
+            config.setContent(newConfig.getContent());
+            config.setMd5(md5Hex(newConfig.getContent()));
+            config.setType(newConfig.getType());
+            config.setTags(newConfig.getTags());
+            config.setDescription(newConfig.getDescription());
+            config.setAppName(newConfig.getAppName());
+            this.configs.put(ConfigKey.of(config), config);
+            notifyAll();
+        }
+
+        synchronized void remove(String namespaceId, String group, String dataId) {
+            if (this.configs.remove(key(namespaceId, group, dataId)) != null) {
+                notifyAll();
+            }
+        }
+
+        synchronized Page<Config> search(String namespaceId, String group, String dataId, boolean blur,
+                                         int pageNumber, int pageSize) {
+            List<Config> matchedConfigs = new ArrayList<>();
+            for (Config config : this.configs.values()) {
+                if (matches(config, namespaceId, group, dataId, blur)) {
+                    matchedConfigs.add(config);
+                }
+            }
+            int size = matchedConfigs.size();
+            int fromIndex = Math.min(size, (pageNumber - 1) * pageSize);
+            int toIndex = Math.min(size, fromIndex + pageSize);
+            List<Config> elements = new ArrayList<>(toIndex - fromIndex);
+            for (Config config : matchedConfigs.subList(fromIndex, toIndex)) {
+                elements.add(copy(config, false));
+            }
+            return new ConfigPage(size, elements, pageNumber, pageSize);
+        }
+
+        @Override
+        public OpenApiResponse execute(OpenApiRequest request) throws OpenApiClientException {
+            String listeningConfigs = request.getQueryParameters().get(LISTENING_CONFIGS.getName());
+            if (listeningConfigs == null) {
+                throw new UnsupportedOperationException(request.toString());
+            }
+            Map<String, String> headers = request.getHeaders();
+            boolean hangup = !Boolean.parseBoolean(headers.get(LONG_PULLING_TIMEOUT_NO_HANGUP.getName()));
+            String timeout = headers.get(LONG_PULLING_TIMEOUT.getName());
+            long deadline = System.currentTimeMillis() + (hangup && timeout != null ? parseInt(timeout) : 0);
+            String changedConfigIds;
+            try {
+                changedConfigIds = listen(decode(listeningConfigs, DEFAULT_ENCODING), deadline);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OpenApiClientException(CLIENT_ERROR, "The long polling was interrupted", e);
+            }
+            return new OpenApiResponse(200, "OK", new ByteArrayInputStream(changedConfigIds.getBytes(UTF_8)));
+        }
+
+        /**
+         * @param listeningConfigs dataId^2group^2md5^2tenant^1dataId^2group^2md5^1...
+         * @return the URL-encoded ids of the changed configs
+         */
+        private synchronized String listen(String listeningConfigs, long deadline) throws InterruptedException {
+            while (true) {
+                StringBuilder changedConfigIds = new StringBuilder();
+                for (String dataPacket : listeningConfigs.split(String.valueOf(LISTENING_CONFIG_SEPARATOR_CHAR))) {
+                    String[] fields = dataPacket.split(String.valueOf(LISTENING_CONFIG_FIELD_SEPARATOR_CHAR), -1);
+                    if (fields.length < 3) {
+                        continue;
+                    }
+                    String namespaceId = fields.length > 3 ? fields[3] : null;
+                    Config config = this.configs.get(key(namespaceId, fields[1], fields[0]));
+                    String md5 = config == null ? "" : config.getMd5();
+                    if (!md5.equals(fields[2])) {
+                        changedConfigIds.append(buildConfigId(namespaceId, fields[1], fields[0]));
+                    }
+                }
+                long timeout = deadline - System.currentTimeMillis();
+                if (changedConfigIds.length() > 0 || timeout <= 0) {
+                    return changedConfigIds.toString();
+                }
+                wait(timeout);
+            }
+        }
+
+        @Override
+        public <T> T execute(OpenApiRequest request, Type payloadType) throws OpenApiClientException {
+            throw new UnsupportedOperationException(request.toString());
+        }
+
+        @Override
+        public Serializer getSerializer() {
+            return this.serializer;
+        }
+
+        @Override
+        public Deserializer getDeserializer() {
+            return this.deserializer;
+        }
+
+        @Override
+        public String getEncoding() {
+            return DEFAULT_ENCODING;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private static ConfigKey key(String namespaceId, String group, String dataId) {
+            return ConfigKey.of(isBlank(namespaceId) ? null : namespaceId, isBlank(group) ? DEFAULT_GROUP_NAME : group,
+                    dataId);
+        }
+
+        private static boolean matches(Config config, String namespaceId, String group, String dataId, boolean blur) {
+            String configNamespaceId = config.getNamespaceId();
+            if (isBlank(namespaceId) ? !isBlank(configNamespaceId) : !namespaceId.equals(configNamespaceId)) {
+                return false;
+            }
+            if (!isBlank(group) && !group.equals(config.getGroup())) {
+                return false;
+            }
+            if (isBlank(dataId)) {
+                return true;
+            }
+            if (blur) {
+                // Only the wildcard "*" is supported
+                StringBuilder regex = new StringBuilder();
+                for (String part : dataId.split("\\*", -1)) {
+                    regex.append(quote(part)).append(".*");
+                }
+                regex.setLength(regex.length() - 2);
+                return config.getDataId().matches(regex.toString());
+            }
+            return dataId.equals(config.getDataId());
+        }
+
+        private static Config copy(Config config, boolean details) {
+            Config copy = new Config();
+            copy.setNamespaceId(config.getNamespaceId());
+            copy.setGroup(config.getGroup());
+            copy.setDataId(config.getDataId());
+            copy.setContent(config.getContent());
+            copy.setType(config.getType());
+            copy.setTags(config.getTags());
+            copy.setDescription(config.getDescription());
+            copy.setAppName(config.getAppName());
+            if (details) {
+                copy.setMd5(config.getMd5());
+            }
+            return copy;
+        }
+    }
+}
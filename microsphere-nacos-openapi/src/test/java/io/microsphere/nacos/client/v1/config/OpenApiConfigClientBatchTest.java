@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.v1.config;
+
+import io.microsphere.nacos.client.NacosClientConfig;
+import io.microsphere.nacos.client.common.config.ConfigType;
+import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import io.microsphere.nacos.client.common.config.model.ConfigPublishResult;
+import io.microsphere.nacos.client.common.config.model.NewConfig;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.microsphere.nacos.client.common.config.ConfigType.PROPERTIES;
+import static io.microsphere.nacos.client.common.config.ConfigType.TEXT;
+import static io.microsphere.nacos.client.util.DigestUtils.md5Hex;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link OpenApiConfigClient} Test for the batch operations, which runs against the {@link InMemoryConfigClient}
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see OpenApiConfigClient
+ * @see InMemoryConfigClient
+ * @since 1.0.0
+ */
+public class OpenApiConfigClientBatchTest {
+
+    private static final String NAMESPACE_ID = "test-ns";
+
+    private static final String GROUP = "test-group";
+
+    @Test
+    public void testGetConfigs() throws Exception {
+        Path directory = Files.createTempDirectory("config-snapshots");
+        NacosClientConfig nacosClientConfig = new NacosClientConfig();
+        nacosClientConfig.setConfigSnapshotDirectory(directory.toString());
+        try (InMemoryConfigClient client = new InMemoryConfigClient(nacosClientConfig)) {
+            for (String dataId : Arrays.asList("batch.a", "batch.b", "batch.c")) {
+                client.publishConfigContent(NAMESPACE_ID, GROUP, dataId, "content of " + dataId);
+            }
+
+            // The configs are listed by the search, which carries no MD5
+            Map<String, Config> configs = client.getConfigs(NAMESPACE_ID, GROUP,
+                    Arrays.asList("batch.a", "batch.b", "batch.c", "batch.absent"));
+            assertEquals(3, configs.size());
+            ConfigSnapshotRepository repository = ConfigSnapshotRepository.of(nacosClientConfig, client.getOpenApiClient());
+            for (Config config : configs.values()) {
+                String md5 = md5Hex(config.getContent());
+                assertEquals(md5, config.getMd5());
+                assertEquals(md5, client.getConfig(NAMESPACE_ID, GROUP, config.getDataId()).getMd5());
+                assertEquals(md5, repository.load(ConfigKey.of(config)).getMd5());
+            }
+            assertNull(repository.load(ConfigKey.of(NAMESPACE_ID, GROUP, "batch.absent")));
+        }
+    }
+
+    @Test
+    public void testPublishConfigs() {
+        List<String> publishedDataIds = new CopyOnWriteArrayList<>();
+        try (InMemoryConfigClient client = new InMemoryConfigClient() {
+            @Override
+            public boolean publishConfig(NewConfig newConfig) {
+                publishedDataIds.add(newConfig.getDataId());
+                return super.publishConfig(newConfig);
+            }
+        }) {
+            client.publishConfigContent(NAMESPACE_ID, GROUP, "batch.a", "a");
+            client.publishConfigContent(NAMESPACE_ID, GROUP, "batch.b", "b");
+            client.publishConfigContent(NAMESPACE_ID, GROUP, "batch.listened", "listened");
+            client.publishConfig(newConfig("batch.typed", "a=1", PROPERTIES));
+            client.publishConfig(newConfig("batch.retyped", "a=1", TEXT));
+            // The MD5 of the listened config is known locally
+            client.addEventListener(NAMESPACE_ID, GROUP, "batch.listened", event -> {
+            });
+            publishedDataIds.clear();
+
+            Map<ConfigKey, ConfigPublishResult> results = client.publishConfigs(Arrays.asList(
+                    newConfig("batch.a", "a"), newConfig("batch.b", "B"), newConfig("batch.c", "c"),
+                    newConfig("batch.listened", "listened"), newConfig("batch.typed", "a=1", PROPERTIES),
+                    newConfig("batch.retyped", "a=1", PROPERTIES)));
+            assertEquals(6, results.size());
+            assertTrue(results.get(ConfigKey.of(NAMESPACE_ID, GROUP, "batch.a")).isUnchanged());
+            assertTrue(results.get(ConfigKey.of(NAMESPACE_ID, GROUP, "batch.b")).isPublished());
+            assertTrue(results.get(ConfigKey.of(NAMESPACE_ID, GROUP, "batch.c")).isPublished());
+            assertTrue(results.get(ConfigKey.of(NAMESPACE_ID, GROUP, "batch.listened")).isUnchanged());
+            // The same content with the other type is published
+            assertTrue(results.get(ConfigKey.of(NAMESPACE_ID, GROUP, "batch.typed")).isUnchanged());
+            assertTrue(results.get(ConfigKey.of(NAMESPACE_ID, GROUP, "batch.retyped")).isPublished());
+            assertEquals(PROPERTIES, client.getConfig(NAMESPACE_ID, GROUP, "batch.retyped").getType());
+            assertEquals(3, publishedDataIds.size());
+            assertTrue(publishedDataIds.containsAll(Arrays.asList("batch.b", "batch.c", "batch.retyped")));
+        }
+    }
+
+    private static NewConfig newConfig(String dataId, String content, ConfigType type) {
+        NewConfig newConfig = newConfig(dataId, content);
+        newConfig.setType(type);
+        return newConfig;
+    }
+
+    private static NewConfig newConfig(String dataId, String content) {
+        NewConfig newConfig = new NewConfig();
+        newConfig.setNamespaceId(NAMESPACE_ID);
+        newConfig.setGroup(GROUP);
+        newConfig.setDataId(dataId);
+        newConfig.setContent(content);
+        return newConfig;
+    }
+}
@@ -23,16 +23,24 @@ import io.microsphere.nacos.client.common.config.ConfigType;
 import io.microsphere.nacos.client.common.config.event.ConfigChangedEvent;
 import io.microsphere.nacos.client.common.config.model.BaseConfig;
 import io.microsphere.nacos.client.common.config.model.Config;
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import io.microsphere.nacos.client.common.config.model.ConfigPublishResult;
 import io.microsphere.nacos.client.common.config.model.HistoryConfig;
 import io.microsphere.nacos.client.common.config.model.NewConfig;
 import io.microsphere.nacos.client.common.model.Page;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static io.microsphere.nacos.client.util.DigestUtils.md5Hex;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -113,6 +121,14 @@ public class OpenApiConfigClientTest extends OpenApiTest {
         awaitEvent(eventRef);
         assertConfigChangedEvent(eventRef, ConfigChangedEvent.Kind.MODIFIED, newContent);
 
+        // test the streamed publishConfigContent() and getConfigContent() with the same content
+        String md5 = client.publishConfigContent(TEST_NAMESPACE_ID, TEST_GROUP_NAME, TEST_DATA_ID,
+                new ByteArrayInputStream(newContent.getBytes(UTF_8)), null);
+        assertEquals(md5Hex(newContent), md5);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        assertEquals(md5, client.getConfigContent(TEST_NAMESPACE_ID, TEST_GROUP_NAME, TEST_DATA_ID, null, outputStream));
+        assertEquals(newContent, new String(outputStream.toByteArray(), UTF_8));
+
         // test getHistoryConfigs()
         Page<HistoryConfig> page = client.getHistoryConfigs(TEST_NAMESPACE_ID, TEST_GROUP_NAME, TEST_DATA_ID);
         assertTrue(page.isFirst());
@@ -142,6 +158,22 @@ public class OpenApiConfigClientTest extends OpenApiTest {
         String id = config.getId();
         assertConfig(config);
 
+        // Test searchConfigs()
+        Page<Config> configPage = client.searchConfigs(TEST_NAMESPACE_ID, TEST_GROUP_NAME, TEST_DATA_ID, false, 1, ConfigClient.DEFAULT_PAGE_SIZE);
+        assertEquals(1, configPage.getTotalElements());
+        assertEquals(TEST_DATA_ID, configPage.getElements().get(0).getDataId());
+
+        // Test getConfigs()
+        Map<String, Config> configs = client.getConfigs(TEST_NAMESPACE_ID, TEST_GROUP_NAME, Arrays.asList(TEST_DATA_ID, TEST_DATA_ID + ".absent"));
+        assertEquals(1, configs.size());
+        assertEquals(config.getMd5(), configs.get(TEST_DATA_ID).getMd5());
+
+        // Test publishConfigs() with the unchanged content
+        NewConfig unchangedConfig = createNewConfig();
+        unchangedConfig.setContent(config.getContent());
+        Map<ConfigKey, ConfigPublishResult> results = client.publishConfigs(Arrays.asList(unchangedConfig));
+        assertTrue(results.get(ConfigKey.of(unchangedConfig)).isUnchanged());
+
         // Test getPreviousHistoryConfig()
         HistoryConfig historyConfig2 = client.getPreviousHistoryConfig(TEST_NAMESPACE_ID, TEST_GROUP_NAME, TEST_DATA_ID, id);
         assertEquals(config.getNamespaceId(), historyConfig2.getNamespaceId());
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.nacos.client.v1.config.util;
+
+import io.microsphere.nacos.client.common.config.model.ConfigKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.microsphere.nacos.client.util.IOUtils.decode;
+import static io.microsphere.nacos.client.v1.config.util.ConfigUtil.buildListeningConfigDataPacket;
+import static io.microsphere.nacos.client.v1.config.util.ConfigUtil.parseConfigKeys;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConfigUtil} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see ConfigUtil
+ * @since 1.0.0
+ */
+public class ConfigUtilTest {
+
+    @Test
+    public void testParseConfigKeys() {
+        assertTrue(parseConfigKeys(null).isEmpty());
+        assertTrue(parseConfigKeys("").isEmpty());
+
+        String content = decode("test.yaml%02DEFAULT_GROUP%01test.properties%02test-group%02test-ns%01");
+        List<ConfigKey> configKeys = parseConfigKeys(content);
+        assertEquals(2, configKeys.size());
+        assertEquals(ConfigKey.of(null, "DEFAULT_GROUP", "test.yaml"), configKeys.get(0));
+        assertEquals(ConfigKey.of("test-ns", "test-group", "test.properties"), configKeys.get(1));
+        assertEquals(ConfigKey.of("", "DEFAULT_GROUP", "test.yaml"), configKeys.get(0));
+
+        // malformed entries are ignored
+        assertEquals(1, parseConfigKeys("malformed\u0001a\u0002b\u0001").size());
+    }
+
+    @Test
+    public void testBuildListeningConfigDataPacket() {
+        assertEquals("test.yaml%02DEFAULT_GROUP%02md5%01", buildListeningConfigDataPacket(null, "DEFAULT_GROUP", "test.yaml", "md5"));
+        assertEquals("test.yaml%02DEFAULT_GROUP%02md5%02test-ns%01", buildListeningConfigDataPacket("test-ns", "DEFAULT_GROUP", "test.yaml", "md5"));
+    }
+}
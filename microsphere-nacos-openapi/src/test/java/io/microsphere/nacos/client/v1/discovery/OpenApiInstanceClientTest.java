@@ -34,6 +34,8 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 import java.util.Map;
 
+import static io.microsphere.nacos.client.common.discovery.InstanceFilters.hasMetadata;
+import static io.microsphere.nacos.client.common.discovery.InstanceFilters.inCluster;
 import static io.microsphere.nacos.client.v1.discovery.OpenApiServiceClientTest.TEST_CLUSTER;
 import static io.microsphere.nacos.client.v1.discovery.OpenApiServiceClientTest.TEST_SERVICE_NAME;
 import static java.util.Arrays.asList;
@@ -189,6 +191,16 @@ public class OpenApiInstanceClientTest extends OpenApiTest {
         Instance instance1 = instances.get(0);
         assertBaseInstance(instance1);
 
+        // Test visitInstances()
+        instances = client.getInstances(TEST_NAMESPACE_ID, TEST_GROUP_NAME, TEST_CLUSTER, TEST_SERVICE_NAME, null,
+                hasMetadata("test-key", "test-value"));
+        assertEquals(1, instances.size());
+        assertBaseInstance(instances.get(0));
+        assertEquals(TEST_INSTANCE_METADATA, instances.get(0).getMetadata());
+        assertEquals(0, client.visitInstances(TEST_NAMESPACE_ID, TEST_GROUP_NAME, TEST_CLUSTER, TEST_SERVICE_NAME, null,
+                inCluster("not-found-cluster"), i -> {
+                }));
+
         // Test batchUpdateMetadata()
         Map<String, String> metadata = singletonMap("test-key-2", "test-value-2");
         BatchMetadataResult result = client.batchUpdateMetadata(asList(exsitedInstance), metadata);